@@ -44,6 +44,7 @@ import de.gematik.test.konnektor.commands.GetCardHandleCommand;
 import de.gematik.test.konnektor.commands.ReadCardCertificateCommand;
 import de.gematik.test.konnektor.commands.ReadVsdCommand;
 import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentsCommand;
 import de.gematik.test.konnektor.commands.VerifyDocumentCommand;
 import de.gematik.test.konnektor.commands.VerifyPinCommand;
 import de.gematik.ws.conn.cardservicecommon.v2.PinResultEnum;
@@ -52,6 +53,7 @@ import java.nio.charset.StandardCharsets;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nullable;
 import lombok.extern.slf4j.Slf4j;
@@ -125,6 +127,21 @@ public class UseTheKonnektor implements Ability {
     return signDocument(hba, hbaHandle, document);
   }
 
+  /**
+   * Sign all given documents with the HBA within a single SignDocument call of the Konnektor
+   *
+   * @param documents to be signed
+   * @return the signatures in the order of the given documents
+   */
+  public KonnektorResponse<List<byte[]>> signDocumentsWithHba(List<String> documents) {
+    checkCardHandle(SmartcardType.HBA, hbaHandle, "Sign Documents");
+    val title =
+        format("Sign {0} Documents with {1} (Cardhandle: {2})", documents.size(), hba, hbaHandle);
+    Serenity.recordReportData().withTitle(title).andContents(String.join("\n", documents));
+    val signCmd = new SignXMLDocumentsCommand(hbaHandle, documents, algorithm);
+    return konnektor.execute(signCmd);
+  }
+
   public KonnektorResponse<byte[]> signDocumentWithSmcb(String document) {
     checkCardHandle(SmartcardType.SMC_B, smcbHandle, "Sign Document");
     return signDocument(smcb, smcbHandle, document);
@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.client;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.client.rest.ErpResponse;
+import de.gematik.test.erezept.client.rest.ErpResponseFactory;
+import de.gematik.test.erezept.client.rest.MediaType;
+import de.gematik.test.erezept.client.rest.ResponseValidationMode;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import de.gematik.test.erezept.fhir.parser.ValidatorType;
+import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Responses per second of the ErpResponseFactory per validation mode and sampling rate: until the
+ * response is returned and including the awaited validation result
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ErpResponseFactoryBenchmark {
+
+  private static final Map<String, String> HEADERS =
+      Map.of("content-type", MediaType.FHIR_JSON.asString());
+
+  @Param({"EAGER", "DEFERRED"})
+  private ResponseValidationMode validationMode;
+
+  @Param({"1.0", "0.1"})
+  private double samplingRate;
+
+  private ErpResponseFactory responseFactory;
+  private String content;
+
+  @Setup
+  public void setup() {
+    // without a validation cache: otherwise each identical response would be validated only once
+    val parser = new FhirParser(ValidatorType.BRICKS, null);
+    responseFactory = new ErpResponseFactory(parser, validationMode, samplingRate);
+    content = parser.encode(KbvErpBundleFaker.builder().fake(), EncodingType.JSON);
+  }
+
+  @Benchmark
+  public ErpResponse<KbvErpBundle> createResponse() {
+    return responseFactory.createFrom(200, HEADERS, "", content, KbvErpBundle.class);
+  }
+
+  @Benchmark
+  public boolean createAndValidateResponse() {
+    return createResponse().isValidPayload();
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.fhir;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.anonymizer.AnonymizerFacade;
+import de.gematik.test.erezept.fhir.anonymizer.BatchAnonymizer;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Anonymization of NDJSON encoded KBV bundles via the BatchAnonymizer with increasing threads */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class BatchAnonymizerBenchmark {
+
+  private static final int RESOURCES = 100;
+
+  @Param({"1", "2", "4", "8"})
+  private int threads;
+
+  private ExecutorService executor;
+  private BatchAnonymizer batchAnonymizer;
+  private byte[] ndjson;
+
+  @Setup
+  public void setup() {
+    executor = Executors.newFixedThreadPool(threads);
+    val parser = new FhirParser();
+    batchAnonymizer =
+        new BatchAnonymizer(parser, AnonymizerFacade.getInstance(), executor, threads * 4);
+    ndjson =
+        IntStream.range(0, RESOURCES)
+            .mapToObj(i -> parser.encode(KbvErpBundleFaker.builder().fake(), EncodingType.JSON))
+            .collect(Collectors.joining("\n"))
+            .getBytes(StandardCharsets.UTF_8);
+  }
+
+  @TearDown
+  public void tearDown() {
+    executor.shutdownNow();
+  }
+
+  /** the score is reported in anonymized resources per second */
+  @Benchmark
+  @OperationsPerInvocation(RESOURCES)
+  public int anonymizeNdjson() throws IOException {
+    return batchAnonymizer.anonymizeNdjson(
+        new ByteArrayInputStream(ndjson), new ByteArrayOutputStream());
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.fhir;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Decoding and encoding of a KBV bundle via one shared FhirParser. Run with different thread
+ * counts (e.g. {@code -t 1}, {@code -t 4}, {@code -t max}) to see how the parser scales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FhirParserBenchmark {
+
+  private FhirParser parser;
+  private KbvErpBundle bundle;
+  private String xml;
+
+  @Setup
+  public void setup() {
+    parser = new FhirParser();
+    bundle = KbvErpBundleFaker.builder().fake();
+    xml = parser.encode(bundle, EncodingType.XML);
+  }
+
+  @Benchmark
+  public KbvErpBundle decodeXml() {
+    return parser.decode(KbvErpBundle.class, xml, EncodingType.XML);
+  }
+
+  @Benchmark
+  public String encodeJson() {
+    return parser.encode(bundle, EncodingType.JSON);
+  }
+}
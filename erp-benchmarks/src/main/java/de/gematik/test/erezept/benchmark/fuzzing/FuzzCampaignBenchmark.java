@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.fuzzing;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import de.gematik.test.fuzzing.fhirfuzz.campaign.FuzzCampaign;
+import de.gematik.test.fuzzing.fhirfuzz.campaign.FuzzCampaignResult;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Fuzz iterations per second of a FuzzCampaign which encodes each fuzzed bundle as XML */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class FuzzCampaignBenchmark {
+
+  private static final int ITERATIONS = 100;
+
+  @Param({"1", "2", "4", "8"})
+  private int parallelism;
+
+  private FuzzCampaign fuzzCampaign;
+
+  @Setup
+  public void setup() {
+    val parser = new FhirParser();
+    fuzzCampaign =
+        FuzzCampaign.forTemplate(
+                KbvErpBundleFaker.builder().fake(),
+                bundle -> parser.encode(bundle, EncodingType.XML))
+            .withMasterSeed(4711L)
+            .withParallelism(parallelism);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ITERATIONS)
+  public FuzzCampaignResult runCampaign() {
+    return fuzzCampaign.run(ITERATIONS);
+  }
+}
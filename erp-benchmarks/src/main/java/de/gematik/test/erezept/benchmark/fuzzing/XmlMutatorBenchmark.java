@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.fuzzing;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import de.gematik.test.fuzzing.core.StringMutator;
+import de.gematik.test.fuzzing.string.SimpleMutatorsFactory;
+import de.gematik.test.fuzzing.string.XmlRegExpFactory;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Mutation of the content of all elements with a given name in an inflated KBV bundle via the lazy
+ * DOTALL regular expression compared to the single pass XmlElementScanner
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class XmlMutatorBenchmark {
+
+  private static final double PERCENTAGE = 0.05;
+
+  @Param({"1", "50"})
+  private int bundles;
+
+  @Param({"coding", "meta"})
+  private String tagName;
+
+  private String xml;
+  private StringMutator regExpMutator;
+  private StringMutator scannerMutator;
+
+  @Setup
+  public void setup() {
+    val bundle = new FhirParser().encode(KbvErpBundleFaker.builder().fake(), EncodingType.XML);
+    xml = bundle.repeat(bundles);
+    regExpMutator =
+        SimpleMutatorsFactory.everything(XmlRegExpFactory.betweenXmlTag(tagName), PERCENTAGE);
+    scannerMutator = SimpleMutatorsFactory.betweenXmlTag(tagName, PERCENTAGE);
+  }
+
+  @Benchmark
+  public String regExp() {
+    return regExpMutator.apply(xml);
+  }
+
+  @Benchmark
+  public String xmlElementScanner() {
+    return scannerMutator.apply(xml);
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.konnektor;
+
+import static java.text.MessageFormat.format;
+
+import com.sun.net.httpserver.HttpServer;
+import de.gematik.test.konnektor.profile.KonSimProfile;
+import de.gematik.test.konnektor.soap.RemoteKonnektorServiceProvider;
+import de.gematik.ws.conn.eventservice.v7.GetCards;
+import de.gematik.ws.conn.eventservice.v7.GetCardsResponse;
+import de.gematik.ws.conn.eventservice.wsdl.v7.FaultMessage;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * GetCards round trips against a local SOAP stub: a provider shared by all threads (services
+ * instantiated once, ports cached per thread) compared to a new provider per command
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class KonnektorPortsBenchmark {
+
+  private static final String GET_CARDS_RESPONSE =
+      """
+      <S:Envelope xmlns:S="http://schemas.xmlsoap.org/soap/envelope/">
+        <S:Body>
+          <EVT:GetCardsResponse xmlns:EVT="http://ws.gematik.de/conn/EventService/v7.2"
+              xmlns:CONN="http://ws.gematik.de/conn/ConnectorCommon/v5.0"
+              xmlns:CARD="http://ws.gematik.de/conn/CardService/v8.1">
+            <CONN:Status><CONN:Result>OK</CONN:Result></CONN:Status>
+            <CARD:Cards/>
+          </EVT:GetCardsResponse>
+        </S:Body>
+      </S:Envelope>
+      """;
+
+  private HttpServer server;
+  private ExecutorService serverExecutor;
+  private URL url;
+  private KonSimProfile profile;
+  private RemoteKonnektorServiceProvider sharedProvider;
+
+  @Setup
+  public void setup() throws IOException {
+    serverExecutor = Executors.newFixedThreadPool(4);
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(serverExecutor);
+    server.createContext(
+        "/",
+        exchange -> {
+          exchange.getRequestBody().readAllBytes();
+          val body = GET_CARDS_RESPONSE.getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "text/xml; charset=utf-8");
+          exchange.sendResponseHeaders(200, body.length);
+          exchange.getResponseBody().write(body);
+          exchange.close();
+        });
+    server.start();
+
+    url = new URL(format("http://localhost:{0,number,#}", server.getAddress().getPort()));
+    profile = new KonSimProfile();
+    sharedProvider = RemoteKonnektorServiceProvider.of(url, profile).build();
+  }
+
+  @TearDown
+  public void tearDown() {
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Benchmark
+  public GetCardsResponse getCardsWithSharedProvider() throws FaultMessage {
+    return sharedProvider.getEventService().getCards(new GetCards());
+  }
+
+  @Benchmark
+  public GetCardsResponse getCardsWithNewProvider() throws FaultMessage {
+    return RemoteKonnektorServiceProvider.of(url, profile)
+        .build()
+        .getEventService()
+        .getCards(new GetCards());
+  }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.konnektor;
+
+import de.gematik.test.erezept.config.dto.konnektor.VsdmServiceConfiguration;
+import de.gematik.test.konnektor.Konnektor;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Startup of a Mock-Konnektor with lazily loaded smartcards. Run with {@code -prof gc} to report
+ * the heap allocated per created Konnektor
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MockKonnektorStartupBenchmark {
+
+  private VsdmServiceConfiguration vsdmConfiguration;
+  private OcspTokenProvider ocspTokenProvider;
+
+  @Setup
+  public void setup() {
+    // the shared smartcard archive is initialized once and is not part of the startup
+    KonnektorFactory.getSharedSmartcardArchive();
+    vsdmConfiguration = VsdmServiceConfiguration.createDefault();
+    ocspTokenProvider = OcspTokenProvider.selfSigned();
+  }
+
+  @Benchmark
+  public Konnektor createMockKonnektor() {
+    return KonnektorFactory.createMockKonnektor(
+        "Soft-Konn", vsdmConfiguration, ocspTokenProvider, RevocationPolicy.OFFLINE);
+  }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.konnektor;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.test.cardterminal.CardInfo;
+import de.gematik.test.erezept.config.dto.konnektor.VsdmServiceConfiguration;
+import de.gematik.test.konnektor.Konnektor;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.test.konnektor.commands.GetCardHandleCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentsCommand;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Signed documents per second with one SignDocument call per document compared to one batch */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SignXMLDocumentsBenchmark {
+
+  private static final int DOCUMENTS = 20;
+
+  private Konnektor softKonn;
+  private CardInfo hbaHandle;
+  private List<String> documents;
+
+  @Setup
+  public void setup() {
+    val sca = KonnektorFactory.getSharedSmartcardArchive();
+    softKonn =
+        KonnektorFactory.createMockKonnektor(
+            "Soft-Konn",
+            VsdmServiceConfiguration.createDefault(),
+            OcspTokenProvider.selfSigned(),
+            RevocationPolicy.OFFLINE);
+    val hba = sca.getHbaByICCSN("80276001011699901726");
+    hbaHandle = softKonn.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload();
+    documents =
+        IntStream.range(0, DOCUMENTS).mapToObj(i -> "<xml>Document " + i + "</xml>").toList();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOCUMENTS)
+  public List<byte[]> signSingle() {
+    return documents.stream()
+        .map(
+            document ->
+                softKonn
+                    .execute(new SignXMLDocumentCommand(hbaHandle, document, CryptoSystem.ECC_256))
+                    .getPayload())
+        .toList();
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(DOCUMENTS)
+  public List<byte[]> signBatch() {
+    return softKonn
+        .execute(new SignXMLDocumentsCommand(hbaHandle, documents, CryptoSystem.ECC_256))
+        .getPayload();
+  }
+}
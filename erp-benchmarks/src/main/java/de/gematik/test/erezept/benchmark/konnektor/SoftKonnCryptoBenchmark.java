@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.benchmark.konnektor;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.test.cardterminal.CardInfo;
+import de.gematik.test.erezept.config.dto.konnektor.VsdmServiceConfiguration;
+import de.gematik.test.konnektor.Konnektor;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.test.konnektor.commands.DecryptDocumentCommand;
+import de.gematik.test.konnektor.commands.EncryptDocumentCommand;
+import de.gematik.test.konnektor.commands.GetCardHandleCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.VerifyDocumentCommand;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+import lombok.val;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sign, verify, encrypt and decrypt on one shared Soft-Konn without any network access. Run with
+ * different thread counts (e.g. {@code -t 1}, {@code -t 4}) to see how the Soft-Konn scales
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SoftKonnCryptoBenchmark {
+
+  private static final String DOCUMENT = "<xml>Benchmark Document</xml>";
+
+  private Konnektor softKonn;
+  private CardInfo hbaHandle;
+  private CardInfo smcbHandle;
+  private byte[] encrypted;
+
+  @Setup
+  public void setup() {
+    val sca = KonnektorFactory.getSharedSmartcardArchive();
+    softKonn =
+        KonnektorFactory.createMockKonnektor(
+            "Soft-Konn",
+            VsdmServiceConfiguration.createDefault(),
+            OcspTokenProvider.selfSigned(),
+            RevocationPolicy.OFFLINE);
+    val hba = sca.getHbaByICCSN("80276001011699901726");
+    val smcb = sca.getSmcbByICCSN("80276001011699901102");
+    hbaHandle = softKonn.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload();
+    smcbHandle = softKonn.execute(GetCardHandleCommand.forSmartcard(smcb)).getPayload();
+    encrypted = encrypt();
+  }
+
+  @Benchmark
+  public boolean signAndVerify() {
+    val signed =
+        softKonn
+            .execute(new SignXMLDocumentCommand(hbaHandle, DOCUMENT, CryptoSystem.ECC_256))
+            .getPayload();
+    return softKonn.execute(new VerifyDocumentCommand(signed)).getPayload();
+  }
+
+  @Benchmark
+  public byte[] encrypt() {
+    val plain = DOCUMENT.getBytes(StandardCharsets.UTF_8);
+    return softKonn
+        .execute(new EncryptDocumentCommand(smcbHandle, plain, CryptoSystem.RSA_2048))
+        .getPayload();
+  }
+
+  @Benchmark
+  public byte[] decrypt() {
+    return softKonn
+        .execute(new DecryptDocumentCommand(smcbHandle, encrypted, CryptoSystem.RSA_2048))
+        .getPayload();
+  }
+}
@@ -22,6 +22,7 @@ package de.gematik.test.erezept.client;
 
 import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.bbriccs.rest.HttpBRequest;
+import de.gematik.bbriccs.rest.HttpBResponse;
 import de.gematik.bbriccs.rest.headers.HttpHeader;
 import de.gematik.bbriccs.smartcards.Smartcard;
 import de.gematik.idp.client.IdpClient;
@@ -41,9 +42,17 @@ import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
+import javax.annotation.Nullable;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Builder.Default;
 import lombok.Getter;
@@ -57,6 +66,9 @@ import org.hl7.fhir.r4.model.Resource;
 @Builder
 public class ErpClient {
 
+  /** shared by all clients which were built without a dedicated executor */
+  private static final Executor DEFAULT_ASYNC_EXECUTOR = createDefaultAsyncExecutor();
+
   private final ClientType clientType;
 
   // configuration
@@ -72,10 +84,29 @@ public class ErpClient {
   private final ErpResponseFactory responseFactory;
   private final VauClient vauClient;
 
+  /** bounded executor for the CPU-heavy stages of {@link #requestAsync(ICommand)} */
+  @Default private final Executor asyncExecutor = DEFAULT_ASYNC_EXECUTOR;
+
   // client state
-  private IdpTokenResult idpToken;
-  private Supplier<IdpTokenResult> authentication;
-  @Default private Instant idpTokenValidUntil = Instant.now();
+  @Getter(AccessLevel.NONE)
+  private final AtomicReference<IdpTokenState> idpTokenState =
+      new AtomicReference<>(IdpTokenState.EXPIRED);
+
+  @Getter(AccessLevel.NONE)
+  private final ReentrantLock idpTokenRefreshLock = new ReentrantLock();
+
+  private volatile Supplier<IdpTokenResult> authentication;
+
+  private static Executor createDefaultAsyncExecutor() {
+    val threadCounter = new AtomicInteger();
+    return Executors.newFixedThreadPool(
+        Runtime.getRuntime().availableProcessors(),
+        runnable -> {
+          val thread = new Thread(runnable, "erp-client-async-" + threadCounter.incrementAndGet());
+          thread.setDaemon(true);
+          return thread;
+        });
+  }
 
   /**
    * Initializes the ERP-Client to use vau client and idp client. Beforehand, the authentication
@@ -127,26 +158,68 @@ public class ErpClient {
     this.initialize();
   }
 
+  /**
+   * @return the current IDP Token or null if the client has not been authenticated yet
+   */
+  @Nullable
+  public IdpTokenResult getIdpToken() {
+    return idpTokenState.get().token();
+  }
+
+  /**
+   * Note: before the first successful login the client does not hold any IDP Token and this method
+   * will return {@link Instant#EPOCH} to signal an expired token, which will be refreshed on the
+   * next request. Use {@link #getIdpToken()} to check if the client has been authenticated at all
+   *
+   * @return the instant until the current IDP Token is valid
+   */
+  public Instant getIdpTokenValidUntil() {
+    return idpTokenState.get().validUntil();
+  }
+
+  /**
+   * Refresh the IDP Token if it is about to expire. Concurrent callers will not trigger multiple
+   * logins: only one caller performs the refresh while the others either continue with the current
+   * token (if not yet expired) or wait for the refreshed one.
+   */
   public void refreshIdpToken() {
-    if (needsIdpTokenRefresh()) {
-      log.info("Refresh the IDP Token");
-      try {
-        idpToken = authentication.get();
-        idpTokenValidUntil = Instant.now().plus(idpToken.getExpiresIn(), ChronoUnit.SECONDS);
-      } catch (NullPointerException npe) {
-        // rewrap the NPE to an IdpClientRuntimeException will show tests as compromised instead of
-        // broken!
-        log.warn("Something went wrong during authentication on IDP");
-        throw new IdpClientRuntimeException("Caught NullPointer from IDP-Client", npe);
+    val current = idpTokenState.get();
+    if (!current.needsRefresh()) {
+      log.info("IDP Token is still valid, no need to refresh");
+      return;
+    }
+
+    if (current.isValid()) {
+      if (!idpTokenRefreshLock.tryLock()) {
+        log.info("IDP Token is already being refreshed, continue with the current one");
+        return;
       }
     } else {
-      log.info("IDP Token is still valid, no need to refresh");
+      idpTokenRefreshLock.lock();
+    }
+
+    try {
+      // another caller might have refreshed the token while this one was waiting for the lock
+      if (idpTokenState.get().needsRefresh()) {
+        log.info("Refresh the IDP Token");
+        idpTokenState.set(authenticate());
+      }
+    } finally {
+      idpTokenRefreshLock.unlock();
     }
   }
 
-  private boolean needsIdpTokenRefresh() {
-    val refreshInstant = idpTokenValidUntil.minus(120, ChronoUnit.SECONDS);
-    return Instant.now().isAfter(refreshInstant);
+  private IdpTokenState authenticate() {
+    try {
+      val token = authentication.get();
+      val validUntil = Instant.now().plus(token.getExpiresIn(), ChronoUnit.SECONDS);
+      return new IdpTokenState(token, validUntil);
+    } catch (NullPointerException npe) {
+      // rewrap the NPE to an IdpClientRuntimeException will show tests as compromised instead of
+      // broken!
+      log.warn("Something went wrong during authentication on IDP");
+      throw new IdpClientRuntimeException("Caught NullPointer from IDP-Client", npe);
+    }
   }
 
   public String encode(Resource resource, EncodingType encoding) {
@@ -160,6 +233,53 @@ public class ErpClient {
   @SneakyThrows
   public <R extends Resource> ErpResponse<R> request(ICommand<R> command) {
     this.refreshIdpToken(); // make sure before each request that the IDP token is not outdated
+    val prepared = prepareRequest(command);
+
+    val start = Instant.now();
+    val response =
+        vauClient.send(
+            prepared.innerHttpRequest(), prepared.accessToken(), command.getFhirResource());
+    val duration = Duration.between(start, Instant.now());
+    return createResponse(command, prepared.accessToken(), response, duration);
+  }
+
+  /**
+   * Non-blocking variant of {@link #request(ICommand)}: encoding, validation and encryption of the
+   * request as well as decryption, decoding and validation of the response are performed on the
+   * {@link #asyncExecutor} while the network leg does not occupy any thread. The IDP token is
+   * refreshed on the calling thread, thus a login never blocks a thread of the executor
+   *
+   * @param command is the command to be executed
+   * @param <R> is the type of the expected response resource
+   * @return a future which completes with the response of the command
+   */
+  public <R extends Resource> CompletableFuture<ErpResponse<R>> requestAsync(ICommand<R> command) {
+    try {
+      this.refreshIdpToken();
+    } catch (RuntimeException e) {
+      return CompletableFuture.failedFuture(e);
+    }
+    return CompletableFuture.supplyAsync(() -> prepareRequest(command), asyncExecutor)
+        .thenCompose(
+            prepared -> {
+              val start = Instant.now();
+              return vauClient
+                  .sendAsync(
+                      prepared.innerHttpRequest(),
+                      prepared.accessToken(),
+                      command.getFhirResource(),
+                      asyncExecutor)
+                  .thenApply(
+                      response ->
+                          createResponse(
+                              command,
+                              prepared.accessToken(),
+                              response,
+                              Duration.between(start, Instant.now())));
+            });
+  }
+
+  private <R extends Resource> PreparedRequest prepareRequest(ICommand<R> command) {
     // Request-Body is optional: encode as FHIR if available, otherwise keep empty body
     val bodyBuilder = new StringBuilder();
     command
@@ -169,13 +289,13 @@ public class ErpClient {
     val reqBody = bodyBuilder.toString();
     this.validateRequestFhirContent(reqBody);
 
-    val accessToken = idpToken.getAccessToken().getRawString();
-
+    val accessToken = getIdpToken().getAccessToken().getRawString();
     val innerHttpRequest = createInnerHttpRequest(command, accessToken, reqBody);
+    return new PreparedRequest(accessToken, innerHttpRequest);
+  }
 
-    val start = Instant.now();
-    val response = vauClient.send(innerHttpRequest, accessToken, command.getFhirResource());
-    val duration = Duration.between(start, Instant.now());
+  private <R extends Resource> ErpResponse<R> createResponse(
+      ICommand<R> command, String accessToken, HttpBResponse response, Duration duration) {
     log.info("Request against {} took {} msec", baseFdUrl, duration.toMillis());
 
     val responseHeaders =
@@ -215,4 +335,25 @@ public class ErpClient {
         .headers(headers)
         .withPayload(body);
   }
+
+  private record PreparedRequest(String accessToken, HttpBRequest innerHttpRequest) {}
+
+  /**
+   * Immutable snapshot of the current IDP Token which allows to swap token and its validity
+   * atomically
+   */
+  private record IdpTokenState(@Nullable IdpTokenResult token, Instant validUntil) {
+
+    /** no token yet: validity is in the past, thus the first request will trigger a login */
+    private static final IdpTokenState EXPIRED = new IdpTokenState(null, Instant.EPOCH);
+
+    private boolean needsRefresh() {
+      val refreshInstant = validUntil.minus(120, ChronoUnit.SECONDS);
+      return Instant.now().isAfter(refreshInstant);
+    }
+
+    private boolean isValid() {
+      return token != null && Instant.now().isBefore(validUntil);
+    }
+  }
 }
@@ -25,6 +25,10 @@ import static java.text.MessageFormat.format;
 import de.gematik.test.erezept.client.vau.VauException;
 import java.io.IOException;
 import java.net.http.HttpConnectTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
+import javax.annotation.Nullable;
 import kong.unirest.core.HttpRequest;
 import kong.unirest.core.HttpResponse;
 import kong.unirest.core.UnirestException;
@@ -53,8 +57,7 @@ public class UnirestRetryWrapper {
         return req.asBytes();
       } catch (UnirestException ure) {
         val causeType = ure.getCause().getClass();
-        if (causeType.equals(HttpConnectTimeoutException.class)
-            || causeType.equals(IOException.class)) {
+        if (isRetryable(ure.getCause())) {
           // retry only on HttpConnectTimeoutException
           log.warn(
               "Retry VAU-Request due to {}: {}/{}",
@@ -77,4 +80,73 @@ public class UnirestRetryWrapper {
         format("Error while sending request to VAU: retries exhausted after {0} attempts", attempt),
         lastException);
   }
+
+  /**
+   * Non-blocking variant of {@link #requestWithRetries(HttpRequest)}: the request is sent via the
+   * asynchronous API of Unirest and retried on the same conditions without blocking the calling
+   * thread
+   *
+   * @param req is the request to be performed
+   * @return a future which completes with the HttpResponse or exceptionally with a {@link
+   *     VauException}
+   */
+  public <R extends HttpRequest<?>> CompletableFuture<HttpResponse<byte[]>> requestWithRetriesAsync(
+      HttpRequest<R> req) {
+    return requestWithRetriesAsync(req, 0, null);
+  }
+
+  private <R extends HttpRequest<?>>
+      CompletableFuture<HttpResponse<byte[]>> requestWithRetriesAsync(
+          HttpRequest<R> req, int attempt, @Nullable Throwable lastException) {
+    if (attempt > MAX_CONNECT_ATTEMPTS) {
+      return CompletableFuture.failedFuture(
+          new VauException(
+              format(
+                  "Error while sending request to VAU: retries exhausted after {0} attempts",
+                  attempt),
+              lastException));
+    }
+
+    return req.asBytesAsync()
+        .handle(
+            (response, throwable) -> {
+              if (throwable == null) {
+                return CompletableFuture.completedFuture(response);
+              }
+
+              val cause = unwrap(throwable);
+              if (isRetryable(cause)) {
+                log.warn(
+                    "Retry VAU-Request due to {}: {}/{}",
+                    cause.getClass().getSimpleName(),
+                    attempt,
+                    MAX_CONNECT_ATTEMPTS);
+                return requestWithRetriesAsync(req, attempt + 1, cause);
+              }
+
+              return CompletableFuture.<HttpResponse<byte[]>>failedFuture(
+                  new VauException(
+                      format(
+                          "Error while sending request to VAU on attempt {0}/{1} with {2}",
+                          attempt, MAX_CONNECT_ATTEMPTS, throwable.getClass().getSimpleName()),
+                      throwable));
+            })
+        .thenCompose(Function.identity());
+  }
+
+  private static boolean isRetryable(@Nullable Throwable cause) {
+    return cause != null
+        && (cause.getClass().equals(HttpConnectTimeoutException.class)
+            || cause.getClass().equals(IOException.class));
+  }
+
+  /** unwrap the CompletionException and the UnirestException to get the actual cause */
+  private static Throwable unwrap(Throwable throwable) {
+    var cause = throwable;
+    while ((cause instanceof CompletionException || cause instanceof UnirestException)
+        && cause.getCause() != null) {
+      cause = cause.getCause();
+    }
+    return cause;
+  }
 }
@@ -29,6 +29,7 @@ import de.gematik.test.erezept.client.ClientType;
 import de.gematik.test.erezept.client.ErpClient;
 import de.gematik.test.erezept.client.UnirestRetryWrapper;
 import de.gematik.test.erezept.client.rest.ErpResponseFactory;
+import de.gematik.test.erezept.client.rest.ResponseValidationMode;
 import de.gematik.test.erezept.client.vau.VauClient;
 import de.gematik.test.erezept.client.vau.VauException;
 import de.gematik.test.erezept.config.dto.actor.BaseActorConfiguration;
@@ -45,6 +46,8 @@ import java.security.cert.CertificateFactory;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 import kong.unirest.core.Unirest;
 import lombok.SneakyThrows;
@@ -57,7 +60,7 @@ import lombok.val;
 public class ErpClientFactory {
 
   private static final UnirestRetryWrapper retryWrapper = new UnirestRetryWrapper();
-  private static X509Certificate vauCertificate;
+  private static final Map<String, X509Certificate> vauCertificates = new ConcurrentHashMap<>();
 
   public static ErpClient createErpClient(
       EnvironmentConfiguration environment, BaseActorConfiguration actor) {
@@ -109,7 +112,7 @@ public class ErpClientFactory {
         .idpClient(idp)
         .vauClient(vau)
         .fhir(fhir)
-        .responseFactory(new ErpResponseFactory(fhir))
+        .responseFactory(createResponseFactory(cfg, fhir))
         .baseFdUrl(cfg.getFdBaseUrl())
         .acceptCharset(cfg.getAcceptCharset())
         .acceptMime(cfg.getAcceptMimeType())
@@ -118,6 +121,22 @@ public class ErpClientFactory {
         .build();
   }
 
+  private static ErpResponseFactory createResponseFactory(
+      ErpClientConfiguration cfg, FhirParser fhir) {
+    val validationMode =
+        ResponseValidationMode.fromString(cfg.getResponseValidation())
+            .orElseThrow(
+                () ->
+                    new ConfigurationException(
+                        format(
+                            "Configured {0} is not a valid option of {1}",
+                            cfg.getResponseValidation(),
+                            Arrays.stream(ResponseValidationMode.values())
+                                .map(Enum::name)
+                                .collect(Collectors.joining(",")))));
+    return new ErpResponseFactory(fhir, validationMode, cfg.getResponseValidationSamplingRate());
+  }
+
   private static FhirParser getFhirParser(ErpClientConfiguration cfg) {
     val validatorType =
         ValidatorType.fromString(cfg.getFhirValidator())
@@ -163,15 +182,19 @@ public class ErpClientFactory {
     dto.setAcceptCharset(actor.getAcceptCharset());
     dto.setValidateRequest(actor.isValidateRequest());
     dto.setFhirValidator(actor.getFhirValidator());
+    dto.setResponseValidation(actor.getResponseValidation());
+    dto.setResponseValidationSamplingRate(actor.getResponseValidationSamplingRate());
     dto.setClientType(type.toString());
     return ErpClientConfiguration.fromDto(dto);
   }
 
+  /**
+   * The VAU-Certificate is requested only once per Fachdienst even if many ErpClients are created
+   * concurrently
+   */
   private static X509Certificate getVauCertificate(ErpClientConfiguration clientConfig) {
-    if (vauCertificate == null) {
-      vauCertificate = requestVauCertificate(clientConfig);
-    }
-    return vauCertificate;
+    return vauCertificates.computeIfAbsent(
+        clientConfig.getFdBaseUrl(), url -> requestVauCertificate(clientConfig));
   }
 
   @SneakyThrows
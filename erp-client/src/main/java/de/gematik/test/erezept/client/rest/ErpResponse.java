@@ -29,6 +29,8 @@ import java.time.Duration;
 import java.util.Map;
 import java.util.Optional;
 import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.function.Function;
 import javax.annotation.Nullable;
 import lombok.AccessLevel;
@@ -51,14 +53,14 @@ public class ErpResponse<R extends Resource> {
   private final Map<String, String> headers;
   @Nullable private final Resource resource;
   @Getter private final Class<R> expectedType;
-  private final ValidationResult validationResult;
+  private final CompletableFuture<ValidationResult> validationResult;
 
   private ErpResponse(
       int statusCode,
       Duration duration,
       String usedJwt,
       Map<String, String> headers,
-      ValidationResult validationResult,
+      CompletableFuture<ValidationResult> validationResult,
       @Nullable Resource resource,
       Class<R> expectedType) {
     this.statusCode = statusCode;
@@ -76,7 +78,7 @@ public class ErpResponse<R extends Resource> {
   }
 
   public boolean isValidPayload() {
-    return this.validationResult.isSuccessful();
+    return this.getValidationResult().isSuccessful();
   }
 
   /**
@@ -193,7 +195,24 @@ public class ErpResponse<R extends Resource> {
 
   private void ensureValidationResult() {
     ValidationResultHelper.throwOnInvalidValidationResult(
-        this.getResourceType(), this.validationResult);
+        this.getResourceType(), this.getValidationResult());
+  }
+
+  /**
+   * Get the validation result of the payload and wait for it if the validation is still running in
+   * the background
+   *
+   * @return the ValidationResult of the payload
+   */
+  private ValidationResult getValidationResult() {
+    try {
+      return this.validationResult.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
   }
 
   @Override
@@ -235,6 +254,15 @@ public class ErpResponse<R extends Resource> {
     }
 
     public ErpResponse<E> andValidationResult(ValidationResult vr) {
+      return andDeferredValidationResult(CompletableFuture.completedFuture(vr));
+    }
+
+    /**
+     * @param vr the validation result which is still being computed and will be awaited on first
+     *     access
+     * @return the ErpResponse
+     */
+    public ErpResponse<E> andDeferredValidationResult(CompletableFuture<ValidationResult> vr) {
       return new ErpResponse<>(
           statusCode, duration, usedJwt, fixHeaders(headers), vr, resource, expectType);
     }
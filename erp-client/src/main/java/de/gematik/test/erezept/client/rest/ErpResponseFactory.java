@@ -20,6 +20,8 @@
 
 package de.gematik.test.erezept.client.rest;
 
+import static java.text.MessageFormat.format;
+
 import ca.uhn.fhir.context.ConfigurationException;
 import ca.uhn.fhir.parser.DataFormatException;
 import ca.uhn.fhir.validation.ValidationResult;
@@ -30,6 +32,13 @@ import java.time.Duration;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.hl7.fhir.r4.model.Resource;
@@ -38,9 +47,33 @@ import org.hl7.fhir.r4.model.Resource;
 public class ErpResponseFactory {
 
   private final FhirParser parser;
+  private final ResponseValidationMode validationMode;
+  private final double samplingRate;
 
   public ErpResponseFactory(FhirParser parser) {
+    this(parser, ResponseValidationMode.EAGER);
+  }
+
+  public ErpResponseFactory(FhirParser parser, ResponseValidationMode validationMode) {
+    this(parser, validationMode, 1.0);
+  }
+
+  /**
+   * @param parser used for decoding and validating the responses
+   * @param validationMode defines if responses are validated before they are returned or in the
+   *     background
+   * @param samplingRate between 0.0 and 1.0 defines the fraction of responses which are validated
+   *     at all, responses which are not sampled are always considered as valid
+   */
+  public ErpResponseFactory(
+      FhirParser parser, ResponseValidationMode validationMode, double samplingRate) {
+    if (samplingRate < 0.0 || samplingRate > 1.0) {
+      throw new IllegalArgumentException(
+          format("Sampling rate {0} must be between 0.0 and 1.0", samplingRate));
+    }
     this.parser = parser;
+    this.validationMode = validationMode;
+    this.samplingRate = samplingRate;
   }
 
   public <R extends Resource> ErpResponse<R> createFrom(
@@ -66,12 +99,22 @@ public class ErpResponseFactory {
             .filter(c -> !Strings.isNullOrEmpty(content) && !content.isBlank())
             .map(c -> decode(c, expect))
             .orElseGet(EmptyResource::new);
-    return ErpResponse.forPayload(resource, expect)
-        .withStatusCode(status)
-        .withDuration(duration)
-        .usedJwt(usedJwt)
-        .withHeaders(headers)
-        .andValidationResult(validateContent(content, resource.getClass()));
+    val response =
+        ErpResponse.forPayload(resource, expect)
+            .withStatusCode(status)
+            .withDuration(duration)
+            .usedJwt(usedJwt)
+            .withHeaders(headers);
+
+    if (!requiresValidation(content, resource.getClass())) {
+      // simply create an empty validation results which will always be successful
+      return response.andValidationResult(new ValidationResult(this.parser.getCtx(), List.of()));
+    } else if (validationMode == ResponseValidationMode.DEFERRED) {
+      return response.andDeferredValidationResult(
+          CompletableFuture.supplyAsync(() -> validateContent(content), ValidationPool.EXECUTOR));
+    } else {
+      return response.andValidationResult(validateContent(content));
+    }
   }
 
   private Resource decode(String content, Class<? extends Resource> expect) {
@@ -93,21 +136,46 @@ public class ErpResponseFactory {
     return ret;
   }
 
-  private <R extends Resource> ValidationResult validateContent(
-      String content, Class<R> resourceClass) {
-    ValidationResult vr;
+  private <R extends Resource> boolean requiresValidation(String content, Class<R> resourceClass) {
     if (Strings.isNullOrEmpty(content)
         || content.isBlank()
         || resourceClass.equals(EmptyResource.class)) {
-      // simply create an empty validation results which will always be successful
-      vr = new ValidationResult(this.parser.getCtx(), List.of());
-    } else {
-      vr = this.parser.validate(content);
-      if (!vr.isSuccessful()) {
-        log.error("FHIR Content is invalid\n{}", content);
-      }
+      return false;
     }
+    return samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate;
+  }
 
+  private ValidationResult validateContent(String content) {
+    val vr = this.parser.validate(content);
+    if (!vr.isSuccessful()) {
+      log.error("FHIR Content is invalid\n{}", content);
+    }
     return vr;
   }
+
+  /**
+   * The pool for deferred validations is shared by all factories and bounded by the number of
+   * processors. If the queue is full, the validation is performed by the calling thread
+   */
+  private static final class ValidationPool {
+    private static final int QUEUE_CAPACITY = 256;
+    private static final ExecutorService EXECUTOR = createExecutor();
+
+    private static ExecutorService createExecutor() {
+      val threads = Runtime.getRuntime().availableProcessors();
+      val counter = new AtomicInteger();
+      return new ThreadPoolExecutor(
+          threads,
+          threads,
+          0L,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+          runnable -> {
+            val thread = new Thread(runnable, "fhir-validation-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+          },
+          new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+  }
 }
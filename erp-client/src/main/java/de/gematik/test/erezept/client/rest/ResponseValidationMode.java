@@ -0,0 +1,48 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.client.rest;
+
+import java.util.Arrays;
+import java.util.Optional;
+import lombok.val;
+
+/**
+ * Defines when the FHIR profile validation of a response is performed
+ *
+ * <p><b>EAGER</b> the response is validated before it is returned to the caller
+ *
+ * <p><b>DEFERRED</b> the response is validated in the background and the result is awaited only
+ * when it is actually required
+ */
+public enum ResponseValidationMode {
+  EAGER,
+  DEFERRED;
+
+  public static Optional<ResponseValidationMode> fromString(String value) {
+    if (value == null) {
+      return Optional.empty();
+    }
+    val input = value.trim();
+    return Arrays.stream(ResponseValidationMode.values())
+        .filter(it -> it.name().equalsIgnoreCase(input))
+        .findFirst();
+  }
+}
@@ -29,6 +29,7 @@ import de.gematik.bbriccs.rest.headers.StandardHttpHeaderKey;
 import de.gematik.test.erezept.client.ClientType;
 import de.gematik.test.erezept.client.UnirestRetryWrapper;
 import de.gematik.test.erezept.client.vau.protocol.VauProtocol;
+import de.gematik.test.erezept.client.vau.protocol.VauRequest;
 import de.gematik.test.erezept.client.vau.protocol.VauVersion;
 import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
@@ -37,11 +38,15 @@ import java.security.interfaces.ECPublicKey;
 import java.util.Base64;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 import javax.annotation.Nullable;
 import javax.crypto.BadPaddingException;
 import javax.net.ssl.SSLContext;
 import javax.net.ssl.TrustManager;
 import kong.unirest.core.HttpResponse;
+import kong.unirest.core.RequestBodyEntity;
 import kong.unirest.core.Unirest;
 import kong.unirest.core.UnirestInstance;
 import lombok.SneakyThrows;
@@ -64,7 +69,7 @@ public class VauClient {
    * UserPseudonym which will be used for VAU-Sessions. Initially each VAU-Session starts with
    * UserPseudonym equals to 0
    */
-  private String vauUserPseudonym = "0";
+  private final AtomicReference<String> vauUserPseudonym = new AtomicReference<>("0");
 
   public VauClient(
       String fdBaseUrl,
@@ -98,21 +103,64 @@ public class VauClient {
   }
 
   public HttpBResponse send(HttpBRequest innerHttpRequest, String accessToken, String erpResource) {
+    val vauRequest = encryptRequest(innerHttpRequest, accessToken);
+    val req = createOuterRequest(vauRequest, erpResource);
+
+    val start = System.currentTimeMillis();
+    try {
+      val outerResponse = this.retryWrapper.requestWithRetries(req);
+      return decodeResponse(outerResponse, vauRequest);
+    } finally {
+      val duration = System.currentTimeMillis() - start;
+      log.info("VAU-Request took {}ms", duration);
+    }
+  }
+
+  /**
+   * Send the inner HTTP-Request without blocking the calling thread. The request is encrypted on
+   * the calling thread while the decryption of the response is performed on the given executor
+   *
+   * @param innerHttpRequest is the inner HTTP-Request to be sent encrypted
+   * @param accessToken is the access token of the user
+   * @param erpResource is the optional value of the X-erp-resource header
+   * @param executor is the executor for decrypting and decoding the response
+   * @return a future which completes with the decrypted inner HTTP-Response
+   */
+  public CompletableFuture<HttpBResponse> sendAsync(
+      HttpBRequest innerHttpRequest, String accessToken, String erpResource, Executor executor) {
+    val vauRequest = encryptRequest(innerHttpRequest, accessToken);
+    val req = createOuterRequest(vauRequest, erpResource);
+
+    val start = System.currentTimeMillis();
+    return this.retryWrapper
+        .requestWithRetriesAsync(req)
+        .whenComplete(
+            (response, throwable) ->
+                log.info("VAU-Request took {}ms", System.currentTimeMillis() - start))
+        .thenApplyAsync(outerResponse -> decodeResponse(outerResponse, vauRequest), executor);
+  }
+
+  private VauRequest encryptRequest(HttpBRequest innerHttpRequest, String accessToken) {
     Objects.requireNonNull(
         this.unirest, "VauClient is not initialized: missing call to initialize()?");
 
     val encodedRequest = httpCodec.encode(innerHttpRequest);
-    val reqBody =
+    val vauRequest =
         vauProtocol.encryptRawVauRequest(
             accessToken, encodedRequest.getBytes(StandardCharsets.UTF_8));
+    log.trace("\n------- inner VAU-Request -------\n{}\n-------", encodedRequest);
+    return vauRequest;
+  }
+
+  private RequestBodyEntity createOuterRequest(VauRequest vauRequest, String erpResource) {
+    val vauRequestUrl = getVauRequestUrl();
     log.info(
         "Sending VAU-Request as {} to: {} with Request ID {}",
         clientType.toString(),
-        getVauRequestUrl(),
-        Base64.getEncoder().encodeToString(vauProtocol.getRequestId()));
-    log.trace("\n------- inner VAU-Request -------\n{}\n-------", encodedRequest);
+        vauRequestUrl,
+        vauRequest.getRequestIdAsBase64());
 
-    val req = this.unirest.post(getVauRequestUrl()).body(reqBody);
+    val req = this.unirest.post(vauRequestUrl).body(vauRequest.getPayload());
 
     // additional/conditional outer VAU-Request Headers
     StandardHttpHeaderKey.CONTENT_TYPE.apply("application/octet-stream", req::header);
@@ -125,27 +173,20 @@ public class VauClient {
     // API-Key is optional because only required/used by FdVs
     Optional.ofNullable(xApiKey)
         .ifPresent(ak -> AuthHttpHeaderKey.X_API_KEY.apply(ak, req::header));
-
-    val start = System.currentTimeMillis();
-    try {
-      val outerResponse = this.retryWrapper.requestWithRetries(req);
-      return decodeResponse(outerResponse);
-    } finally {
-      val duration = System.currentTimeMillis() - start;
-      log.info("VAU-Request took {}ms", duration);
-    }
+    return req;
   }
 
-  private HttpBResponse decodeResponse(HttpResponse<byte[]> outerResponse) {
+  private HttpBResponse decodeResponse(HttpResponse<byte[]> outerResponse, VauRequest vauRequest) {
     // store the userpseudonym for next request
-    this.vauUserPseudonym =
+    val userPseudonym =
         outerResponse.getHeaders().get("Userpseudonym").stream().findFirst().orElse("0");
+    this.vauUserPseudonym.set(userPseudonym);
 
     val responseId = outerResponse.getHeaders().getFirst("X-Request-Id");
     // check if the response is octet-stream (encrypted) before decrypting
     val contentType = outerResponse.getHeaders().getFirst("content-type");
     val isOctetStream = Objects.requireNonNull(contentType).contains("octet-stream");
-    val xRequestId = Base64.getEncoder().encodeToString(vauProtocol.getRequestId());
+    val xRequestId = vauRequest.getRequestIdAsBase64();
 
     log.info(
         "Received VAU-Response with Status Code {} for Request ID {} (X-Request-Id {}) with"
@@ -153,11 +194,11 @@ public class VauClient {
         outerResponse.getStatus(),
         xRequestId,
         responseId,
-        vauUserPseudonym);
+        userPseudonym);
 
     if (isOctetStream) {
       try {
-        val decrypted = vauProtocol.decryptRawVauResponse(outerResponse.getBody());
+        val decrypted = vauRequest.decryptRawVauResponse(outerResponse.getBody());
         log.trace(
             "\n------- inner VAU-Response -------\n{}\n-------",
             new String(decrypted, StandardCharsets.UTF_8));
@@ -186,6 +227,6 @@ public class VauClient {
   }
 
   private String getVauRequestUrl() {
-    return fdBaseUrl + "/VAU/" + vauUserPseudonym;
+    return fdBaseUrl + "/VAU/" + vauUserPseudonym.get();
   }
 }
@@ -27,7 +27,6 @@ import java.nio.charset.StandardCharsets;
 import java.security.SecureRandom;
 import java.security.interfaces.ECPublicKey;
 import java.util.Random;
-import javax.crypto.BadPaddingException;
 import javax.crypto.KeyGenerator;
 import javax.crypto.SecretKey;
 import lombok.Getter;
@@ -38,14 +37,11 @@ public class VauProtocol {
   private final Random rnd;
   @Getter private final VauVersion vauVersion;
   private final ECPublicKey publicKey;
-  private final SecretKey decryptionKey;
-  @Getter private byte[] requestId;
 
   public VauProtocol(VauVersion vauVersion, ECPublicKey publicKey) {
     this.rnd = new SecureRandom();
     this.vauVersion = vauVersion;
     this.publicKey = publicKey;
-    this.decryptionKey = genDecryptKey(vauVersion.getKeySize());
   }
 
   @SneakyThrows
@@ -61,20 +57,30 @@ public class VauProtocol {
     return requestId;
   }
 
-  public byte[] encryptRawVauRequest(final String bearer, final byte[] innerHttp) {
+  /**
+   * Encrypt the inner HTTP-Request with a fresh request ID and response key
+   *
+   * @param bearer is the access token of the user
+   * @param innerHttp is the raw inner HTTP-Request
+   * @return the encrypted request along with the state required to decrypt its response
+   */
+  public VauRequest encryptRawVauRequest(final String bearer, final byte[] innerHttp) {
+    val decryptionKey = genDecryptKey(vauVersion.getKeySize());
     val symmetricalKeyHex = toLowerCaseHex(decryptionKey.getEncoded());
-    requestId = genRequestId(vauVersion.getReqIdSize());
+    val requestId = genRequestId(vauVersion.getReqIdSize());
     val requestIdHex = toLowerCaseHex(requestId);
-    return vauVersion
-        .getAsymmetricMethod()
-        .encrypt(
-            publicKey,
-            composeInnerHttp(
-                innerHttp,
-                vauVersion.getVersionForInnerHttp(),
-                bearer.getBytes(StandardCharsets.UTF_8),
-                requestIdHex,
-                symmetricalKeyHex));
+    val payload =
+        vauVersion
+            .getAsymmetricMethod()
+            .encrypt(
+                publicKey,
+                composeInnerHttp(
+                    innerHttp,
+                    vauVersion.getVersionForInnerHttp(),
+                    bearer.getBytes(StandardCharsets.UTF_8),
+                    requestIdHex,
+                    symmetricalKeyHex));
+    return new VauRequest(vauVersion, requestId, decryptionKey, payload);
   }
 
   private byte[] toLowerCaseHex(byte[] data) {
@@ -100,13 +106,6 @@ public class VauProtocol {
     }
   }
 
-  @SuppressWarnings({
-    "java:S1130"
-  }) // possibility required to catch BadPaddingExceptions on this call
-  public byte[] decryptRawVauResponse(byte[] innerHttp) throws BadPaddingException {
-    return vauVersion.getSymmetricMethod().decrypt(decryptionKey, innerHttp);
-  }
-
   private byte[] composeInnerHttp(
       byte[] innerHttp, char version, byte[] bearer, byte[] requestId, byte[] symmetricalKey) {
     val byteSpace = (byte) 32;
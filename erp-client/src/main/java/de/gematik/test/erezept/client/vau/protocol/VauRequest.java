@@ -0,0 +1,57 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.client.vau.protocol;
+
+import java.util.Base64;
+import javax.crypto.BadPaddingException;
+import javax.crypto.SecretKey;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * An encrypted VAU-Request together with the state which is required to process the corresponding
+ * VAU-Response. Each call to {@link VauProtocol#encryptRawVauRequest(String, byte[])} creates its
+ * own VauRequest, thus concurrent requests do not share any mutable state.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PACKAGE)
+public class VauRequest {
+
+  private final VauVersion vauVersion;
+  private final byte[] requestId;
+  private final SecretKey decryptionKey;
+  @Getter private final byte[] payload;
+
+  public byte[] getRequestId() {
+    return requestId.clone();
+  }
+
+  public String getRequestIdAsBase64() {
+    return Base64.getEncoder().encodeToString(requestId);
+  }
+
+  @SuppressWarnings({
+    "java:S1130"
+  }) // possibility required to catch BadPaddingExceptions on this call
+  public byte[] decryptRawVauResponse(byte[] innerHttp) throws BadPaddingException {
+    return vauVersion.getSymmetricMethod().decrypt(decryptionKey, innerHttp);
+  }
+}
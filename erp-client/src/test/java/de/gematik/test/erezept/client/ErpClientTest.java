@@ -23,11 +23,14 @@ package de.gematik.test.erezept.client;
 import static de.gematik.bbriccs.fhir.codec.utils.FhirTestResourceUtil.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -55,6 +58,13 @@ import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
 import de.gematik.test.erezept.fhir.values.AccessCode;
 import de.gematik.test.erezept.fhir.values.TaskId;
 import java.security.cert.X509Certificate;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
 import lombok.val;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -188,6 +198,154 @@ class ErpClientTest {
     verify(mockIdp, times(1)).login(any());
   }
 
+  @Test
+  void shouldRefreshTokenOnceForConcurrentRequests() {
+    val mockSmartcard = mock(Smartcard.class);
+    val mockToken = mock(IdpTokenResult.class);
+    val mockJsonWebToken = mock(JsonWebToken.class);
+    val mockSmartCardCertificate = mock(SmartcardCertificate.class);
+
+    when(mockSmartcard.getAutCertificate()).thenReturn(mockSmartCardCertificate);
+    when(mockIdp.login(any())).thenReturn(mockToken);
+    when(mockToken.getAccessToken()).thenReturn(mockJsonWebToken);
+    when(mockToken.getExpiresIn()).thenReturn(300);
+    when(mockJsonWebToken.getRawString()).thenReturn("idptoken123");
+
+    val mockResponse = mock(HttpBResponse.class);
+    when(mockVau.send(any(HttpBRequest.class), any(), any())).thenReturn(mockResponse);
+    when(mockResponse.bodyAsString()).thenReturn("mock body");
+
+    val mockErpResponse = mock(ErpResponse.class);
+    val mockResponseFactory = mock(ErpResponseFactory.class);
+    when(mockResponseFactory.createFrom(anyInt(), any(), any(), any(), any()))
+        .thenReturn(mockErpResponse);
+
+    val erpClient =
+        ErpClient.builder()
+            .idpClient(mockIdp)
+            .vauClient(mockVau)
+            .responseFactory(mockResponseFactory)
+            .acceptMime(MediaType.FHIR_XML)
+            .sendMime(MediaType.FHIR_JSON)
+            .build();
+    erpClient.authenticateWith(mockSmartcard);
+
+    val requests = 32;
+    val executor = Executors.newFixedThreadPool(8);
+    val start = new CountDownLatch(1);
+    val futures =
+        IntStream.range(0, requests)
+            .mapToObj(
+                idx ->
+                    executor.submit(
+                        () -> {
+                          start.await();
+                          return erpClient.request(new TaskGetCommand());
+                        }))
+            .toList();
+    start.countDown();
+    futures.forEach(f -> assertDoesNotThrow(() -> f.get(10, TimeUnit.SECONDS)));
+    executor.shutdown();
+
+    verify(mockIdp, times(1)).login(any());
+    verify(mockVau, times(requests)).send(any(HttpBRequest.class), eq("idptoken123"), any());
+  }
+
+  @Test
+  void shouldRequestAsync() {
+    val mockSmartcard = mock(Smartcard.class);
+    val mockToken = mock(IdpTokenResult.class);
+    val mockJsonWebToken = mock(JsonWebToken.class);
+    val mockSmartCardCertificate = mock(SmartcardCertificate.class);
+
+    when(mockSmartcard.getAutCertificate()).thenReturn(mockSmartCardCertificate);
+    when(mockIdp.login(any())).thenReturn(mockToken);
+    when(mockToken.getAccessToken()).thenReturn(mockJsonWebToken);
+    when(mockToken.getExpiresIn()).thenReturn(300);
+    when(mockJsonWebToken.getRawString()).thenReturn("idptoken123");
+
+    val mockResponse = mock(HttpBResponse.class);
+    when(mockVau.sendAsync(any(HttpBRequest.class), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(mockResponse));
+    when(mockResponse.bodyAsString()).thenReturn("mock body");
+
+    val mockErpResponse = mock(ErpResponse.class);
+    val mockResponseFactory = mock(ErpResponseFactory.class);
+    when(mockResponseFactory.createFrom(anyInt(), any(), any(), any(), any(), any()))
+        .thenReturn(mockErpResponse);
+
+    val executor = Executors.newFixedThreadPool(2);
+    val erpClient =
+        ErpClient.builder()
+            .idpClient(mockIdp)
+            .vauClient(mockVau)
+            .responseFactory(mockResponseFactory)
+            .acceptMime(MediaType.FHIR_XML)
+            .sendMime(MediaType.FHIR_JSON)
+            .asyncExecutor(executor)
+            .build();
+    erpClient.authenticateWith(mockSmartcard);
+
+    val futures =
+        IntStream.range(0, 10)
+            .mapToObj(idx -> erpClient.requestAsync(new TaskGetCommand()))
+            .toList();
+    futures.forEach(f -> assertEquals(mockErpResponse, f.join()));
+    executor.shutdown();
+
+    verify(mockIdp, times(1)).login(any());
+    verify(mockVau, times(10)).sendAsync(any(HttpBRequest.class), any(), any(), eq(executor));
+  }
+
+  @Test
+  void shouldRefreshIdpTokenOnCallingThread() {
+    val mockSmartcard = mock(Smartcard.class);
+    val mockToken = mock(IdpTokenResult.class);
+    val mockJsonWebToken = mock(JsonWebToken.class);
+    val mockSmartCardCertificate = mock(SmartcardCertificate.class);
+    val loginThread = new AtomicReference<Thread>();
+
+    when(mockSmartcard.getAutCertificate()).thenReturn(mockSmartCardCertificate);
+    when(mockIdp.login(any()))
+        .thenAnswer(
+            invocation -> {
+              loginThread.set(Thread.currentThread());
+              return mockToken;
+            });
+    when(mockToken.getAccessToken()).thenReturn(mockJsonWebToken);
+    when(mockToken.getExpiresIn()).thenReturn(300);
+    when(mockJsonWebToken.getRawString()).thenReturn("idptoken123");
+
+    val mockResponse = mock(HttpBResponse.class);
+    when(mockVau.sendAsync(any(HttpBRequest.class), any(), any(), any()))
+        .thenReturn(CompletableFuture.completedFuture(mockResponse));
+    when(mockResponse.bodyAsString()).thenReturn("mock body");
+
+    val mockErpResponse = mock(ErpResponse.class);
+    val mockResponseFactory = mock(ErpResponseFactory.class);
+    when(mockResponseFactory.createFrom(anyInt(), any(), any(), any(), any(), any()))
+        .thenReturn(mockErpResponse);
+
+    val erpClient =
+        ErpClient.builder()
+            .idpClient(mockIdp)
+            .vauClient(mockVau)
+            .responseFactory(mockResponseFactory)
+            .acceptMime(MediaType.FHIR_XML)
+            .sendMime(MediaType.FHIR_JSON)
+            .build();
+    erpClient.authenticateWith(mockSmartcard);
+
+    assertEquals(mockErpResponse, erpClient.requestAsync(new TaskGetCommand()).join());
+    assertSame(Thread.currentThread(), loginThread.get());
+  }
+
+  @Test
+  void shouldNotUseCommonPoolByDefault() {
+    val erpClient = ErpClient.builder().build();
+    assertNotSame(ForkJoinPool.commonPool(), erpClient.getAsyncExecutor());
+  }
+
   @Test
   void shouldForwardEncodeResource() {
     val mockFhir = mock(FhirParser.class);
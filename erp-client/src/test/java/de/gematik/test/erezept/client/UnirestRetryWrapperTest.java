@@ -24,11 +24,15 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.gematik.test.erezept.client.vau.VauException;
 import java.io.IOException;
 import java.net.http.HttpConnectTimeoutException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.IntStream;
 import kong.unirest.core.HttpRequest;
 import kong.unirest.core.HttpResponse;
@@ -96,4 +100,45 @@ class UnirestRetryWrapperTest {
     val ex = assertThrows(VauException.class, () -> urw.requestWithRetries(request));
     assertEquals(ex.getCause().getClass(), HttpConnectTimeoutException.class);
   }
+
+  @Test
+  void shouldResponseAsyncOnSecondAttempt() {
+    when(request.asBytesAsync())
+        .thenReturn(
+            CompletableFuture.failedFuture(
+                new UnirestException(new HttpConnectTimeoutException("test"))))
+        .thenReturn(CompletableFuture.completedFuture(response));
+
+    val urw = new UnirestRetryWrapper();
+    val result = assertDoesNotThrow(() -> urw.requestWithRetriesAsync(request).join());
+    assertEquals(response, result);
+  }
+
+  @Test
+  void shouldNotRetryAsyncOnOtherException() {
+    when(request.asBytesAsync())
+        .thenReturn(
+            CompletableFuture.failedFuture(new UnirestException(new RuntimeException("test"))));
+
+    val urw = new UnirestRetryWrapper();
+    val future = urw.requestWithRetriesAsync(request);
+    val ex = assertThrows(CompletionException.class, future::join);
+    assertEquals(VauException.class, ex.getCause().getClass());
+    verify(request, times(1)).asBytesAsync();
+  }
+
+  @Test
+  void shouldFailAsyncOnExceedingMaxAttempts() {
+    when(request.asBytesAsync())
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.failedFuture(
+                    new CompletionException(new UnirestException(new IOException("test")))));
+
+    val urw = new UnirestRetryWrapper();
+    val future = urw.requestWithRetriesAsync(request);
+    val ex = assertThrows(CompletionException.class, future::join);
+    assertEquals(VauException.class, ex.getCause().getClass());
+    assertEquals(IOException.class, ex.getCause().getCause().getClass());
+  }
 }
@@ -51,6 +51,10 @@ import de.gematik.test.erezept.config.exceptions.ConfigurationException;
 import de.gematik.test.erezept.fhir.parser.FhirParser;
 import java.security.cert.CertificateException;
 import java.security.cert.CertificateFactory;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -82,9 +86,9 @@ class ErpClientFactoryTest {
                         VauCertificateGenerator.generateRandomVauCertificate().getEncoded())));
 
     // reset the cache before each test
-    val certificateField = ErpClientFactory.class.getDeclaredField("vauCertificate");
+    val certificateField = ErpClientFactory.class.getDeclaredField("vauCertificates");
     certificateField.setAccessible(true);
-    certificateField.set(null, null);
+    ((Map<?, ?>) certificateField.get(null)).clear();
   }
 
   private EnvironmentConfiguration createEnvironmentConfiguration() {
@@ -142,6 +146,31 @@ class ErpClientFactoryTest {
     verify(1, getRequestedFor(urlPathEqualTo("/VAUCertificate")));
   }
 
+  @Test
+  @SneakyThrows
+  void shouldRequestCertificateOnceForConcurrentClients() {
+    val env = createEnvironmentConfiguration();
+    val executor = Executors.newFixedThreadPool(8);
+
+    // mocked constructions are bound to the calling thread, thus real FhirParsers are created here
+    try {
+      val futures =
+          IntStream.range(0, 8)
+              .mapToObj(
+                  i ->
+                      executor.submit(
+                          () -> ErpClientFactory.createErpClient(env, new DoctorConfiguration())))
+              .toList();
+      for (val future : futures) {
+        assertDoesNotThrow(() -> future.get(1, TimeUnit.MINUTES));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    verify(1, getRequestedFor(urlPathEqualTo("/VAUCertificate")));
+  }
+
   @ParameterizedTest
   @ValueSource(booleans = {true, false})
   void shouldNotSendEmptyApiKey(boolean isEmpty) {
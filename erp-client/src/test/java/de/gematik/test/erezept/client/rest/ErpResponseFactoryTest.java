@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.*;
 import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.bbriccs.fhir.codec.EmptyResource;
 import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.erezept.client.exceptions.FhirValidationException;
 import de.gematik.test.erezept.client.exceptions.UnexpectedResponseResourceError;
 import de.gematik.test.erezept.fhir.r4.erp.ErxAuditEvent;
 import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
@@ -54,6 +55,8 @@ class ErpResponseFactoryTest extends ErpFhirParsingTest {
       "eyJhbGciOiJCUDI1NlIxIiwidHlwIjoiYXQrSldUIiwia2lkIjoicHVrX2lkcF9zaWcifQ.eyJzdWIiOiJJWERkLTNyUVpLS0ZYVWR4R0dqNFBERG9WNk0wUThaai1xdzF2cjF1XzU4IiwicHJvZmVzc2lvbk9JRCI6IjEuMi4yNzYuMC43Ni40LjQ5Iiwib3JnYW5pemF0aW9uTmFtZSI6ImdlbWF0aWsgTXVzdGVya2Fzc2UxR0tWTk9ULVZBTElEIiwiaWROdW1tZXIiOiJYMTEwNTAyNDE0IiwiYW1yIjpbIm1mYSIsInNjIiwicGluIl0sImlzcyI6Imh0dHA6Ly9sb2NhbGhvc3Q6NTUwMTEvYXV0aC9yZWFsbXMvaWRwLy53ZWxsLWtub3duL29wZW5pZC1jb25maWd1cmF0aW9uIiwiZ2l2ZW5fbmFtZSI6IlJvYmluIEdyYWYiLCJjbGllbnRfaWQiOiJlcnAtdGVzdHN1aXRlLWZkIiwiYWNyIjoiZ2VtYXRpay1laGVhbHRoLWxvYS1oaWdoIiwiYXVkIjoiaHR0cDovL2xvY2FsaG9zdDozMDAwLyIsImF6cCI6ImVycC10ZXN0c3VpdGUtZmQiLCJzY29wZSI6Im9wZW5pZCBlLXJlemVwdCIsImF1dGhfdGltZSI6MTY0MzgwNDczMywiZXhwIjoxNjQzODA1MDMzLCJmYW1pbHlfbmFtZSI6IlbDs3Jtd2lua2VsIiwiaWF0IjoxNjQzODA0NjEzLCJqdGkiOiI2Yjg3NmU0MWNmMGViNGJkIn0.MV5cDnL3JBZ4b6xr9SqiYDmZ7qtZFEWBd1vCrHzVniZeDhkyuSYc7xhf577h2S21CzNgrMp0M6JALNW9Qjnw_g";
 
   private final String RESOURCE_PATH_ERP = "fhir/valid/erp/1.4.0/auditevent/";
+  private static final String AUDIT_EVENT =
+      "fhir/valid/erp/1.4.0/auditevent/9361863d-fec0-4ba9-8776-7905cf1b0cfa.json";
 
   @BeforeAll
   static void setUp() {
@@ -266,4 +269,42 @@ class ErpResponseFactoryTest extends ErpFhirParsingTest {
     assertTrue(response.getResourceOptional().isPresent());
     assertDoesNotThrow(response::getExpectedResource);
   }
+
+  @Test
+  void shouldValidateDeferred() {
+    val rf = new ErpResponseFactory(parser, ResponseValidationMode.DEFERRED);
+    val content = ResourceLoader.readFileFromResource(AUDIT_EVENT);
+    val response = rf.createFrom(STATUS_OK, HEADERS_JSON, testToken, content, ErxAuditEvent.class);
+    assertTrue(response.isValidPayload());
+    assertDoesNotThrow(response::getExpectedResource);
+  }
+
+  @Test
+  void shouldFailOnInvalidContentWithDeferredValidation() {
+    val rf = new ErpResponseFactory(parser, ResponseValidationMode.DEFERRED);
+    val testOperationOutcome =
+        encodeTestRessource(createOperationOutcome(), EncodingType.JSON).replace("issue", "issues");
+    val response =
+        rf.createFrom(404, HEADERS_JSON, testToken, testOperationOutcome, ErxAuditEvent.class);
+    assertFalse(response.isValidPayload());
+    assertThrows(FhirValidationException.class, response::getAsOperationOutcome);
+  }
+
+  @Test
+  void shouldSkipValidationOfResponsesWhichAreNotSampled() {
+    val rf = new ErpResponseFactory(parser, ResponseValidationMode.EAGER, 0.0);
+    val testOperationOutcome =
+        encodeTestRessource(createOperationOutcome(), EncodingType.JSON).replace("issue", "issues");
+    val response =
+        rf.createFrom(404, HEADERS_JSON, testToken, testOperationOutcome, ErxAuditEvent.class);
+    assertTrue(response.isValidPayload());
+  }
+
+  @ParameterizedTest
+  @ValueSource(doubles = {-0.1, 1.1})
+  void shouldThrowOnInvalidSamplingRate(double samplingRate) {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new ErpResponseFactory(parser, ResponseValidationMode.DEFERRED, samplingRate));
+  }
 }
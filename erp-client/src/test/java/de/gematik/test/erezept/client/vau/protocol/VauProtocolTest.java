@@ -20,6 +20,8 @@
 
 package de.gematik.test.erezept.client.vau.protocol;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.gematik.bbriccs.crypto.BC;
@@ -28,6 +30,8 @@ import java.security.KeyPairGenerator;
 import java.security.PrivateKey;
 import java.security.interfaces.ECPublicKey;
 import java.security.spec.ECGenParameterSpec;
+import java.util.Arrays;
+import javax.crypto.BadPaddingException;
 import javax.crypto.spec.SecretKeySpec;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -57,8 +61,9 @@ class VauProtocolTest {
   void shouldEncryptAndDecrypt() {
     val testBearer = "123456";
     val text = "test";
-    byte[] encrypt =
+    val vauRequest =
         vauProtocol.encryptRawVauRequest(testBearer, text.getBytes(StandardCharsets.UTF_8));
+    byte[] encrypt = vauRequest.getPayload();
 
     // simulates erp server vau decryption and encryption without changing the message of the client
     byte[] serverDecrypt =
@@ -68,11 +73,39 @@ class VauProtocolTest {
     val serverEncrypt =
         vauProtocol.getVauVersion().getSymmetricMethod().encrypt(symKey, serverDecrypt);
 
-    val clientDecrypt = vauProtocol.decryptRawVauResponse(serverEncrypt);
+    val clientDecrypt = vauRequest.decryptRawVauResponse(serverEncrypt);
     val message = new String(clientDecrypt, StandardCharsets.UTF_8);
     assertTrue(message.endsWith(text));
   }
 
+  @SneakyThrows
+  @Test
+  void shouldKeepStatePerRequest() {
+    val testBearer = "123456";
+    val first = vauProtocol.encryptRawVauRequest(testBearer, "first".getBytes());
+    val second = vauProtocol.encryptRawVauRequest(testBearer, "second".getBytes());
+    assertFalse(Arrays.equals(first.getRequestId(), second.getRequestId()));
+
+    // responses are answered in reverse order and each must be decryptable by its own request
+    val secondResponse = simulateServerResponse(second.getPayload());
+    val firstResponse = simulateServerResponse(first.getPayload());
+    val secondMessage = new String(second.decryptRawVauResponse(secondResponse));
+    val firstMessage = new String(first.decryptRawVauResponse(firstResponse));
+    assertTrue(secondMessage.endsWith("second"));
+    assertTrue(firstMessage.endsWith("first"));
+
+    assertThrows(BadPaddingException.class, () -> first.decryptRawVauResponse(secondResponse));
+  }
+
+  @SneakyThrows
+  private byte[] simulateServerResponse(byte[] encrypted) {
+    val serverDecrypt =
+        vauProtocol.getVauVersion().getAsymmetricMethod().decrypt(privateKey, encrypted);
+    val encodedKey = hexToByteArray(extractSymKey(serverDecrypt));
+    val symKey = new SecretKeySpec(encodedKey, 0, encodedKey.length, "AES");
+    return vauProtocol.getVauVersion().getSymmetricMethod().encrypt(symKey, serverDecrypt);
+  }
+
   private byte[] extractSymKey(byte[] data) {
     int startPos = 0;
     int length = 0;
@@ -41,4 +41,10 @@ public abstract class BaseActorConfiguration implements INamedConfigurationEleme
 
   private boolean validateRequest = false;
   private String fhirValidator = "BRICKS";
+
+  /** EAGER validates each response before returning it, DEFERRED validates in the background */
+  private String responseValidation = "EAGER";
+
+  /** fraction of the responses which are validated at all, e.g. 0.1 for load runs */
+  private double responseValidationSamplingRate = 1.0;
 }
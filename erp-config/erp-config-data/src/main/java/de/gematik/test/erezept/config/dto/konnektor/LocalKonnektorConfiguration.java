@@ -32,6 +32,11 @@ public class LocalKonnektorConfiguration extends KonnektorConfiguration {
   @JsonAlias({"vsdmService"})
   private VsdmServiceConfiguration vsdmServiceConfiguration;
 
+  /**
+   * embed self-signed OCSP responses and verify signatures without requesting the OCSP responders
+   */
+  private boolean offlineOcsp = false;
+
   @JsonCreator
   public LocalKonnektorConfiguration() {
     this.setType(KonnektorType.LOCAL);
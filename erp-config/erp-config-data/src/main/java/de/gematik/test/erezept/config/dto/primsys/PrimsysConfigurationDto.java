@@ -36,4 +36,6 @@ public class PrimsysConfigurationDto implements BaseConfigurationDto {
   private ActorsListConfiguration actors;
   private List<EnvironmentConfiguration> environments;
   private List<KonnektorConfiguration> konnektors;
+  private ContextDataConfiguration contextData = new ContextDataConfiguration();
+  private ActorBootstrapConfiguration actorBootstrap = new ActorBootstrapConfiguration();
 }
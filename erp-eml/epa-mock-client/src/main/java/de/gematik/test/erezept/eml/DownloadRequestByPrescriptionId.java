@@ -31,6 +31,10 @@ public class DownloadRequestByPrescriptionId implements EpaMockDownloadRequest {
     this.prescriptionId = prescriptionId;
   }
 
+  public String getPrescriptionId() {
+    return prescriptionId;
+  }
+
   @Override
   public HttpBRequest getHttpBRequest() {
     return HttpBRequest.get()
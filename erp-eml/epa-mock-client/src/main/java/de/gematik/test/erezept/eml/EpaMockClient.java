@@ -20,44 +20,79 @@
 
 package de.gematik.test.erezept.eml;
 
-import static java.text.MessageFormat.format;
-
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Strings;
 import de.gematik.bbriccs.rest.HttpBClient;
+import de.gematik.bbriccs.rest.HttpBRequest;
 import de.gematik.bbriccs.rest.HttpBResponse;
 import de.gematik.bbriccs.rest.RawHttpCodec;
+import de.gematik.test.erezept.polling.Poller;
+import de.gematik.test.erezept.polling.PollingPolicy;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 @Slf4j
 public class EpaMockClient {
+  private static final EpaMockDownloadRequest ALL_LOGS =
+      () -> HttpBRequest.get().urlPath("/log").withoutPayload();
+
   private final HttpBClient restClient;
   private final ObjectMapper om =
       new ObjectMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
   private final RawHttpCodec codec = RawHttpCodec.defaultCodec();
-  private final long interval;
-  private final long maxWait;
+  private final Poller poller;
+  private final boolean coalescing;
+  private final AtomicReference<CompletableFuture<List<ErpEmlLog>>> inFlightDownload =
+      new AtomicReference<>();
 
-  private EpaMockClient(HttpBClient restClient, long interval, long maxWait) {
+  private EpaMockClient(HttpBClient restClient, PollingPolicy policy, boolean coalescing) {
     this.restClient = restClient;
-    this.interval = interval;
-    this.maxWait = maxWait;
+    this.poller = new Poller(policy, PollingTimeoutException::new);
+    this.coalescing = coalescing;
   }
 
   public static EpaMockClient withRestClient(HttpBClient restClient) {
-    long interval = 5000L;
-    long maxWait = 360000L;
-    return withRestClient(restClient, interval, maxWait);
+    return withRestClient(
+        restClient, PollingPolicy.adaptive(Duration.ofSeconds(5), Duration.ofMinutes(6)));
   }
 
+  /**
+   * Create an EpaMockClient which polls with a constant interval
+   *
+   * @param restClient to be used for communicating with the EpaMock
+   * @param interval in milliseconds between two polling attempts
+   * @param maxWait in milliseconds after which polling is given up
+   * @return the EpaMockClient
+   */
   public static EpaMockClient withRestClient(HttpBClient restClient, long interval, long maxWait) {
-    return new EpaMockClient(restClient, interval, maxWait);
+    return withRestClient(
+        restClient, PollingPolicy.fixed(Duration.ofMillis(interval), Duration.ofMillis(maxWait)));
+  }
+
+  public static EpaMockClient withRestClient(HttpBClient restClient, PollingPolicy policy) {
+    return new EpaMockClient(restClient, policy, false);
+  }
+
+  /**
+   * Create an EpaMockClient where concurrent polls by prescription ID share a single download of
+   * all logs which is filtered on the client side. This reduces the number of round trips to the
+   * EpaMock when many tests are waiting for their logs in parallel
+   *
+   * @param restClient to be used for communicating with the EpaMock
+   * @param policy defines the intervals and the deadline for polling
+   * @return the coalescing EpaMockClient
+   */
+  public static EpaMockClient coalescingWithRestClient(
+      HttpBClient restClient, PollingPolicy policy) {
+    return new EpaMockClient(restClient, policy, true);
   }
 
   @SneakyThrows
@@ -86,37 +121,46 @@ public class EpaMockClient {
     if (Strings.isNullOrEmpty(filter)) {
       return list;
     } else {
-      return list.stream().filter(log -> log.request().urlPath().contains(filter)).toList();
+      return list.stream().filter(emlLog -> emlLog.request().urlPath().contains(filter)).toList();
     }
   }
 
-  @SneakyThrows
   public List<ErpEmlLog> pollRequest(EpaMockDownloadRequest request, String filter) {
-    long startTime = System.currentTimeMillis();
-    List<ErpEmlLog> list;
-    var count = 0;
-    do {
-      count++;
-
-      list = filterByPathPart(this.downloadRequest(request), filter);
-      if (!list.isEmpty()) {
-        break;
-      }
-      log.info(
-          "tried to download from EpaMock with {} Iterations and a Period of: {} ",
-          count,
-          (System.currentTimeMillis() - startTime));
-      Thread.sleep(interval); // busy wait by intention
-    } while (System.currentTimeMillis() - startTime < maxWait);
-    log.info("Duration for download was {} millis", (System.currentTimeMillis() - startTime));
-
-    if (list.isEmpty()) {
-      throw new PollingTimeoutException(
-          format(
-              "No request returned after {0} seconds wait´n for call: {1}",
-              (maxWait / 1000), request.getHttpBRequest().urlPath()));
+    return poller.poll(
+        () -> filterByPathPart(this.fetch(request), filter),
+        request.getHttpBRequest().urlPath());
+  }
+
+  private List<ErpEmlLog> fetch(EpaMockDownloadRequest request) {
+    if (coalescing && request instanceof DownloadRequestByPrescriptionId byPrescriptionId) {
+      val prescriptionId = byPrescriptionId.getPrescriptionId();
+      return this.sharedDownload().stream()
+          .filter(emlLog -> prescriptionId.equals(emlLog.prescriptionId()))
+          .toList();
+    }
+    return this.downloadRequest(request);
+  }
+
+  /**
+   * Download all logs or join a download which is currently in flight. A caller joining an
+   * ongoing download might miss a log which was written just after that download was started;
+   * this log will be found within the next polling attempt
+   */
+  private List<ErpEmlLog> sharedDownload() {
+    val own = new CompletableFuture<List<ErpEmlLog>>();
+    val current = inFlightDownload.compareAndExchange(null, own);
+    if (current != null) {
+      return current.join();
+    }
+
+    try {
+      own.complete(this.downloadRequest(ALL_LOGS));
+    } catch (Exception e) {
+      own.completeExceptionally(e);
+    } finally {
+      inFlightDownload.set(null);
     }
-    return list;
+    return own.join();
   }
 
   public boolean configRequest(EpaMockConfigRequest request) {
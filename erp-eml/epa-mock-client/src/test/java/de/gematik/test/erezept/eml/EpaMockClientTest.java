@@ -24,10 +24,27 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpServer;
 import de.gematik.bbriccs.rest.HttpBClient;
 import de.gematik.bbriccs.rest.HttpBRequest;
 import de.gematik.bbriccs.rest.HttpBResponse;
+import de.gematik.bbriccs.rest.UnirestHttpClient;
 import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.erezept.polling.PollingPolicy;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +52,7 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+@Slf4j
 class EpaMockClientTest {
   private HttpBClient restClient;
   private EpaMockClient epaMockClient;
@@ -158,4 +176,128 @@ class EpaMockClientTest {
     assertNotNull(result);
     assertTrue(result.isEmpty());
   }
+
+  @Test
+  @SneakyThrows
+  void shouldCoalesceConcurrentPollsByPrescriptionId() {
+    val body = logsWithPrescriptionIds("A", "A", "B", "C", "C");
+    val downloadStarted = new CountDownLatch(1);
+    val releaseDownload = new CountDownLatch(1);
+    when(restClient.send(any()))
+        .thenAnswer(
+            invocation -> {
+              downloadStarted.countDown();
+              assertTrue(releaseDownload.await(5, TimeUnit.SECONDS));
+              return HttpBResponse.status(200).withPayload(body);
+            });
+
+    val coalescingClient =
+        EpaMockClient.coalescingWithRestClient(
+            restClient, PollingPolicy.adaptive(Duration.ofMillis(100), Duration.ofSeconds(5)));
+
+    val executor = Executors.newFixedThreadPool(2);
+    try {
+      val pollA =
+          CompletableFuture.supplyAsync(
+              () -> coalescingClient.pollRequest(new DownloadRequestByPrescriptionId("A")),
+              executor);
+      assertTrue(downloadStarted.await(5, TimeUnit.SECONDS));
+
+      val pollingThreadB = new AtomicReference<Thread>();
+      val pollB =
+          CompletableFuture.supplyAsync(
+              () -> {
+                pollingThreadB.set(Thread.currentThread());
+                return coalescingClient.pollRequest(new DownloadRequestByPrescriptionId("B"));
+              },
+              executor);
+      // release the download only when the second poll is waiting for it
+      awaitWaiting(pollingThreadB);
+      releaseDownload.countDown();
+
+      assertEquals(2, pollA.get(5, TimeUnit.SECONDS).size());
+      assertEquals(1, pollB.get(5, TimeUnit.SECONDS).size());
+      assertTrue(pollA.join().stream().allMatch(emlLog -> emlLog.prescriptionId().equals("A")));
+      verify(restClient, times(1))
+          .send(argThat((HttpBRequest request) -> request.urlPath().equals("/log")));
+    } finally {
+      releaseDownload.countDown();
+      executor.shutdownNow();
+    }
+  }
+
+  @SneakyThrows
+  private static void awaitWaiting(AtomicReference<Thread> thread) {
+    val deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+    while (thread.get() == null || thread.get().getState() != Thread.State.WAITING) {
+      assertTrue(System.nanoTime() < deadline, "second poll did not join the download");
+      Thread.sleep(5);
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldDetectLogFasterWithAdaptivePolling() {
+    val body = logsWithPrescriptionIds("A", "A", "A", "A", "A");
+    val server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    val availableAfter = Duration.ofMillis(150);
+    val availableAt = new long[] {0L};
+    server.createContext(
+        "/log",
+        exchange -> {
+          val payload =
+              (System.nanoTime() >= availableAt[0] ? body : "[]").getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", "application/json");
+          exchange.sendResponseHeaders(200, payload.length);
+          try (val os = exchange.getResponseBody()) {
+            os.write(payload);
+          }
+        });
+    server.start();
+
+    try {
+      val url = "http://localhost:" + server.getAddress().getPort();
+      val fixed =
+          EpaMockClient.withRestClient(
+              UnirestHttpClient.forUrl(url).withoutTlsVerification(),
+              PollingPolicy.fixed(Duration.ofSeconds(1), Duration.ofSeconds(10)));
+      val adaptive =
+          EpaMockClient.withRestClient(
+              UnirestHttpClient.forUrl(url).withoutTlsVerification(),
+              PollingPolicy.adaptive(Duration.ofSeconds(1), Duration.ofSeconds(10)));
+
+      availableAt[0] = System.nanoTime() + availableAfter.toNanos();
+      val fixedDetection = timeToDetect(fixed);
+      availableAt[0] = System.nanoTime() + availableAfter.toNanos();
+      val adaptiveDetection = timeToDetect(adaptive);
+
+      log.info(
+          "Time to detect a log available after {} ms: fixed {} ms, adaptive {} ms",
+          availableAfter.toMillis(),
+          fixedDetection.toMillis(),
+          adaptiveDetection.toMillis());
+      assertTrue(adaptiveDetection.compareTo(fixedDetection) < 0);
+      assertTrue(adaptiveDetection.compareTo(Duration.ofMillis(800)) < 0);
+    } finally {
+      server.stop(0);
+    }
+  }
+
+  private static Duration timeToDetect(EpaMockClient client) {
+    val start = System.nanoTime();
+    val result = client.pollRequest(new DownloadRequestByPrescriptionId("A"));
+    assertFalse(result.isEmpty());
+    return Duration.ofNanos(System.nanoTime() - start);
+  }
+
+  @SneakyThrows
+  private static String logsWithPrescriptionIds(String... prescriptionIds) {
+    val om = new ObjectMapper();
+    val example = ResourceLoader.readFileFromResource("example_get_log.json");
+    List<Map<String, Object>> entries = om.readValue(example, new TypeReference<>() {});
+    for (var i = 0; i < entries.size(); i++) {
+      entries.get(i).put("prescriptionId", prescriptionIds[i % prescriptionIds.length]);
+    }
+    return om.writeValueAsString(entries);
+  }
 }
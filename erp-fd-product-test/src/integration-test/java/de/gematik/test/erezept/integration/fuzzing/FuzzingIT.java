@@ -23,6 +23,9 @@ package de.gematik.test.erezept.integration.fuzzing;
 import static de.gematik.test.core.expectations.verifier.ErpResponseVerifier.returnCode;
 import static de.gematik.test.core.expectations.verifier.ErpResponseVerifier.returnCodeBetween;
 import static de.gematik.test.core.expectations.verifier.ErpResponseVerifier.returnCodeIsBetween;
+import static java.text.MessageFormat.format;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 import ca.uhn.fhir.parser.LenientErrorHandler;
 import de.gematik.bbriccs.fhir.de.value.IKNR;
@@ -49,7 +52,10 @@ import de.gematik.test.erezept.actors.ErpActor;
 import de.gematik.test.erezept.actors.PatientActor;
 import de.gematik.test.erezept.actors.PharmacyActor;
 import de.gematik.test.erezept.client.usecases.CommunicationGetByIdCommand;
+import de.gematik.test.erezept.client.usecases.ICommand;
 import de.gematik.test.erezept.client.usecases.TaskAbortCommand;
+import de.gematik.test.erezept.client.usecases.TaskActivateCommand;
+import de.gematik.test.erezept.client.usecases.TaskCreateCommand;
 import de.gematik.test.erezept.fhir.builder.GemFaker;
 import de.gematik.test.erezept.fhir.builder.erp.ErxCommunicationBuilder;
 import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
@@ -63,20 +69,28 @@ import de.gematik.test.erezept.fhir.values.TaskId;
 import de.gematik.test.erezept.fhir.values.json.CommunicationReplyMessage;
 import de.gematik.test.erezept.fhir.valuesets.AvailabilityStatus;
 import de.gematik.test.erezept.fhir.valuesets.PrescriptionFlowType;
+import de.gematik.test.erezept.fuzzing.ErpClientFuzzingTarget;
 import de.gematik.test.erezept.screenplay.abilities.UseTheErpClient;
+import de.gematik.test.erezept.screenplay.abilities.UseTheKonnektor;
 import de.gematik.test.erezept.screenplay.util.PrescriptionAssignmentKind;
 import de.gematik.test.erezept.toggle.FuzzingIterationsToggle;
+import de.gematik.test.fuzzing.coverage.CoverageGuidedFuzzer;
+import de.gematik.test.fuzzing.kbv.KbvBundleManipulatorFactory;
+import java.nio.file.Path;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.serenitybdd.junit.runners.SerenityParameterizedRunner;
 import net.serenitybdd.junit5.SerenityJUnit5Extension;
+import org.hl7.fhir.r4.model.Resource;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
@@ -116,7 +130,7 @@ public class FuzzingIT extends ErpTest {
     val fhir = actor.abilityTo(UseTheErpClient.class).getFhir();
     val errorHandler = new LenientErrorHandler();
     errorHandler.disableAllErrors();
-    fhir.getCtx().setParserErrorHandler(errorHandler);
+    fhir.setParserErrorHandler(errorHandler);
   }
 
   @AfterEach
@@ -324,4 +338,42 @@ public class FuzzingIT extends ErpTest {
                       .isCorrect());
             });
   }
+
+  @TestcaseId("ERP_FUZZING_03")
+  @DisplayName("Coverage-guided Fuzzing des KBV-Bundles beim Aktivieren eines Tasks")
+  @Test
+  void activateWithCoverageGuidedFuzzing() {
+    val doctorClient = doctor.abilityTo(UseTheErpClient.class).getClient();
+    val konnektor = doctor.abilityTo(UseTheKonnektor.class);
+
+    // this is required to be able to encode invalid FHIR resources
+    val fhir = doctorClient.getFhir();
+    val errorHandler = new LenientErrorHandler();
+    errorHandler.disableAllErrors();
+    fhir.setParserErrorHandler(errorHandler);
+
+    Function<KbvErpBundle, ICommand<? extends Resource>> activation =
+        mutant -> {
+          // each mutant is activated on a fresh task to get past the lookup of the task
+          val task = doctorClient.request(new TaskCreateCommand()).getExpectedResource();
+          tasks.add(task);
+          mutant.getIdentifier().setValue(task.getPrescriptionId().getValue());
+          val encoded = fhir.encode(mutant, doctorClient.getSendMime().toFhirEncoding());
+          val signed = konnektor.signDocumentWithHba(encoded).getPayload();
+          return new TaskActivateCommand(task.getTaskId(), task.getAccessCode(), signed);
+        };
+    val target = ErpClientFuzzingTarget.sending(doctorClient, activation);
+    val seed = KbvErpBundleFaker.builder().withKvnr(patient.getKvnr()).fake();
+    val mutators = KbvBundleManipulatorFactory.getAllKbvBundleManipulators();
+
+    val report =
+        CoverageGuidedFuzzer.forSeed(fhir, seed, mutators, target)
+            .withCorpus(Path.of("target", "fuzzing", "corpus", "kbv_bundle_activation"))
+            .run(iterations);
+
+    assertEquals(iterations.intValue(), report.iterations());
+    assertFalse(
+        target.hasServerErrors(),
+        format("FD answered mutants with server errors: {0}", target.getStatusCodes()));
+  }
 }
@@ -45,7 +45,6 @@ import de.gematik.test.fuzzing.fhirfuzz.FhirFuzzImpl;
 import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzConfig;
 import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzerContext;
 import de.gematik.test.fuzzing.string.SimpleMutatorsFactory;
-import de.gematik.test.fuzzing.string.XmlRegExpFactory;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -325,9 +324,8 @@ class ActivateFuzzedKbvBundles extends ErpTest {
                       format(
                           "Fuzzing über den {0}-Tag im Verordnungsdatensatz mit {1} %",
                           betweenTag, percentageSupplier.apply(idx)),
-                      SimpleMutatorsFactory.everything(
-                          XmlRegExpFactory.betweenXmlTag(betweenTag),
-                          percentageSupplier.apply(idx))));
+                      SimpleMutatorsFactory.betweenXmlTag(
+                          betweenTag, percentageSupplier.apply(idx))));
             });
 
     return mutators;
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.core;
+
+import static java.text.MessageFormat.format;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import lombok.val;
+
+/**
+ * Defines how independent actor interactions are executed by {@link ParallelInteractions}
+ *
+ * <p><b>SEQUENTIAL</b> all interactions are executed one after another on the calling thread
+ *
+ * <p><b>PLATFORM_THREADS</b> the interactions are executed on a bounded pool of platform threads
+ *
+ * <p>Note: virtual threads are not offered as long as the testsuite is built for Java 17
+ */
+public enum InteractionExecutionMode {
+  SEQUENTIAL,
+  PLATFORM_THREADS;
+
+  /**
+   * The interactions are mostly blocked in VAU-, Konnektor- or Mock-Calls, thus the pool may exceed
+   * the number of cores but must not grow with the number of interactions
+   */
+  private static final int MAX_PLATFORM_THREADS = 16;
+
+  public static InteractionExecutionMode fromString(String value) {
+    val input = value.trim().replace("-", "_");
+    return Arrays.stream(InteractionExecutionMode.values())
+        .filter(mode -> mode.name().equalsIgnoreCase(input))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new IllegalArgumentException(
+                    format(
+                        "Unknown InteractionExecutionMode {0}, use one of {1}",
+                        value, Arrays.toString(InteractionExecutionMode.values()))));
+  }
+
+  /**
+   * Create a new executor for this mode. The caller is responsible for shutting the executor down
+   *
+   * @return a new ExecutorService; for {@link #SEQUENTIAL} this executor runs all tasks directly
+   *     on the calling thread
+   */
+  public ExecutorService createExecutor() {
+    return switch (this) {
+      case SEQUENTIAL -> MoreExecutors.newDirectExecutorService();
+      case PLATFORM_THREADS -> Executors.newFixedThreadPool(MAX_PLATFORM_THREADS);
+    };
+  }
+}
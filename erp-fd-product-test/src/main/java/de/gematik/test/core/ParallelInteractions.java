@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.core;
+
+import de.gematik.bbriccs.toggle.FeatureConfiguration;
+import de.gematik.test.erezept.toggle.InteractionExecutionModeToggle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Fan out independent actor interactions, e.g. the FD requests of several prescription lifecycles.
+ * Most of the time of such interactions is spent blocked in VAU-, Konnektor- or Mock-Calls, thus
+ * executing them concurrently reduces the wall time of a scenario. By default all interactions are
+ * executed sequentially, the mode can be changed via {@link InteractionExecutionModeToggle}
+ *
+ * <p>Note: Serenity reports steps per thread; interactions performed on other threads than the
+ * test thread are not reported as steps.
+ */
+@Slf4j
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParallelInteractions {
+
+  public static InteractionExecutionMode configuredMode() {
+    return new FeatureConfiguration().getToggle(new InteractionExecutionModeToggle());
+  }
+
+  public static <T> List<T> performAll(List<Callable<T>> interactions) {
+    return performAll(configuredMode(), interactions);
+  }
+
+  /**
+   * Perform all interactions with the given mode and wait for all of them to complete
+   *
+   * @param mode defines how the interactions are executed
+   * @param interactions the independent interactions to be performed
+   * @param <T> is the type of the results of the interactions
+   * @return the results in the same order as the given interactions
+   */
+  @SneakyThrows
+  public static <T> List<T> performAll(
+      InteractionExecutionMode mode, List<Callable<T>> interactions) {
+    log.info("Perform {} interactions with {}", interactions.size(), mode);
+    val executor = mode.createExecutor();
+    try {
+      val futures = new ArrayList<Future<T>>(interactions.size());
+      interactions.forEach(interaction -> futures.add(executor.submit(interaction)));
+
+      val results = new ArrayList<T>(futures.size());
+      for (val future : futures) {
+        results.add(unwrap(future));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  /**
+   * Rethrow the original exception (e.g. an AssertionError) of a failed interaction instead of the
+   * wrapping ExecutionException to keep the test outcome unchanged
+   */
+  @SneakyThrows
+  private static <T> T unwrap(Future<T> future) {
+    try {
+      return future.get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+}
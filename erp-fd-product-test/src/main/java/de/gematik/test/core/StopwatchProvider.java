@@ -23,6 +23,8 @@ package de.gematik.test.core;
 import de.gematik.test.core.exceptions.NotInitializedException;
 import de.gematik.test.erezept.apimeasure.ApiCallStopwatch;
 import de.gematik.test.erezept.apimeasure.DumpingStopwatch;
+import de.gematik.test.erezept.fhir.parser.ValidationResultCache;
+import de.gematik.test.konnektor.metrics.KonnektorLatencyRecorder;
 import lombok.Getter;
 
 public class StopwatchProvider {
@@ -50,6 +52,8 @@ public class StopwatchProvider {
 
   public static void close() {
     getInstance().getStopwatch().close();
+    KonnektorLatencyRecorder.shared().dump("prod_testsuite_konnektor");
+    ValidationResultCache.logStatistics();
     instance = null;
   }
 }
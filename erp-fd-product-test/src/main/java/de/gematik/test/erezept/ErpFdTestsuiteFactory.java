@@ -47,11 +47,13 @@ import de.gematik.test.erezept.config.exceptions.ConfigurationException;
 import de.gematik.test.erezept.eml.EpaMockClient;
 import de.gematik.test.erezept.fhir.parser.FhirParser;
 import de.gematik.test.erezept.fhir.parser.ValidatorType;
+import de.gematik.test.erezept.polling.PollingPolicy;
 import de.gematik.test.erezept.screenplay.abilities.*;
 import de.gematik.test.erezept.trezept.TRegisterMockClient;
 import de.gematik.test.konnektor.Konnektor;
 import de.gematik.test.konnektor.cfg.KonnektorFactory;
 import de.gematik.test.konnektor.soap.mock.vsdm.VsdmService;
+import java.time.Duration;
 import kong.unirest.core.Unirest;
 import kong.unirest.jackson.JacksonObjectMapper;
 import lombok.AccessLevel;
@@ -114,8 +116,8 @@ public class ErpFdTestsuiteFactory extends ConfiguredFactory {
                     UnirestHttpClient.forUrl(epaMockUrl)
                         .xAuthorization(epaMockApiKey)
                         .withoutTlsVerification(),
-                    logRetrieveInterval,
-                    maxWait)));
+                    PollingPolicy.adaptive(
+                        Duration.ofMillis(logRetrieveInterval), Duration.ofMillis(maxWait)))));
   }
 
   @SuppressWarnings("java:S1313")
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fuzzing;
+
+import de.gematik.test.erezept.client.ErpClient;
+import de.gematik.test.erezept.client.rest.ErpResponse;
+import de.gematik.test.erezept.client.usecases.ICommand;
+import de.gematik.test.fuzzing.coverage.CoverageGuidedFuzzer;
+import de.gematik.test.fuzzing.coverage.OutcomeFingerprint;
+import java.util.Collections;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.hl7.fhir.r4.model.Resource;
+
+/**
+ * Target of a {@link CoverageGuidedFuzzer} which sends each mutant to the FD via the {@link
+ * ErpClient} and fingerprints the HTTP status and the OperationOutcome of the response. The
+ * requests are sent directly via the client and are thus not recorded in the Serenity report.
+ *
+ * @param <T> the type of the fuzzed resource
+ */
+public class ErpClientFuzzingTarget<T extends Resource> implements Function<T, OutcomeFingerprint> {
+
+  private final ErpClient erpClient;
+  private final Function<T, ICommand<? extends Resource>> commandFactory;
+  private final SortedMap<Integer, Integer> statusCodes = new TreeMap<>();
+
+  private ErpClientFuzzingTarget(
+      ErpClient erpClient, Function<T, ICommand<? extends Resource>> commandFactory) {
+    this.erpClient = erpClient;
+    this.commandFactory = commandFactory;
+  }
+
+  /**
+   * Create a target which sends each mutant with the command created by the given factory
+   *
+   * @param erpClient to send the requests with
+   * @param commandFactory to create the request for a mutant
+   * @return the ErpClientFuzzingTarget
+   * @param <T> the type of the fuzzed resource
+   */
+  public static <T extends Resource> ErpClientFuzzingTarget<T> sending(
+      ErpClient erpClient, Function<T, ICommand<? extends Resource>> commandFactory) {
+    return new ErpClientFuzzingTarget<>(erpClient, commandFactory);
+  }
+
+  public static OutcomeFingerprint fingerprintOf(ErpResponse<? extends Resource> response) {
+    return OutcomeFingerprint.of(
+        response.getStatusCode(),
+        response.getResourceOptional(OperationOutcome.class).orElse(null));
+  }
+
+  @Override
+  public OutcomeFingerprint apply(T mutant) {
+    ErpResponse<? extends Resource> response = erpClient.request(commandFactory.apply(mutant));
+    statusCodes.merge(response.getStatusCode(), 1, Integer::sum);
+    return fingerprintOf(response);
+  }
+
+  /**
+   * @return how often each HTTP status was answered by the FD
+   */
+  public SortedMap<Integer, Integer> getStatusCodes() {
+    return Collections.unmodifiableSortedMap(statusCodes);
+  }
+
+  /**
+   * @return true if the FD answered at least one mutant with a server error
+   */
+  public boolean hasServerErrors() {
+    return !statusCodes.tailMap(500).isEmpty();
+  }
+}
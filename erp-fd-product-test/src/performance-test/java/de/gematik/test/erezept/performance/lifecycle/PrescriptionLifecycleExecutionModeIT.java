@@ -0,0 +1,156 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.performance.lifecycle;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.gematik.test.core.InteractionExecutionMode;
+import de.gematik.test.core.ParallelInteractions;
+import de.gematik.test.core.annotations.Actor;
+import de.gematik.test.core.annotations.TestcaseId;
+import de.gematik.test.erezept.ErpTest;
+import de.gematik.test.erezept.actors.DoctorActor;
+import de.gematik.test.erezept.actors.PatientActor;
+import de.gematik.test.erezept.client.usecases.TaskAbortCommand;
+import de.gematik.test.erezept.client.usecases.TaskActivateCommand;
+import de.gematik.test.erezept.client.usecases.TaskCreateCommand;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleBuilder;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpMedicationPZNFaker;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpMedicationRequestFaker;
+import de.gematik.test.erezept.fhir.valuesets.StatusKennzeichen;
+import de.gematik.test.erezept.screenplay.abilities.UseTheErpClient;
+import de.gematik.test.erezept.screenplay.abilities.UseTheKonnektor;
+import de.gematik.test.erezept.screenplay.util.SafeAbility;
+import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.serenitybdd.junit5.SerenityJUnit5Extension;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Compares the wall time of independent prescription lifecycles (create, sign, activate, abort)
+ * executed with the different {@link InteractionExecutionMode}s
+ */
+@Slf4j
+@ExtendWith(SerenityJUnit5Extension.class)
+@DisplayName("Messung paralleler E-Rezept Lebenszyklen")
+@Tag("UseCase:Lifecycle")
+class PrescriptionLifecycleExecutionModeIT extends ErpTest {
+
+  private static final int LIFECYCLES = 20;
+
+  @Actor(name = "Adelheid Ulmenwald")
+  private DoctorActor doctor;
+
+  @Actor(name = "Sina Hüllmann")
+  private PatientActor sina;
+
+  @TestcaseId("ERP_PERFORMANCE_LIFECYCLE_01")
+  @ParameterizedTest(name = "[{index}] -> E-Rezept Lebenszyklen mit {0}")
+  @DisplayName("Unabhängige E-Rezept Lebenszyklen mit unterschiedlichen Ausführungsmodi")
+  @EnumSource(InteractionExecutionMode.class)
+  @Tag("ERP_PERFORMANCE_LIFECYCLE_01")
+  void performLifecycles(InteractionExecutionMode mode) {
+    // perform one lifecycle upfront to not measure the initial IDP login and warmup
+    prescriptionLifecycle().call();
+
+    val lifecycles =
+        IntStream.range(0, LIFECYCLES)
+            .mapToObj(idx -> (Callable<Integer>) prescriptionLifecycle())
+            .toList();
+
+    val start = System.nanoTime();
+    val results = ParallelInteractions.performAll(mode, lifecycles);
+    val duration = Duration.ofNanos(System.nanoTime() - start);
+
+    log.info(
+        "Performed {} prescription lifecycles with {} in {} ({} lifecycles/s)",
+        LIFECYCLES,
+        mode,
+        duration,
+        String.format("%.2f", LIFECYCLES * 1000.0 / Math.max(1, duration.toMillis())));
+    results.forEach(statusCode -> assertEquals(204, statusCode));
+  }
+
+  /**
+   * A complete prescription lifecycle which uses the plain ErpClient and Konnektor of the actors
+   * directly: Serenity steps and report data cannot be recorded from other threads than the test
+   * thread
+   */
+  private LifecycleCallable prescriptionLifecycle() {
+    val erpClient = SafeAbility.getAbility(doctor, UseTheErpClient.class).getClient();
+    val konnektorAbility = SafeAbility.getAbility(doctor, UseTheKonnektor.class);
+    val konnektor = konnektorAbility.getKonnektor();
+    val hbaHandle = konnektorAbility.getHbaHandle();
+    val algorithm = konnektorAbility.getAlgorithm();
+
+    return () -> {
+
+      val draftTask = erpClient.request(new TaskCreateCommand()).getExpectedResource();
+      val patientCoverage = sina.getPatientCoverage();
+      val practitioner = doctor.getPractitioner();
+      val medication = KbvErpMedicationPZNFaker.builder().fake();
+      val medicationRequest =
+          KbvErpMedicationRequestFaker.builder()
+              .withMedication(medication)
+              .withPatient(patientCoverage.first)
+              .withInsurance(patientCoverage.second)
+              .withRequester(practitioner)
+              .fake();
+      val kbvBundle =
+          KbvErpBundleBuilder.forPrescription(draftTask.getPrescriptionId())
+              .practitioner(practitioner)
+              .medicalOrganization(doctor.getMedicalOrganization())
+              .patient(patientCoverage.first)
+              .insurance(patientCoverage.second)
+              .statusKennzeichen(StatusKennzeichen.NONE, practitioner)
+              .medicationRequest(medicationRequest)
+              .medication(medication)
+              .build();
+
+      val encoded = erpClient.encode(kbvBundle, erpClient.getSendMime().toFhirEncoding());
+      val signed =
+          konnektor.execute(new SignXMLDocumentCommand(hbaHandle, encoded, algorithm)).getPayload();
+      val activated =
+          erpClient
+              .request(
+                  new TaskActivateCommand(draftTask.getTaskId(), draftTask.getAccessCode(), signed))
+              .getExpectedResource();
+      return erpClient
+          .request(new TaskAbortCommand(activated.getTaskId(), activated.getAccessCode()))
+          .getStatusCode();
+    };
+  }
+
+  /** a Callable without checked exceptions */
+  @FunctionalInterface
+  private interface LifecycleCallable extends Callable<Integer> {
+    @Override
+    Integer call();
+  }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.core;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.bbriccs.utils.PrivateConstructorsUtil;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ParallelInteractionsTest {
+
+  @Test
+  void shouldNotInstantiate() {
+    assertTrue(PrivateConstructorsUtil.isUtilityConstructor(ParallelInteractions.class));
+  }
+
+  @Test
+  void shouldDefaultToSequential() {
+    assertEquals(InteractionExecutionMode.SEQUENTIAL, ParallelInteractions.configuredMode());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"platform_threads", "PLATFORM-THREADS", " Platform_Threads "})
+  void shouldParseExecutionMode(String value) {
+    assertEquals(
+        InteractionExecutionMode.PLATFORM_THREADS, InteractionExecutionMode.fromString(value));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"carrier", "virtual_threads"})
+  void shouldThrowOnUnknownExecutionMode(String value) {
+    assertThrows(IllegalArgumentException.class, () -> InteractionExecutionMode.fromString(value));
+  }
+
+  @ParameterizedTest
+  @EnumSource(InteractionExecutionMode.class)
+  void shouldKeepOrderOfResults(InteractionExecutionMode mode) {
+    val interactions =
+        IntStream.range(0, 20).mapToObj(idx -> (Callable<Integer>) () -> idx * 2).toList();
+    val results = ParallelInteractions.performAll(mode, interactions);
+    assertEquals(IntStream.range(0, 20).map(idx -> idx * 2).boxed().toList(), results);
+  }
+
+  @Test
+  void shouldPerformSequentialOnCallingThread() {
+    val caller = Thread.currentThread();
+    List<Callable<Thread>> interactions = List.of(Thread::currentThread, Thread::currentThread);
+    val threads =
+        ParallelInteractions.performAll(InteractionExecutionMode.SEQUENTIAL, interactions);
+    threads.forEach(t -> assertEquals(caller, t));
+  }
+
+  @Test
+  void shouldPerformConcurrently() {
+    val caller = Thread.currentThread();
+    List<Callable<Thread>> interactions = List.of(Thread::currentThread, Thread::currentThread);
+    val threads =
+        ParallelInteractions.performAll(InteractionExecutionMode.PLATFORM_THREADS, interactions);
+    threads.forEach(t -> assertNotEquals(caller, t));
+  }
+
+  @ParameterizedTest
+  @EnumSource(InteractionExecutionMode.class)
+  void shouldRethrowOriginalError(InteractionExecutionMode mode) {
+    List<Callable<Integer>> interactions =
+        List.of(
+            () -> 1,
+            () -> {
+              throw new AssertionError("interaction failed");
+            });
+    val error =
+        assertThrows(
+            AssertionError.class, () -> ParallelInteractions.performAll(mode, interactions));
+    assertEquals("interaction failed", error.getMessage());
+  }
+}
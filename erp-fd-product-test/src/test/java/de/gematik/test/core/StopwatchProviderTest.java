@@ -23,7 +23,9 @@ package de.gematik.test.core;
 import static org.junit.jupiter.api.Assertions.*;
 
 import de.gematik.test.core.exceptions.NotInitializedException;
+import java.nio.file.Path;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.junit.jupiter.api.Test;
 
 @Slf4j
@@ -34,6 +36,11 @@ class StopwatchProviderTest {
     assertDoesNotThrow(StopwatchProvider::init);
     assertEquals(StopwatchProvider.getInstance(), StopwatchProvider.getInstance());
     assertDoesNotThrow(StopwatchProvider::close);
+
+    val konnektorDump =
+        Path.of(
+            System.getProperty("user.dir"), "target", "stopwatch", "prod_testsuite_konnektor.json");
+    assertTrue(konnektorDump.toFile().exists());
   }
 
   @Test
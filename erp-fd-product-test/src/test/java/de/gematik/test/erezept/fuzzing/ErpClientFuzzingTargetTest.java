@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fuzzing;
+
+import static de.gematik.bbriccs.fhir.codec.utils.FhirTestResourceUtil.createEmptyValidationResult;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gematik.test.erezept.client.ErpClient;
+import de.gematik.test.erezept.client.rest.ErpResponse;
+import de.gematik.test.erezept.client.usecases.TaskCreateCommand;
+import de.gematik.test.erezept.fhir.r4.erp.ErxTask;
+import de.gematik.test.fuzzing.coverage.OutcomeFingerprint;
+import java.util.Map;
+import lombok.val;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.hl7.fhir.r4.model.Patient;
+import org.hl7.fhir.r4.model.Resource;
+import org.junit.jupiter.api.Test;
+
+class ErpClientFuzzingTargetTest {
+
+  private static ErpResponse<ErxTask> responseOf(int statusCode, Resource resource) {
+    return ErpResponse.forPayload(resource, ErxTask.class)
+        .withStatusCode(statusCode)
+        .withHeaders(Map.of())
+        .andValidationResult(createEmptyValidationResult());
+  }
+
+  private static OperationOutcome operationOutcome(String diagnostics) {
+    val oo = new OperationOutcome();
+    oo.addIssue()
+        .setSeverity(OperationOutcome.IssueSeverity.ERROR)
+        .setCode(OperationOutcome.IssueType.INVALID)
+        .setDiagnostics(diagnostics);
+    return oo;
+  }
+
+  @Test
+  void shouldFingerprintStatusAndOperationOutcome() {
+    val oo = operationOutcome("invalid KBV bundle");
+    val fingerprint = ErpClientFuzzingTarget.fingerprintOf(responseOf(400, oo));
+    assertEquals(OutcomeFingerprint.of(400, oo), fingerprint);
+    assertTrue(fingerprint.features().contains("HTTP 400"));
+  }
+
+  @Test
+  void shouldFingerprintResponsesWithoutOperationOutcome() {
+    val fingerprint = ErpClientFuzzingTarget.fingerprintOf(responseOf(201, new ErxTask()));
+    assertEquals(OutcomeFingerprint.of(201, null), fingerprint);
+  }
+
+  @Test
+  void shouldSendMutantsAndCountStatusCodes() {
+    val erpClient = mock(ErpClient.class);
+    when(erpClient.request(any(TaskCreateCommand.class)))
+        .thenReturn(responseOf(201, new ErxTask()))
+        .thenReturn(responseOf(400, operationOutcome("invalid")))
+        .thenReturn(responseOf(201, new ErxTask()));
+
+    val target =
+        ErpClientFuzzingTarget.<Patient>sending(erpClient, mutant -> new TaskCreateCommand());
+    val first = target.apply(new Patient());
+    val second = target.apply(new Patient());
+    val third = target.apply(new Patient());
+
+    assertEquals(first, third);
+    assertNotEquals(first, second);
+    assertEquals(Map.of(201, 2, 400, 1), target.getStatusCodes());
+    assertFalse(target.hasServerErrors());
+  }
+
+  @Test
+  void shouldDetectServerErrors() {
+    val erpClient = mock(ErpClient.class);
+    when(erpClient.request(any(TaskCreateCommand.class)))
+        .thenReturn(responseOf(500, operationOutcome("internal error")));
+
+    val target =
+        ErpClientFuzzingTarget.<Patient>sending(erpClient, mutant -> new TaskCreateCommand());
+    target.apply(new Patient());
+    assertTrue(target.hasServerErrors());
+  }
+}
@@ -0,0 +1,319 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import static java.text.MessageFormat.format;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import de.gematik.test.fuzzing.core.FuzzingMutator;
+import de.gematik.test.fuzzing.core.NamedEnvelope;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.function.Function;
+import javax.annotation.Nullable;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.hl7.fhir.r4.model.Resource;
+
+/**
+ * Coverage-guided fuzzer which uses the feedback of a target (e.g. the validator or the server) to
+ * steer the fuzzing.
+ *
+ * <p>Each mutant is fingerprinted by the {@link OutcomeFingerprint} it triggers on the target.
+ * Mutants which reach a new fingerprint are kept in the corpus and serve as parents for further
+ * mutations. Mutators which were involved in reaching new fingerprints are selected more often than
+ * the ones which keep tripping the same rules again and again.
+ *
+ * @param <T> the type of the fuzzed resource
+ */
+@Slf4j
+public class CoverageGuidedFuzzer<T extends Resource> {
+
+  private static final int DEFAULT_MAX_STACKED_MUTATORS = 3;
+
+  private final FhirParser parser;
+  private final Class<T> type;
+  private final String encodedSeed;
+  private final List<NamedEnvelope<FuzzingMutator<T>>> mutators;
+  private final Function<T, OutcomeFingerprint> target;
+  @Getter private final long randomSeed;
+  private final int maxStackedMutators;
+  @Nullable private final FuzzCorpus corpus;
+
+  @SuppressWarnings("java:S107")
+  private CoverageGuidedFuzzer(
+      FhirParser parser,
+      Class<T> type,
+      String encodedSeed,
+      List<NamedEnvelope<FuzzingMutator<T>>> mutators,
+      Function<T, OutcomeFingerprint> target,
+      long randomSeed,
+      int maxStackedMutators,
+      @Nullable FuzzCorpus corpus) {
+    if (mutators.isEmpty()) {
+      throw new IllegalArgumentException("Coverage guided fuzzing requires at least one mutator");
+    }
+    if (maxStackedMutators < 1) {
+      throw new IllegalArgumentException(
+          format("At least one mutator must be stacked but was given {0}", maxStackedMutators));
+    }
+    this.parser = parser;
+    this.type = type;
+    this.encodedSeed = encodedSeed;
+    this.mutators = List.copyOf(mutators);
+    this.target = target;
+    this.randomSeed = randomSeed;
+    this.maxStackedMutators = maxStackedMutators;
+    this.corpus = corpus;
+  }
+
+  /**
+   * Create a fuzzer without a corpus on disk and a random seed
+   *
+   * @param parser to copy the mutants via encoding and decoding
+   * @param seed is the initial resource which will be mutated
+   * @param mutators to choose from
+   * @param target which is fed with each mutant and returns the fingerprint of the outcome
+   * @return the CoverageGuidedFuzzer
+   * @param <T> the type of the fuzzed resource
+   */
+  @SuppressWarnings("unchecked")
+  public static <T extends Resource> CoverageGuidedFuzzer<T> forSeed(
+      FhirParser parser,
+      T seed,
+      List<NamedEnvelope<FuzzingMutator<T>>> mutators,
+      Function<T, OutcomeFingerprint> target) {
+    return new CoverageGuidedFuzzer<>(
+        parser,
+        (Class<T>) seed.getClass(),
+        parser.encode(seed, EncodingType.XML),
+        mutators,
+        target,
+        new SplittableRandom().nextLong(),
+        DEFAULT_MAX_STACKED_MUTATORS,
+        null);
+  }
+
+  /**
+   * Use the validation result of the given parser as feedback
+   *
+   * @param parser to encode and validate the mutants
+   * @return the target function
+   * @param <T> the type of the fuzzed resource
+   */
+  public static <T extends Resource> Function<T, OutcomeFingerprint> validatorFeedback(
+      FhirParser parser) {
+    return mutant ->
+        OutcomeFingerprint.of(parser.validate(parser.encode(mutant, EncodingType.XML)));
+  }
+
+  public CoverageGuidedFuzzer<T> withCorpus(Path directory) {
+    return new CoverageGuidedFuzzer<>(
+        parser,
+        type,
+        encodedSeed,
+        mutators,
+        target,
+        randomSeed,
+        maxStackedMutators,
+        new FuzzCorpus(directory));
+  }
+
+  public CoverageGuidedFuzzer<T> withRandomSeed(long randomSeed) {
+    return new CoverageGuidedFuzzer<>(
+        parser, type, encodedSeed, mutators, target, randomSeed, maxStackedMutators, corpus);
+  }
+
+  public CoverageGuidedFuzzer<T> withMaxStackedMutators(int maxStackedMutators) {
+    return new CoverageGuidedFuzzer<>(
+        parser, type, encodedSeed, mutators, target, randomSeed, maxStackedMutators, corpus);
+  }
+
+  /**
+   * Run the given number of iterations on the current thread. The outcomes of the mutants which
+   * are already in the corpus are known from the start, thus a run continues where the previous
+   * one stopped
+   *
+   * @param iterations to run
+   * @return the CoverageReport
+   */
+  public CoverageReport run(int iterations) {
+    val threadMx = ManagementFactory.getThreadMXBean();
+    val session = new Session();
+    val cpuStart = threadMx.getCurrentThreadCpuTime();
+    val wallStart = System.nanoTime();
+    for (var i = 0; i < iterations; i++) {
+      session.iterate();
+    }
+    val wallTime = Duration.ofNanos(System.nanoTime() - wallStart);
+    val cpuTime =
+        cpuStart < 0 ? wallTime : Duration.ofNanos(threadMx.getCurrentThreadCpuTime() - cpuStart);
+
+    val report = session.report(iterations, cpuTime, wallTime);
+    log.info(report.toString());
+    return report;
+  }
+
+  private OutcomeFingerprint evaluate(T mutant) {
+    try {
+      return target.apply(mutant);
+    } catch (RuntimeException e) {
+      return OutcomeFingerprint.ofException(e);
+    }
+  }
+
+  private Optional<String> encode(T mutant) {
+    try {
+      return Optional.of(parser.encode(mutant, EncodingType.XML));
+    } catch (RuntimeException e) {
+      log.debug(format("Unable to encode mutant: {0}", e.getMessage()));
+      return Optional.empty();
+    }
+  }
+
+  private Optional<T> decode(String mutant) {
+    try {
+      return Optional.of(parser.decode(type, mutant));
+    } catch (RuntimeException e) {
+      log.debug(format("Unable to decode mutant: {0}", e.getMessage()));
+      return Optional.empty();
+    }
+  }
+
+  private static class MutatorStats<T> {
+    private final NamedEnvelope<FuzzingMutator<T>> mutator;
+    private int applications;
+    private int newOutcomes;
+
+    private MutatorStats(NamedEnvelope<FuzzingMutator<T>> mutator) {
+      this.mutator = mutator;
+    }
+
+    /** the smoothed rate of reaching new outcomes which keeps unproductive mutators selectable */
+    private double weight() {
+      return (newOutcomes + 1.0) / (applications + 2.0);
+    }
+
+    private CoverageReport.MutatorScore toScore() {
+      return new CoverageReport.MutatorScore(
+          mutator.getName(), applications, newOutcomes, weight());
+    }
+  }
+
+  /** the state of a single run */
+  private class Session {
+    private final Random random = new Random(randomSeed);
+    private final List<MutatorStats<T>> stats =
+        mutators.stream().map(MutatorStats::new).toList();
+    private final Set<OutcomeFingerprint> outcomes = new HashSet<>();
+    private final List<String> parents = new ArrayList<>();
+    private int newOutcomes;
+
+    private Session() {
+      parents.add(encodedSeed);
+      outcomes.add(evaluate(parser.decode(type, encodedSeed)));
+      if (corpus != null) {
+        for (val mutant : corpus.load()) {
+          decode(mutant)
+              .ifPresent(
+                  decoded -> {
+                    parents.add(mutant);
+                    outcomes.add(evaluate(decoded));
+                  });
+        }
+        log.info(
+            format(
+                "Loaded {0} mutants with {1} distinct outcomes from {2}",
+                parents.size() - 1, outcomes.size(), corpus.getDirectory()));
+      }
+    }
+
+    private void iterate() {
+      val mutant =
+          decode(parents.get(random.nextInt(parents.size())))
+              .orElseGet(() -> parser.decode(type, encodedSeed));
+      val applied = new LinkedHashSet<MutatorStats<T>>();
+      val stackSize = 1 + random.nextInt(maxStackedMutators);
+      for (var i = 0; i < stackSize; i++) {
+        val mutatorStats = selectMutator();
+        mutatorStats.applications++;
+        applied.add(mutatorStats);
+        try {
+          mutatorStats.mutator.getParameter().accept(mutant);
+        } catch (RuntimeException e) {
+          log.debug(
+              format(
+                  "Mutator {0} could not be applied: {1}",
+                  mutatorStats.mutator.getName(), e.getMessage()));
+        }
+      }
+
+      val fingerprint = evaluate(mutant);
+      if (outcomes.add(fingerprint)) {
+        newOutcomes++;
+        applied.forEach(s -> s.newOutcomes++);
+        encode(mutant)
+            .ifPresent(
+                encoded -> {
+                  parents.add(encoded);
+                  if (corpus != null) {
+                    val names = applied.stream().map(s -> s.mutator.getName()).toList();
+                    corpus.store(fingerprint, encoded, names);
+                  }
+                });
+      }
+    }
+
+    private MutatorStats<T> selectMutator() {
+      val total = stats.stream().mapToDouble(MutatorStats::weight).sum();
+      var threshold = random.nextDouble() * total;
+      for (val s : stats) {
+        threshold -= s.weight();
+        if (threshold <= 0) {
+          return s;
+        }
+      }
+      return stats.get(stats.size() - 1);
+    }
+
+    private CoverageReport report(int iterations, Duration cpuTime, Duration wallTime) {
+      val scores =
+          stats.stream()
+              .map(MutatorStats::toScore)
+              .sorted(Comparator.comparingDouble(CoverageReport.MutatorScore::weight).reversed())
+              .toList();
+      return new CoverageReport(
+          iterations, outcomes.size(), newOutcomes, cpuTime, wallTime, scores);
+    }
+  }
+}
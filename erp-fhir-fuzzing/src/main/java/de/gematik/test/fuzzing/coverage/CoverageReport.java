@@ -0,0 +1,72 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import static java.text.MessageFormat.format;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Report of a {@link CoverageGuidedFuzzer} run
+ *
+ * @param iterations which were executed
+ * @param distinctOutcomes known after the run including the ones loaded from the corpus
+ * @param newOutcomes which were reached for the first time during the run
+ * @param cpuTime consumed by the fuzzing thread
+ * @param wallTime of the run
+ * @param mutatorScores of all mutators ordered by their weight
+ */
+public record CoverageReport(
+    int iterations,
+    int distinctOutcomes,
+    int newOutcomes,
+    Duration cpuTime,
+    Duration wallTime,
+    List<MutatorScore> mutatorScores) {
+
+  public double getDistinctOutcomesPerCpuMinute() {
+    if (cpuTime.isZero()) {
+      return newOutcomes;
+    }
+    return newOutcomes / (cpuTime.toNanos() / 60_000_000_000.0);
+  }
+
+  @Override
+  public String toString() {
+    return format(
+        "{0} iterations reached {1} new of {2} distinct outcomes in {3} ms CPU time ({4} new"
+            + " outcomes per CPU-minute)",
+        iterations,
+        newOutcomes,
+        distinctOutcomes,
+        cpuTime.toMillis(),
+        String.format("%.1f", getDistinctOutcomesPerCpuMinute()));
+  }
+
+  /**
+   * @param name of the mutator
+   * @param applications how often the mutator was applied
+   * @param newOutcomes how often the mutator was involved in reaching a new outcome
+   * @param weight of the mutator for the selection
+   */
+  public record MutatorScore(String name, int applications, int newOutcomes, double weight) {}
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import static java.text.MessageFormat.format;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * On-disk corpus of mutants which reached a new {@link OutcomeFingerprint}. Each entry consists of
+ * the encoded mutant <code>{digest}.xml</code> and a description <code>{digest}.txt</code> of the
+ * applied mutators and the features of the fingerprint.
+ */
+@Slf4j
+public class FuzzCorpus {
+
+  private static final String MUTANT_SUFFIX = ".xml";
+  private static final String DESCRIPTION_SUFFIX = ".txt";
+
+  @Getter private final Path directory;
+
+  @SneakyThrows
+  public FuzzCorpus(Path directory) {
+    this.directory = Files.createDirectories(directory);
+  }
+
+  @SneakyThrows
+  public void store(OutcomeFingerprint fingerprint, String mutant, List<String> appliedMutators) {
+    val description =
+        format(
+            "Mutators:\n{0}\n\nOutcome {1}:\n{2}\n",
+            String.join("\n", appliedMutators),
+            fingerprint.digest(),
+            String.join("\n", fingerprint.features()));
+    Files.writeString(
+        directory.resolve(fingerprint.digest() + MUTANT_SUFFIX), mutant, StandardCharsets.UTF_8);
+    Files.writeString(
+        directory.resolve(fingerprint.digest() + DESCRIPTION_SUFFIX),
+        description,
+        StandardCharsets.UTF_8);
+  }
+
+  /**
+   * Load all mutants of this corpus
+   *
+   * @return the encoded mutants ordered by their digest
+   */
+  @SneakyThrows
+  public List<String> load() {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(f -> f.getFileName().toString().endsWith(MUTANT_SUFFIX))
+          .sorted()
+          .map(FuzzCorpus::read)
+          .toList();
+    }
+  }
+
+  private static String read(Path file) {
+    try {
+      return Files.readString(file, StandardCharsets.UTF_8);
+    } catch (IOException e) {
+      throw new IllegalStateException(format("Unable to read corpus entry {0}", file), e);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import ca.uhn.fhir.validation.SingleValidationMessage;
+import ca.uhn.fhir.validation.ValidationResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Objects;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.hl7.fhir.r4.model.StringType;
+
+/**
+ * Fingerprint of the outcome which a mutant triggered on the validator or on the server. The
+ * features are normalized (indices within locations and numbers within messages are removed) so
+ * that two mutants tripping the same rules at the same places share the same fingerprint.
+ *
+ * @param digest is the SHA-256 of the sorted features
+ * @param features which make up this fingerprint
+ */
+public record OutcomeFingerprint(String digest, SortedSet<String> features) {
+
+  private static final Pattern INDEX = Pattern.compile("\\[\\d+]");
+  private static final Pattern NUMBER = Pattern.compile("\\d+");
+
+  public static OutcomeFingerprint of(ValidationResult validationResult) {
+    return of(
+        validationResult.getMessages().stream().map(OutcomeFingerprint::featureOf).toList());
+  }
+
+  /**
+   * Fingerprint of a response of the server
+   *
+   * @param statusCode of the response
+   * @param operationOutcome which was returned by the server or null if the response had none
+   * @return the OutcomeFingerprint
+   */
+  public static OutcomeFingerprint of(int statusCode, OperationOutcome operationOutcome) {
+    val features = new TreeSet<String>();
+    features.add("HTTP " + statusCode);
+    if (operationOutcome != null) {
+      operationOutcome.getIssue().stream()
+          .map(OutcomeFingerprint::featureOf)
+          .forEach(features::add);
+    }
+    return of(features);
+  }
+
+  public static OutcomeFingerprint ofException(Throwable throwable) {
+    return of(List.of("exception|" + throwable.getClass().getName()));
+  }
+
+  public static OutcomeFingerprint of(Collection<String> features) {
+    val sorted = new TreeSet<>(features);
+    return new OutcomeFingerprint(
+        digest(String.join("\n", sorted)), Collections.unmodifiableSortedSet(sorted));
+  }
+
+  private static String featureOf(SingleValidationMessage message) {
+    val id =
+        message.getMessageId() != null
+            ? message.getMessageId()
+            : normalizeMessage(message.getMessage());
+    return String.join(
+        "|",
+        String.valueOf(message.getSeverity()),
+        id,
+        normalizeLocation(message.getLocationString()));
+  }
+
+  private static String featureOf(OperationOutcome.OperationOutcomeIssueComponent issue) {
+    val message =
+        issue.getDetails().hasText() ? issue.getDetails().getText() : issue.getDiagnostics();
+    val expressions =
+        issue.getExpression().stream()
+            .map(StringType::getValue)
+            .map(OutcomeFingerprint::normalizeLocation)
+            .collect(Collectors.joining(","));
+    return String.join(
+        "|",
+        String.valueOf(issue.getSeverity()),
+        String.valueOf(issue.getCode()),
+        normalizeMessage(message),
+        expressions);
+  }
+
+  private static String normalizeLocation(String location) {
+    return INDEX.matcher(Objects.toString(location, "")).replaceAll("[]");
+  }
+
+  private static String normalizeMessage(String message) {
+    return NUMBER.matcher(Objects.toString(message, "")).replaceAll("#");
+  }
+
+  @SneakyThrows
+  private static String digest(String content) {
+    val md = MessageDigest.getInstance("SHA-256");
+    return HexFormat.of().formatHex(md.digest(content.getBytes(StandardCharsets.UTF_8)));
+  }
+}
@@ -28,13 +28,11 @@ import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
 import de.gematik.test.erezept.fhir.parser.FhirParser;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import de.gematik.test.fuzzing.fhirfuzz.campaign.FuzzCampaign;
 import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzConfig;
-import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzOperationResult;
-import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzerContext;
 import java.io.BufferedWriter;
 import java.io.FileWriter;
 import java.nio.file.Path;
-import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
@@ -45,8 +43,6 @@ import org.hl7.fhir.r4.model.Bundle;
 public class FuzzMain {
   private static FhirParser fhirParser;
   private static FuzzConfig fuzzConfig;
-  private static String isValidBeforeFuzz;
-  private static boolean xmlIsValidAfterFuzz;
 
   private FuzzMain() {
     throw new IllegalStateException("MainFuzz has no Constructor");
@@ -54,10 +50,13 @@ public class FuzzMain {
 
   /**
    * Fuzzes a given Bundle and write it out in files If given bundle or given configJson is invalid
-   * it will be set random.
+   * it will be set random. The iterations are run as a {@link FuzzCampaign}, thus each iteration
+   * can be replayed from the master seed which is logged at the start of the campaign.
    *
-   * @param args [0] = bundle [1] = config Params as json-String
+   * @param args [0] = bundle [1] = config Params as json-String [2] = optional master seed [3] =
+   *     optional number of threads
    */
+  @SneakyThrows
   public static String main(String[] args) {
     String bundleString = getString(args);
     String configString = getConfigString(args);
@@ -67,74 +66,74 @@ public class FuzzMain {
     if (fuzzConfig == null) {
       fuzzConfig = FuzzConfig.getRandom();
     }
-    FuzzerContext fuzzerContext = new FuzzerContext(fuzzConfig);
-    FhirFuzzImpl fhirBundleFuzz = new FhirFuzzImpl(fuzzerContext);
-    Bundle bundle;
-    Bundle bundleCopy = new Bundle();
     val emptyTargetDir = Path.of(System.getProperty("user.dir"), "target", "tmp", "out");
     emptyTargetDir.toFile().mkdirs();
-    String xmlFuzzedBundle = "";
-    for (int i = 0; i < (fuzzConfig.getIterations() != 0 ? fuzzConfig.getIterations() : 10); i++) {
-      fuzzerContext.clearOperationLogs();
-      var fuzzLog =
-          "______________________________________________ RUN: "
-              + (i + 1)
-              + " ________________________________________";
-      fuzzerContext
-          .getOperationLogs()
-          .add(
-              new FuzzOperationResult<>(
-                  "fuzzConfig parameters: ",
-                  "actual used parameters",
-                  fuzzerContext.getFuzzConfig().toString()));
-      try {
-        bundle = decodeBundleOrFake(bundleString, fhirParser);
-        bundleCopy.copyValues(bundle);
-        // fuzz
-        fhirBundleFuzz.fuzz(bundle);
-        // encode and validate given one or generated default bundle
-        val jsonOriginalBundle = fhirParser.encode(bundleCopy, EncodingType.JSON);
-        isValidBeforeFuzz = "_isValid_" + fhirParser.isValid(jsonOriginalBundle);
-        fuzzLog =
-            fuzzerContext.getOperationLogs().stream()
-                .map(Object::toString)
-                .collect(Collectors.joining("\n"));
-        // XML
-        xmlFuzzedBundle = fhirParser.encode(bundle, EncodingType.XML);
-        xmlIsValidAfterFuzz = fhirParser.isValid(xmlFuzzedBundle);
-        log.info(
-            " iteration: "
-                + (i + 1)
-                + ", is valid after fuzz: "
-                + xmlIsValidAfterFuzz
-                + "\n"
-                + fuzzConfig);
-        possibleSaveFiles(bundle, emptyTargetDir, xmlFuzzedBundle, i, fuzzLog, jsonOriginalBundle);
 
-      } catch (Exception e) {
-        log.info(format("writing  failed: {0} out results: {1} ", e, fuzzLog));
-        writeStringUsingBufferedWriter(
-            xmlFuzzedBundle, emptyTargetDir, format("Run_{0}_xmlFuzzedBundle{1}.xml", i, false));
-        writeStringUsingBufferedWriter(
-            fuzzLog, emptyTargetDir, format("Run_{0}_fuzzLog{1}.txt", i, false));
-        writeStringUsingBufferedWriter(
-            e.toString(), emptyTargetDir, format("Run_{0}_StackTrace{1}.txt", i, false));
-        throw e;
-      }
+    val template = decodeBundleOrFake(bundleString, fhirParser);
+    // encode and validate given one or generated default bundle
+    val jsonOriginalBundle = fhirParser.encode(template, EncodingType.JSON);
+    val isValidBeforeFuzz = "_isValid_" + fhirParser.isValid(jsonOriginalBundle);
+
+    var fuzzCampaign =
+        FuzzCampaign.forTemplate(
+                template,
+                (bundle, i) -> {
+                  val xmlFuzzedBundle = fhirParser.encode(bundle, EncodingType.XML);
+                  val xmlIsValidAfterFuzz = fhirParser.isValid(xmlFuzzedBundle);
+                  log.info(
+                      " iteration: "
+                          + (i + 1)
+                          + ", is valid after fuzz: "
+                          + xmlIsValidAfterFuzz
+                          + "\n"
+                          + fuzzConfig);
+                  possibleSaveFiles(
+                      bundle,
+                      emptyTargetDir,
+                      xmlFuzzedBundle,
+                      xmlIsValidAfterFuzz,
+                      i,
+                      jsonOriginalBundle,
+                      isValidBeforeFuzz);
+                })
+            .withConfig(fuzzConfig);
+    val masterSeed = getMasterSeed(args);
+    if (masterSeed != null) {
+      fuzzCampaign = fuzzCampaign.withMasterSeed(masterSeed);
+    }
+    val parallelism = getParallelism(args);
+    if (parallelism != null) {
+      fuzzCampaign = fuzzCampaign.withParallelism(parallelism);
+    }
+
+    val result = fuzzCampaign.run();
+    for (val finding : result.findings()) {
+      val i = finding.iteration();
+      val fuzzLog = String.join("\n", finding.operationLogs());
+      log.info(format("writing  failed: {0} out results: {1} ", finding.cause(), fuzzLog));
+      writeStringUsingBufferedWriter(
+          fuzzLog, emptyTargetDir, format("Run_{0}_fuzzLog{1}.txt", i, false));
+      writeStringUsingBufferedWriter(
+          finding.cause().toString(),
+          emptyTargetDir,
+          format("Run_{0}_StackTrace{1}.txt", i, false));
     }
-    return xmlFuzzedBundle;
+    if (result.hasFindings()) {
+      throw result.findings().get(0).cause();
+    }
+    return fhirParser.encode(fuzzCampaign.replay(result.iterations() - 1), EncodingType.XML);
   }
 
   private static void possibleSaveFiles(
       Bundle bundle,
       Path emptyTargetDir,
       String xmlFuzzedBundle,
+      boolean xmlIsValidAfterFuzz,
       int i,
-      String fuzzLog,
-      String jsonOriginalBundle) {
+      String jsonOriginalBundle,
+      String isValidBeforeFuzz) {
     if (fuzzConfig.getShouldPrintToFile()) {
       val jsonFuzzedBundle = fhirParser.encode(bundle, EncodingType.JSON);
-      val isValidAfterFuzz = "_isvalid_" + fhirParser.isValid(jsonFuzzedBundle);
       writeStringUsingBufferedWriter(
           xmlFuzzedBundle,
           emptyTargetDir,
@@ -143,16 +142,29 @@ public class FuzzMain {
           jsonFuzzedBundle,
           emptyTargetDir,
           format("Run_{0}_fuzzedBundle{1}.json", i, isValidBeforeFuzz));
-      writeStringUsingBufferedWriter(
-          fuzzLog, emptyTargetDir, format("Run_{0}_fuzzLog{1}.txt", i, isValidAfterFuzz));
       writeStringUsingBufferedWriter(
           jsonOriginalBundle,
           emptyTargetDir,
           format("Run_{0}_orgBundle{1}.json", i, isValidBeforeFuzz));
-      log.info("log.info: {}", fuzzLog);
     }
   }
 
+  @Nullable
+  private static Long getMasterSeed(String[] args) {
+    if (args.length > 2 && args[2] != null && !args[2].isBlank()) {
+      return Long.parseLong(args[2].trim());
+    }
+    return null;
+  }
+
+  @Nullable
+  private static Integer getParallelism(String[] args) {
+    if (args.length > 3 && args[3] != null && !args[3].isBlank()) {
+      return Integer.parseInt(args[3].trim());
+    }
+    return null;
+  }
+
   @Nullable
   private static String getString(String[] args) {
     String bundleString;
@@ -0,0 +1,234 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.fhirfuzz.campaign;
+
+import static java.text.MessageFormat.format;
+
+import de.gematik.test.fuzzing.fhirfuzz.FhirFuzzImpl;
+import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzConfig;
+import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzerContext;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.Random;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.IntStream;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.hl7.fhir.r4.model.Bundle;
+
+/**
+ * Runs the iterations of a fuzzing campaign on a pre-decoded template bundle in parallel.
+ *
+ * <p>Each worker thread owns its {@link FuzzerContext}, its own copy of the {@link FuzzConfig} and
+ * its own copy of the template. Before each iteration the config of the worker is reset, because
+ * fuzzers may modify it, and the random source of the worker is reseeded with a seed which is
+ * derived from the master seed and the iteration only. Thus, every iteration (and every finding)
+ * can be replayed from (master seed, iteration) independently of the number of threads and the
+ * scheduling.
+ */
+@Slf4j
+public class FuzzCampaign {
+
+  private static final int DEFAULT_ITERATIONS = 10;
+
+  private final Bundle template;
+  private final ObjIntConsumer<Bundle> target;
+  @Getter private final long masterSeed;
+  @Getter private final int parallelism;
+  private final FuzzConfig fuzzConfig;
+
+  private FuzzCampaign(
+      Bundle template,
+      ObjIntConsumer<Bundle> target,
+      long masterSeed,
+      int parallelism,
+      FuzzConfig fuzzConfig) {
+    if (parallelism < 1) {
+      throw new IllegalArgumentException(
+          format("Parallelism must be at least 1 but was given {0}", parallelism));
+    }
+    this.template = template;
+    this.target = target;
+    this.masterSeed = masterSeed;
+    this.parallelism = parallelism;
+    this.fuzzConfig = fuzzConfig;
+  }
+
+  /**
+   * Create a campaign with a random master seed, the default {@link FuzzConfig} and one worker per
+   * available processor
+   *
+   * @param template is the already decoded bundle which will be copied for each iteration
+   * @param target is fed with each fuzzed bundle; throwing an exception marks a finding
+   * @return the FuzzCampaign
+   */
+  public static FuzzCampaign forTemplate(Bundle template, Consumer<Bundle> target) {
+    return forTemplate(template, (bundle, iteration) -> target.accept(bundle));
+  }
+
+  /**
+   * Create a campaign with a random master seed, the default {@link FuzzConfig} and one worker per
+   * available processor
+   *
+   * @param template is the already decoded bundle which will be copied for each iteration
+   * @param target is fed with each fuzzed bundle and its iteration; throwing an exception marks a
+   *     finding
+   * @return the FuzzCampaign
+   */
+  public static FuzzCampaign forTemplate(Bundle template, ObjIntConsumer<Bundle> target) {
+    return new FuzzCampaign(
+        template,
+        target,
+        new SplittableRandom().nextLong(),
+        Runtime.getRuntime().availableProcessors(),
+        FuzzConfig.getDefault());
+  }
+
+  public FuzzCampaign withMasterSeed(long masterSeed) {
+    return new FuzzCampaign(template, target, masterSeed, parallelism, fuzzConfig);
+  }
+
+  public FuzzCampaign withParallelism(int parallelism) {
+    return new FuzzCampaign(template, target, masterSeed, parallelism, fuzzConfig);
+  }
+
+  public FuzzCampaign withConfig(FuzzConfig fuzzConfig) {
+    return new FuzzCampaign(template, target, masterSeed, parallelism, fuzzConfig);
+  }
+
+  /**
+   * Derive the seed of an iteration from the master seed. The master seed is scrambled first, thus
+   * campaigns with neighbouring master seeds do not share the seeds of their iterations
+   *
+   * @param masterSeed of the campaign
+   * @param iteration to derive the seed for
+   * @return the seed of the iteration
+   */
+  static long seedFor(long masterSeed, int iteration) {
+    val campaignSeed = new SplittableRandom(masterSeed).nextLong();
+    return new SplittableRandom(campaignSeed + iteration).nextLong();
+  }
+
+  /**
+   * Run as many iterations as configured in the {@link FuzzConfig}
+   *
+   * @return the FuzzCampaignResult
+   */
+  public FuzzCampaignResult run() {
+    val iterations = fuzzConfig.getIterations();
+    return run(iterations != 0 ? iterations : DEFAULT_ITERATIONS);
+  }
+
+  public FuzzCampaignResult run(int iterations) {
+    log.info(
+        format(
+            "Start fuzz campaign with seed {0} for {1} iterations on {2} thread(s)",
+            Long.toString(masterSeed), iterations, parallelism));
+    val workers = ThreadLocal.withInitial(this::createWorker);
+    val findings = new ConcurrentLinkedQueue<FuzzFinding>();
+    val pool = new ForkJoinPool(parallelism);
+    val start = System.nanoTime();
+    try {
+      pool.submit(
+              () ->
+                  IntStream.range(0, iterations)
+                      .parallel()
+                      .forEach(i -> workers.get().execute(i).ifPresent(findings::add)))
+          .join();
+    } finally {
+      pool.shutdown();
+    }
+    val duration = Duration.ofNanos(System.nanoTime() - start);
+
+    val sortedFindings =
+        findings.stream().sorted(Comparator.comparingInt(FuzzFinding::iteration)).toList();
+    val result =
+        new FuzzCampaignResult(masterSeed, iterations, parallelism, duration, sortedFindings);
+    log.info(result.toString());
+    return result;
+  }
+
+  /**
+   * Replay a single iteration of this campaign
+   *
+   * @param iteration to replay
+   * @return the fuzzed bundle exactly as it was fed to the target in the given iteration
+   */
+  public Bundle replay(int iteration) {
+    return createWorker().fuzz(iteration);
+  }
+
+  private Worker createWorker() {
+    Bundle copy;
+    synchronized (template) {
+      copy = template.copy();
+    }
+    return new Worker(copy);
+  }
+
+  private class Worker {
+    private final Random random;
+    private final FuzzConfig workerConfig;
+    private final FuzzConfig baselineConfig;
+    private final FuzzerContext fuzzerContext;
+    private final FhirFuzzImpl bundleFuzzer;
+    private final Bundle workerTemplate;
+
+    private Worker(Bundle workerTemplate) {
+      this.random = new Random();
+      this.workerConfig = new FuzzConfig();
+      this.workerConfig.copyValuesFrom(fuzzConfig);
+      this.fuzzerContext = new FuzzerContext(random, workerConfig);
+      // snapshot after the FuzzerContext has filled in its default values
+      this.baselineConfig = new FuzzConfig();
+      this.baselineConfig.copyValuesFrom(workerConfig);
+      this.bundleFuzzer = new FhirFuzzImpl(fuzzerContext);
+      this.workerTemplate = workerTemplate;
+    }
+
+    private Bundle fuzz(int iteration) {
+      random.setSeed(seedFor(masterSeed, iteration));
+      workerConfig.copyValuesFrom(baselineConfig);
+      fuzzerContext.clearOperationLogs();
+      return bundleFuzzer.fuzz(workerTemplate.copy());
+    }
+
+    // StackOverflowErrors are explicitly caught because Faker.regexify() is known to produce them
+    @SuppressWarnings("java:S1181")
+    private Optional<FuzzFinding> execute(int iteration) {
+      try {
+        target.accept(fuzz(iteration), iteration);
+        return Optional.empty();
+      } catch (Exception | StackOverflowError e) {
+        val operationLogs =
+            fuzzerContext.getOperationLogs().stream().map(Object::toString).toList();
+        log.info(format("Iteration {0} failed with {1}", iteration, e));
+        return Optional.of(new FuzzFinding(masterSeed, iteration, e, operationLogs));
+      }
+    }
+  }
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.fhirfuzz.campaign;
+
+import static java.text.MessageFormat.format;
+
+import java.time.Duration;
+import java.util.List;
+
+public record FuzzCampaignResult(
+    long masterSeed,
+    int iterations,
+    int parallelism,
+    Duration duration,
+    List<FuzzFinding> findings) {
+
+  public boolean hasFindings() {
+    return !findings.isEmpty();
+  }
+
+  public double getIterationsPerSecond() {
+    if (duration.isZero()) {
+      return iterations;
+    }
+    return iterations / (duration.toNanos() / 1_000_000_000.0);
+  }
+
+  @Override
+  public String toString() {
+    return format(
+        "Fuzz campaign with seed {0} on {1} thread(s): {2} iterations in {3} ms ({4} it/s), {5}"
+            + " finding(s)",
+        Long.toString(masterSeed),
+        parallelism,
+        iterations,
+        duration.toMillis(),
+        String.format("%.1f", getIterationsPerSecond()),
+        findings.size());
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.fhirfuzz.campaign;
+
+import java.util.List;
+
+/**
+ * A single failing iteration of a {@link FuzzCampaign} which can be replayed via {@link
+ * FuzzCampaign#replay(int)} on a campaign with the same master seed and configuration
+ *
+ * @param masterSeed of the campaign which produced this finding
+ * @param iteration which failed
+ * @param cause of the failure
+ * @param operationLogs of the mutations applied in this iteration
+ */
+public record FuzzFinding(
+    long masterSeed, int iteration, Throwable cause, List<String> operationLogs) {}
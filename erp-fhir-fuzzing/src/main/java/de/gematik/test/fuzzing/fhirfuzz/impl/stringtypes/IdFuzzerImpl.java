@@ -25,7 +25,6 @@ import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzerContext;
 import de.gematik.test.fuzzing.fhirfuzz.utils.UnmutableFuzzingMutator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.UUID;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
@@ -67,7 +66,7 @@ public class IdFuzzerImpl implements BaseFuzzer<String> {
         id = f.apply(id);
       }
       if (id == null || id.isEmpty()) {
-        return String.valueOf(UUID.randomUUID());
+        return fuzzerContext.randomUuid().toString();
       }
       return id;
     } else {
@@ -186,7 +185,7 @@ public class IdFuzzerImpl implements BaseFuzzer<String> {
   }
 
   private String uuidFuzz4(String uuid) {
-    return UUID.randomUUID().toString();
+    return fuzzerContext.randomUuid().toString();
   }
 
   private String simpleIdStringFuzz(String id) {
@@ -51,7 +51,7 @@ public class TimingFuzzImpl implements FhirTypeFuzz<Timing> {
   @Override
   public Timing generateRandom() {
     Timing t = new Timing();
-    t.setEvent(List.of(DateTimeType.now()));
+    t.setEvent(List.of(new DateTimeType(fuzzerContext.getRandomDate())));
     fuzzerContext
         .getTypeFuzzerFor(CodeableConcept.class)
         .ifPresent(tf -> t.setCode(tf.generateRandom()));
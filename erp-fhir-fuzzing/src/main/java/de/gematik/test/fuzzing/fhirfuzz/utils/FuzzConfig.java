@@ -93,6 +93,24 @@ public class FuzzConfig {
     return fuzzConf;
   }
 
+  /**
+   * Overwrite all values of this config with the values of the given one. The detailSetup is
+   * copied to decouple both configs from each other
+   *
+   * @param other config to copy the values from
+   */
+  public void copyValuesFrom(FuzzConfig other) {
+    this.name = other.name;
+    this.usedPercentOfMutators = other.usedPercentOfMutators;
+    this.detailSetup = other.detailSetup != null ? new HashMap<>(other.detailSetup) : null;
+    this.percentOfAll = other.percentOfAll;
+    this.percentOfEach = other.percentOfEach;
+    this.useAllMutators = other.useAllMutators;
+    this.iterations = other.iterations;
+    this.pathToPrintFile = other.pathToPrintFile;
+    this.shouldPrintToFile = other.shouldPrintToFile;
+  }
+
   @Override
   public String toString() {
     return format(
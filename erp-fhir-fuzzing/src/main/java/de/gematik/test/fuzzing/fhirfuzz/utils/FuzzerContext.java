@@ -36,6 +36,7 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Locale;
 import java.util.Random;
+import java.util.UUID;
 import lombok.Getter;
 import lombok.experimental.Delegate;
 import lombok.extern.slf4j.Slf4j;
@@ -66,7 +67,7 @@ public class FuzzerContext {
     this.random = random;
     this.fuzzConfig = setupDefaultValues(fuzzConfig);
     this.operationLogs = new LinkedList<>();
-    faker = new Faker(new Locale("de"));
+    faker = new Faker(new Locale("de"), random);
     this.stringFuzz = new StringFuzzImpl(this);
     this.urlFuzz = new UrlFuzzImpl(this);
     this.idFuzzer = new IdFuzzerImpl(this);
@@ -171,6 +172,18 @@ public class FuzzerContext {
     return erg;
   }
 
+  /**
+   * generates a random (version 4) UUID from the random source of this context to keep fuzzing runs
+   * with a seeded random source reproducible
+   *
+   * @return UUID
+   */
+  public UUID randomUuid() {
+    val msb = (random.nextLong() & 0xFFFFFFFFFFFF0FFFL) | 0x0000000000004000L;
+    val lsb = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+    return new UUID(msb, lsb);
+  }
+
   public Integer getAnother(Integer t) {
     Integer newEntry = null;
     do {
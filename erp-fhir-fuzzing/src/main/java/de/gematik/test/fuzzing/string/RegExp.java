@@ -20,6 +20,8 @@
 
 package de.gematik.test.fuzzing.string;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.AccessLevel;
@@ -31,10 +33,14 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor(access = AccessLevel.PACKAGE)
 public class RegExp {
 
+  // the factories create only a small and fixed set of expressions, thus the cache stays small
+  private static final Map<String, Pattern> PATTERN_CACHE = new ConcurrentHashMap<>();
+
   @Getter private final String regex;
 
   public Pattern asPattern() {
-    return Pattern.compile(regex, Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES);
+    return PATTERN_CACHE.computeIfAbsent(
+        regex, r -> Pattern.compile(r, Pattern.DOTALL | Pattern.MULTILINE | Pattern.UNIX_LINES));
   }
 
   public Matcher matcher(String input) {
@@ -26,6 +26,7 @@ import de.gematik.test.fuzzing.core.ByteArrayMutator;
 import de.gematik.test.fuzzing.core.ProbabilityDice;
 import de.gematik.test.fuzzing.core.StringMutator;
 import java.security.SecureRandom;
+import java.util.Random;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -33,6 +34,8 @@ import lombok.val;
 @Slf4j
 public class SimpleMutatorsFactory {
 
+  private static final Pattern BOOLEAN_PATTERN = Pattern.compile("(true|false)");
+
   private SimpleMutatorsFactory() {
     throw new AssertionError("Do not instantiate");
   }
@@ -43,8 +46,7 @@ public class SimpleMutatorsFactory {
 
   public static StringMutator booleanValuesToUpperCase(float probability) {
     return input -> {
-      val pattern = Pattern.compile("(true|false)");
-      val matcher = pattern.matcher(input);
+      val matcher = BOOLEAN_PATTERN.matcher(input);
       return matcher.replaceAll(
           replacer -> {
             if (ProbabilityDice.get().toss(probability)) {
@@ -62,8 +64,7 @@ public class SimpleMutatorsFactory {
 
   public static StringMutator flipBooleans(float probability) {
     return input -> {
-      val pattern = Pattern.compile("(true|false)");
-      val matcher = pattern.matcher(input);
+      val matcher = BOOLEAN_PATTERN.matcher(input);
       return matcher.replaceAll(
           replacer -> {
             if (ProbabilityDice.get().toss(probability)) {
@@ -90,36 +91,60 @@ public class SimpleMutatorsFactory {
   }
 
   public static StringMutator everything(RegExp regex, double percentage) {
+    val rnd = new SecureRandom();
     return input -> {
       val matcher = regex.matcher(input);
-      val rnd = new SecureRandom();
-      val sb = new StringBuilder(input);
+      val buffer = input.toCharArray();
 
       while (matcher.find()) {
         val targetStart = matcher.start("target");
         val targetEnd = matcher.end("target");
-        val len = targetEnd - targetStart;
-
-        // len == 0 means an empty group was found which cannot be fuzzed - as it is empty!
-        // mostly can happen if the target contains .*
-        if (len > 0) {
-          val amount = estimateAmount(len, percentage);
-
-          for (var i = 0; i < amount; i++) {
-            val idx = targetStart + rnd.nextInt(len);
-            val c = (char) (0xFF & rnd.nextInt(255));
-            sb.setCharAt(idx, c);
-          }
-        }
+        mutateRange(buffer, targetStart, targetEnd - targetStart, percentage, rnd);
       }
 
-      return sb.toString();
+      return new String(buffer);
     };
   }
 
+  /**
+   * Randomly manipulates the content of all XML elements with the given name. In contrast to
+   * {@link #everything(RegExp, double)} with {@link XmlRegExpFactory#betweenXmlTag(String)} the
+   * elements are found by a single pass over the input which keeps the effort linear in the size of
+   * the document
+   *
+   * @param tagName of the elements to manipulate
+   * @param percentage of the characters to manipulate within each element
+   * @return the StringMutator
+   */
+  public static StringMutator betweenXmlTag(String tagName, double percentage) {
+    val scanner = XmlElementScanner.forTag(tagName);
+    val rnd = new SecureRandom();
+    return input -> {
+      val buffer = input.toCharArray();
+      for (val range : scanner.scan(input)) {
+        mutateRange(buffer, range.start(), range.length(), percentage, rnd);
+      }
+      return new String(buffer);
+    };
+  }
+
+  private static void mutateRange(
+      char[] buffer, int start, int len, double percentage, Random rnd) {
+    // len == 0 means an empty group was found which cannot be fuzzed - as it is empty!
+    // mostly can happen if the target contains .*
+    if (len > 0) {
+      val amount = estimateAmount(len, percentage);
+
+      for (var i = 0; i < amount; i++) {
+        val idx = start + rnd.nextInt(len);
+        buffer[idx] = (char) (0xFF & rnd.nextInt(255));
+      }
+    }
+  }
+
   public static ByteArrayMutator wholeByteArray(double percentage) {
+    val rnd = new SecureRandom();
     return input -> {
-      val rnd = new SecureRandom();
       val amount = estimateAmount(input.length, percentage);
 
       for (var i = 0; i < amount; i++) {
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.string;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+/**
+ * Finds the content of XML elements with a given name in a single pass over the document without
+ * any backtracking. In contrast to {@link XmlRegExpFactory#betweenXmlTag(String)} the element name
+ * must match exactly, self-closing elements are skipped, nested elements with the same name are
+ * balanced and comments, CDATA sections and processing instructions are ignored.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class XmlElementScanner {
+
+  @Getter private final String tagName;
+
+  public static XmlElementScanner forTag(String tagName) {
+    return new XmlElementScanner(tagName.replace("<", "").replace(">", ""));
+  }
+
+  /**
+   * Scan the given XML document
+   *
+   * @param xml is the XML document
+   * @return the non-empty content ranges of the outermost elements with the tagName in document
+   *     order
+   */
+  public List<Range> scan(String xml) {
+    val ranges = new ArrayList<Range>();
+    var depth = 0;
+    var contentStart = -1;
+    var pos = xml.indexOf('<');
+    while (pos >= 0 && pos < xml.length() - 1) {
+      val next = xml.charAt(pos + 1);
+      int tagEnd;
+      if (xml.startsWith("<!--", pos)) {
+        tagEnd = endOf(xml, "-->", pos + 4);
+      } else if (xml.startsWith("<![CDATA[", pos)) {
+        tagEnd = endOf(xml, "]]>", pos + 9);
+      } else if (next == '!') {
+        tagEnd = endOf(xml, ">", pos + 2);
+      } else if (next == '?') {
+        tagEnd = endOf(xml, "?>", pos + 2);
+      } else if (next == '/') {
+        val nameEnd = nameEnd(xml, pos + 2);
+        tagEnd = endOf(xml, ">", nameEnd);
+        if (depth > 0 && isTagName(xml, pos + 2, nameEnd)) {
+          depth--;
+          if (depth == 0 && pos > contentStart) {
+            ranges.add(new Range(contentStart, pos));
+          }
+        }
+      } else {
+        val nameEnd = nameEnd(xml, pos + 1);
+        tagEnd = startTagEnd(xml, nameEnd);
+        if (tagEnd > 0 && xml.charAt(tagEnd - 2) != '/' && isTagName(xml, pos + 1, nameEnd)) {
+          if (depth == 0) {
+            contentStart = tagEnd;
+          }
+          depth++;
+        }
+      }
+
+      pos = tagEnd < 0 ? -1 : xml.indexOf('<', tagEnd);
+    }
+    return ranges;
+  }
+
+  private boolean isTagName(String xml, int nameStart, int nameEnd) {
+    return nameEnd - nameStart == tagName.length()
+        && xml.regionMatches(nameStart, tagName, 0, tagName.length());
+  }
+
+  /**
+   * @return the index right behind the given terminator or -1 if the terminator was not found
+   */
+  private static int endOf(String xml, String terminator, int from) {
+    val idx = xml.indexOf(terminator, from);
+    return idx < 0 ? -1 : idx + terminator.length();
+  }
+
+  private static int nameEnd(String xml, int from) {
+    var idx = from;
+    while (idx < xml.length()) {
+      val c = xml.charAt(idx);
+      if (c == '>' || c == '/' || Character.isWhitespace(c)) {
+        break;
+      }
+      idx++;
+    }
+    return idx;
+  }
+
+  /**
+   * @return the index right behind the closing bracket of a start tag while attribute values might
+   *     contain brackets as well or -1 if the start tag is not closed
+   */
+  private static int startTagEnd(String xml, int from) {
+    char quote = 0;
+    for (var idx = from; idx < xml.length(); idx++) {
+      val c = xml.charAt(idx);
+      if (quote != 0) {
+        if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '"' || c == '\'') {
+        quote = c;
+      } else if (c == '>') {
+        return idx + 1;
+      }
+    }
+    return -1;
+  }
+
+  /**
+   * Content range of an element
+   *
+   * @param start index of the first character of the content
+   * @param end index right behind the last character of the content
+   */
+  public record Range(int start, int end) {
+    public int length() {
+      return end - start;
+    }
+  }
+}
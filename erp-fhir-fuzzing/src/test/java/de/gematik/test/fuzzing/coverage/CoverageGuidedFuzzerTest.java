@@ -0,0 +1,157 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import de.gematik.test.fuzzing.core.FuzzingMutator;
+import de.gematik.test.fuzzing.core.NamedEnvelope;
+import de.gematik.test.fuzzing.kbv.KbvBundleManipulatorFactory;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.val;
+import org.hl7.fhir.r4.model.Patient;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class CoverageGuidedFuzzerTest extends ErpFhirParsingTest {
+
+  private static final String PRODUCTIVE = "productive";
+  private static final String BORING = "boring";
+
+  /** every patient with a new id reaches a new outcome */
+  private static final Function<Patient, OutcomeFingerprint> ID_TARGET =
+      patient -> OutcomeFingerprint.of(Set.of(patient.getIdElement().getIdPart()));
+
+  private final AtomicInteger idCounter = new AtomicInteger();
+
+  private List<NamedEnvelope<FuzzingMutator<Patient>>> patientMutators() {
+    return List.of(
+        NamedEnvelope.of(PRODUCTIVE, p -> p.setId("id" + idCounter.incrementAndGet())),
+        NamedEnvelope.of(BORING, p -> p.setActive(!p.getActive())));
+  }
+
+  private CoverageGuidedFuzzer<Patient> patientFuzzer(
+      List<NamedEnvelope<FuzzingMutator<Patient>>> mutators) {
+    val seed = new Patient();
+    seed.setId("seed");
+    return CoverageGuidedFuzzer.forSeed(parser, seed, mutators, ID_TARGET)
+        .withRandomSeed(42L)
+        .withMaxStackedMutators(1);
+  }
+
+  private static long countCorpusEntries(Path directory) throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(f -> f.toString().endsWith(".xml")).count();
+    }
+  }
+
+  @Test
+  void shouldPreferProductiveMutators() {
+    val report = patientFuzzer(patientMutators()).run(100);
+
+    assertEquals(100, report.iterations());
+    val best = report.mutatorScores().get(0);
+    val worst = report.mutatorScores().get(1);
+    assertEquals(PRODUCTIVE, best.name());
+    assertEquals(BORING, worst.name());
+    assertEquals(0, worst.newOutcomes());
+    assertEquals(best.applications(), best.newOutcomes());
+    assertTrue(best.applications() > worst.applications());
+    assertEquals(best.newOutcomes(), report.newOutcomes());
+  }
+
+  @Test
+  void shouldContinueFromCorpusOnDisk(@TempDir Path corpusDir) throws IOException {
+    val first = patientFuzzer(patientMutators()).withCorpus(corpusDir).run(20);
+    assertTrue(first.newOutcomes() > 0);
+    assertEquals(first.newOutcomes(), countCorpusEntries(corpusDir));
+
+    // only the boring mutator cannot reach any outcome which is not already in the corpus
+    val boringOnly = List.of(patientMutators().get(1));
+    val second = patientFuzzer(boringOnly).withCorpus(corpusDir).run(20);
+    assertEquals(0, second.newOutcomes());
+    assertEquals(first.distinctOutcomes(), second.distinctOutcomes());
+  }
+
+  @Test
+  void shouldFingerprintExceptionsOfTarget() {
+    val seed = new Patient();
+    Function<Patient, OutcomeFingerprint> target =
+        p -> {
+          throw new IllegalStateException("target is down");
+        };
+    val report = CoverageGuidedFuzzer.forSeed(parser, seed, patientMutators(), target).run(10);
+    // the seed already triggered the exception, thus no further outcome could be reached
+    assertEquals(1, report.distinctOutcomes());
+    assertEquals(0, report.newOutcomes());
+  }
+
+  @Test
+  void shouldThrowOnInvalidConfiguration() {
+    val seed = new Patient();
+    List<NamedEnvelope<FuzzingMutator<Patient>>> noMutators = List.of();
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> CoverageGuidedFuzzer.forSeed(parser, seed, noMutators, ID_TARGET));
+    val fuzzer = CoverageGuidedFuzzer.forSeed(parser, seed, patientMutators(), ID_TARGET);
+    assertThrows(IllegalArgumentException.class, () -> fuzzer.withMaxStackedMutators(0));
+  }
+
+  @Test
+  void shouldReachNewOutcomesOnValidator(@TempDir Path corpusDir) throws IOException {
+    val seed = KbvErpBundleFaker.builder().fake();
+    val mutators = KbvBundleManipulatorFactory.getAllKbvBundleManipulators();
+    Function<KbvErpBundle, OutcomeFingerprint> target =
+        CoverageGuidedFuzzer.validatorFeedback(parser);
+
+    val report =
+        CoverageGuidedFuzzer.forSeed(parser, seed, mutators, target)
+            .withRandomSeed(42L)
+            .withCorpus(corpusDir)
+            .run(20);
+
+    assertEquals(20, report.iterations());
+    assertTrue(report.newOutcomes() > 0);
+    assertEquals(report.newOutcomes() + 1, report.distinctOutcomes());
+    assertTrue(countCorpusEntries(corpusDir) <= report.newOutcomes());
+    assertTrue(report.getDistinctOutcomesPerCpuMinute() > 0);
+  }
+
+  @Test
+  void shouldReportNewOutcomesPerCpuMinute() {
+    val report =
+        new CoverageReport(100, 12, 10, Duration.ofSeconds(30), Duration.ofMinutes(1), List.of());
+    assertEquals(20.0, report.getDistinctOutcomesPerCpuMinute(), 0.001);
+  }
+}
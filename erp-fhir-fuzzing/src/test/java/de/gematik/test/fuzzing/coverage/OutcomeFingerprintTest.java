@@ -0,0 +1,103 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.coverage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ca.uhn.fhir.validation.ResultSeverityEnum;
+import ca.uhn.fhir.validation.SingleValidationMessage;
+import ca.uhn.fhir.validation.ValidationResult;
+import de.gematik.test.erezept.fhir.parser.ProfileFhirParserFactory;
+import java.util.List;
+import lombok.val;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.junit.jupiter.api.Test;
+
+class OutcomeFingerprintTest {
+
+  private static SingleValidationMessage message(
+      ResultSeverityEnum severity, String message, String location) {
+    val svm = new SingleValidationMessage();
+    svm.setSeverity(severity);
+    svm.setMessage(message);
+    svm.setLocationString(location);
+    return svm;
+  }
+
+  private static ValidationResult resultOf(SingleValidationMessage... messages) {
+    return new ValidationResult(ProfileFhirParserFactory.getDecoderContext(), List.of(messages));
+  }
+
+  @Test
+  void shouldIgnoreOrderIndicesAndNumbers() {
+    val first =
+        resultOf(
+            message(ResultSeverityEnum.ERROR, "Length 12 exceeds 10", "Bundle.entry[1].id"),
+            message(ResultSeverityEnum.WARNING, "Unknown code", "Bundle.entry[0].coding[2]"));
+    val second =
+        resultOf(
+            message(ResultSeverityEnum.WARNING, "Unknown code", "Bundle.entry[4].coding[0]"),
+            message(ResultSeverityEnum.ERROR, "Length 13 exceeds 10", "Bundle.entry[3].id"));
+
+    val fingerprint = OutcomeFingerprint.of(first);
+    assertEquals(fingerprint, OutcomeFingerprint.of(second));
+    assertEquals(2, fingerprint.features().size());
+    assertEquals(64, fingerprint.digest().length());
+  }
+
+  @Test
+  void shouldDistinguishSeverityAndLocation() {
+    val error = resultOf(message(ResultSeverityEnum.ERROR, "Unknown code", "Bundle.id"));
+    val warning = resultOf(message(ResultSeverityEnum.WARNING, "Unknown code", "Bundle.id"));
+    val otherLocation = resultOf(message(ResultSeverityEnum.ERROR, "Unknown code", "Bundle.type"));
+
+    assertNotEquals(OutcomeFingerprint.of(error), OutcomeFingerprint.of(warning));
+    assertNotEquals(OutcomeFingerprint.of(error), OutcomeFingerprint.of(otherLocation));
+  }
+
+  @Test
+  void shouldFingerprintServerResponses() {
+    val oo = new OperationOutcome();
+    oo.addIssue()
+        .setSeverity(OperationOutcome.IssueSeverity.ERROR)
+        .setCode(OperationOutcome.IssueType.INVALID)
+        .setDiagnostics("Bundle has 3 entries")
+        .addExpression("Bundle.entry[2]");
+
+    val badRequest = OutcomeFingerprint.of(400, oo);
+    assertTrue(badRequest.features().contains("HTTP 400"));
+    assertTrue(badRequest.features().contains("ERROR|INVALID|Bundle has # entries|Bundle.entry[]"));
+    assertNotEquals(badRequest, OutcomeFingerprint.of(400, null));
+    assertNotEquals(OutcomeFingerprint.of(201, null), OutcomeFingerprint.of(400, null));
+  }
+
+  @Test
+  void shouldFingerprintExceptions() {
+    assertEquals(
+        OutcomeFingerprint.ofException(new IllegalStateException("a")),
+        OutcomeFingerprint.ofException(new IllegalStateException("b")));
+    assertNotEquals(
+        OutcomeFingerprint.ofException(new IllegalStateException()),
+        OutcomeFingerprint.ofException(new IllegalArgumentException()));
+  }
+}
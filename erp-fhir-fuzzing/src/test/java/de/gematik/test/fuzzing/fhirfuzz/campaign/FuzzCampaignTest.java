@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.fhirfuzz.campaign;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.builder.kbv.KbvErpBundleFaker;
+import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import de.gematik.test.fuzzing.fhirfuzz.utils.FuzzConfig;
+import java.util.List;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.hl7.fhir.r4.model.Bundle;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class FuzzCampaignTest extends ErpFhirParsingTest {
+
+  private static final long MASTER_SEED = 4711L;
+
+  private static Bundle template;
+
+  @BeforeAll
+  static void setupTemplate() {
+    template = KbvErpBundleFaker.builder().fake();
+  }
+
+  private static FuzzConfig aggressiveConfig() {
+    val fuzzConfig = FuzzConfig.getDefault();
+    fuzzConfig.setPercentOfAll(50.0f);
+    fuzzConfig.setPercentOfEach(50.0f);
+    return fuzzConfig;
+  }
+
+  private FuzzCampaign campaign(Consumer<Bundle> target) {
+    return FuzzCampaign.forTemplate(template, target)
+        .withMasterSeed(MASTER_SEED)
+        .withConfig(aggressiveConfig());
+  }
+
+  private String encode(Bundle bundle) {
+    return parser.encode(bundle, EncodingType.XML);
+  }
+
+  @Test
+  void shouldDeriveDistinctIterationSeeds() {
+    val seeds =
+        IntStream.range(0, 1000)
+            .mapToObj(i -> FuzzCampaign.seedFor(MASTER_SEED, i))
+            .collect(Collectors.toSet());
+    assertEquals(1000, seeds.size());
+  }
+
+  @Test
+  void shouldNotShareIterationSeedsWithNeighbouringMasterSeeds() {
+    assertNotEquals(FuzzCampaign.seedFor(MASTER_SEED, 1), FuzzCampaign.seedFor(MASTER_SEED + 1, 0));
+    assertNotEquals(FuzzCampaign.seedFor(MASTER_SEED, 0), FuzzCampaign.seedFor(MASTER_SEED + 1, 0));
+  }
+
+  @Test
+  void shouldFeedIterationToTarget() {
+    val iterations = new ConcurrentSkipListSet<Integer>();
+    FuzzCampaign.forTemplate(template, (bundle, i) -> iterations.add(i))
+        .withMasterSeed(MASTER_SEED)
+        .withConfig(aggressiveConfig())
+        .withParallelism(2)
+        .run(10);
+    assertEquals(IntStream.range(0, 10).boxed().toList(), List.copyOf(iterations));
+  }
+
+  @Test
+  void shouldReplayIterationsReproducibly() {
+    val fuzzCampaign = campaign(b -> {});
+    IntStream.range(0, 5)
+        .forEach(
+            i ->
+                assertEquals(
+                    encode(fuzzCampaign.replay(i)),
+                    encode(campaign(b -> {}).replay(i)),
+                    "iteration " + i + " is not reproducible"));
+  }
+
+  @Test
+  void shouldNotModifyTemplate() {
+    val original = encode(template);
+    campaign(this::encode).withParallelism(2).run(10);
+    assertEquals(original, encode(template));
+  }
+
+  @Test
+  void shouldFindSameFindingsIndependentOfParallelism() {
+    // fail deterministically on a property of the fuzzed content
+    Consumer<Bundle> target =
+        bundle -> {
+          if (encode(bundle).hashCode() % 3 == 0) {
+            throw new IllegalStateException("found it");
+          }
+        };
+
+    val sequential = campaign(target).withParallelism(1).run(30);
+    val parallel = campaign(target).withParallelism(4).run(30);
+
+    assertTrue(sequential.hasFindings());
+    assertEquals(
+        sequential.findings().stream().map(FuzzFinding::iteration).toList(),
+        parallel.findings().stream().map(FuzzFinding::iteration).toList());
+
+    // each finding can be replayed from (seed, iteration)
+    val finding = parallel.findings().get(0);
+    val replayed =
+        campaign(b -> {}).withMasterSeed(finding.masterSeed()).replay(finding.iteration());
+    assertThrows(finding.cause().getClass(), () -> target.accept(replayed));
+  }
+
+  @Test
+  void shouldRunConfiguredIterations() {
+    val counter = new AtomicInteger();
+    val fuzzConfig = aggressiveConfig();
+    fuzzConfig.setIterations(7);
+    val result = campaign(b -> counter.incrementAndGet()).withConfig(fuzzConfig).run();
+    assertEquals(7, result.iterations());
+    assertEquals(7, counter.get());
+    assertFalse(result.hasFindings());
+  }
+
+  @Test
+  void shouldThrowOnInvalidParallelism() {
+    val fuzzCampaign = campaign(b -> {});
+    assertThrows(IllegalArgumentException.class, () -> fuzzCampaign.withParallelism(0));
+  }
+}
@@ -21,6 +21,7 @@
 package de.gematik.test.fuzzing.fhirfuzz.data;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -72,4 +73,16 @@ class FuzzConfigTest {
     val fuzzconf = FuzzConfig.getRandom();
     assertTrue(fuzzconf.toString().length() > 20);
   }
+
+  @RepeatedTest(CentralIterationSetupForTests.REPETITIONS)
+  void shouldCopyValuesDecoupled() {
+    val origin = FuzzConfig.getDefault();
+    val copy = new FuzzConfig();
+    copy.copyValuesFrom(origin);
+    assertEquals(origin.toString(), copy.toString());
+    assertEquals(origin.getIterations(), copy.getIterations());
+
+    copy.getDetailSetup().put("TriggertByMedRequest", "TRUE");
+    assertFalse(origin.getDetailSetup().containsKey("TriggertByMedRequest"));
+  }
 }
@@ -99,6 +99,26 @@ class SimpleMutatorsFactoryTest {
     assertNotEquals(BUNDLE_INPUT, output);
   }
 
+  @Test
+  void shouldReuseCompiledPatterns() {
+    val regex = XmlRegExpFactory.betweenXmlTag("meta");
+    assertSame(regex.asPattern(), regex.asPattern());
+    assertSame(regex.asPattern(), XmlRegExpFactory.betweenXmlTag("meta").asPattern());
+  }
+
+  @Test
+  void shouldRandomlyManipulateOnlyBetweenXmlTag() {
+    val m = SimpleMutatorsFactory.betweenXmlTag("meta", 100.0);
+    val output = m.apply(BUNDLE_INPUT);
+    assertNotEquals(BUNDLE_INPUT, output);
+    assertEquals(BUNDLE_INPUT.length(), output.length());
+
+    val contentStart = BUNDLE_INPUT.indexOf("<meta>") + "<meta>".length();
+    val contentEnd = BUNDLE_INPUT.indexOf("</meta>");
+    assertEquals(BUNDLE_INPUT.substring(0, contentStart), output.substring(0, contentStart));
+    assertEquals(BUNDLE_INPUT.substring(contentEnd), output.substring(contentEnd));
+  }
+
   @Test
   void shouldRandomlyManipulateByteArray() {
     val in = "Hello World";
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.fuzzing.string;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.fuzzing.string.XmlElementScanner.Range;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class XmlElementScannerTest {
+
+  private static final String KBV_BUNDLE =
+      "fhir/valid/kbv/1.1.0/bundle/1f339db0-9e55-4946-9dfa-f1b30953be9b.xml";
+
+  private static List<String> contents(String tagName, String xml) {
+    return XmlElementScanner.forTag(tagName).scan(xml).stream()
+        .map(r -> xml.substring(r.start(), r.end()))
+        .toList();
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"meta", "<meta>"})
+  void shouldFindContentOfElements(String tagName) {
+    val xml = "<Bundle><meta><a value=\"1\"/></meta><id/><meta ><b/></meta></Bundle>";
+    assertEquals(List.of("<a value=\"1\"/>", "<b/>"), contents(tagName, xml));
+  }
+
+  @Test
+  void shouldMatchTagNameExactly() {
+    val xml = "<metadata><x/></metadata><meta><y/></meta><fhir:meta><z/></fhir:meta>";
+    assertEquals(List.of("<y/>"), contents("meta", xml));
+  }
+
+  @Test
+  void shouldSkipSelfClosingAndEmptyElements() {
+    val xml = "<meta/><meta value=\"a/b\"/><meta></meta><meta>x</meta>";
+    assertEquals(List.of("x"), contents("meta", xml));
+  }
+
+  @Test
+  void shouldBalanceNestedElements() {
+    val xml = "<extension><extension><a/></extension><b/></extension><extension>c</extension>";
+    assertEquals(List.of("<extension><a/></extension><b/>", "c"), contents("extension", xml));
+  }
+
+  @Test
+  void shouldIgnoreMarkupInCommentsCdataAndAttributes() {
+    val xml =
+        "<?xml version=\"1.0\"?><!DOCTYPE Bundle><!-- <meta> --><![CDATA[</meta>]]>"
+            + "<meta a=\"</meta>\" b='>'>x</meta>";
+    assertEquals(List.of("x"), contents("meta", xml));
+  }
+
+  @Test
+  void shouldIgnoreUnclosedElements() {
+    assertTrue(contents("meta", "<meta><a/>").isEmpty());
+    assertTrue(contents("meta", "<meta><a/></meta").isEmpty());
+    assertTrue(contents("meta", "<meta a=\"x").isEmpty());
+  }
+
+  @Test
+  void shouldFindSameElementsAsRegExp() {
+    val xml = ResourceLoader.readFileFromResource(KBV_BUNDLE);
+    for (val tagName : List.of("meta", "coding", "identifier", "Coverage")) {
+      val matcher = XmlRegExpFactory.betweenXmlTag(tagName).matcher(xml);
+      val expected = new ArrayList<Range>();
+      while (matcher.find()) {
+        expected.add(new Range(matcher.start("target"), matcher.end("target")));
+      }
+      assertEquals(expected, XmlElementScanner.forTag(tagName).scan(xml), tagName);
+    }
+  }
+
+  @Test
+  void shouldOnlyMutateElementsOfInflatedDocument() {
+    // inflate a KBV bundle to get a large document with many matching elements
+    val bundle = ResourceLoader.readFileFromResource(KBV_BUNDLE);
+    val xml = bundle.repeat(50);
+    val ranges = XmlElementScanner.forTag("coding").scan(xml);
+    assertEquals(50 * XmlElementScanner.forTag("coding").scan(bundle).size(), ranges.size());
+
+    val output = SimpleMutatorsFactory.betweenXmlTag("coding", 100.0).apply(xml);
+    assertEquals(xml.length(), output.length());
+    var previousEnd = 0;
+    for (val range : ranges) {
+      assertEquals(
+          xml.substring(previousEnd, range.start()), output.substring(previousEnd, range.start()));
+      previousEnd = range.end();
+    }
+    assertEquals(xml.substring(previousEnd), output.substring(previousEnd));
+  }
+}
@@ -20,15 +20,29 @@
 
 package de.gematik.test.erezept.fhir.anonymizer;
 
-import com.google.common.reflect.ClassPath;
-import java.util.*;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
-import lombok.SneakyThrows;
-import lombok.val;
 import org.hl7.fhir.r4.model.Resource;
 
+/**
+ * Entry point for anonymizing resources. The registry of {@link Anonymizer}s is built only once and
+ * the facade itself is stateless which allows sharing a single instance between threads via {@link
+ * #getInstance()}
+ */
 public class AnonymizerFacade {
 
+  private static final Map<Class<? extends Resource>, Anonymizer<?>> ANONYMIZERS =
+      registry(
+          List.of(
+              new KbvBundleAnonymizer(),
+              new KbvPatientAnonymizer(),
+              new KbvPractitionerAnonymizer(),
+              new MedicalOrganizationAnonymizer()));
+
+  private static final AnonymizerFacade DEFAULT_INSTANCE = new AnonymizerFacade();
+
   private final AnonymizerContext ctx;
 
   public AnonymizerFacade() {
@@ -36,41 +50,28 @@ public class AnonymizerFacade {
   }
 
   public AnonymizerFacade(AnonymizationType anonymizationType, MaskingStrategy blacker) {
-    val anonymizers = this.init();
-    this.ctx = new AnonymizerContext(anonymizers, anonymizationType, blacker);
+    this.ctx = new AnonymizerContext(ANONYMIZERS, anonymizationType, blacker);
   }
 
-  public <R extends Resource> boolean anonymize(R resource) {
-    return this.ctx.anonymize(resource);
+  /**
+   * @return the shared AnonymizerFacade using {@link AnonymizationType#REPLACING} with a {@link
+   *     CharReplacementStrategy}
+   */
+  public static AnonymizerFacade getInstance() {
+    return DEFAULT_INSTANCE;
   }
 
-  private Map<Class<? extends Resource>, Anonymizer<?>> init() {
-    Map<Class<? extends Resource>, Anonymizer<?>> anonymizers = new HashMap<>();
-    this.loadAnonymizers().stream()
-        .map(this::initClass)
-        .forEach(c -> anonymizers.put(c.getType(), c));
-    return anonymizers;
+  public static Map<Class<? extends Resource>, Anonymizer<?>> getAnonymizers() {
+    return ANONYMIZERS;
   }
 
-  @SneakyThrows
-  private Anonymizer<?> initClass(Class<? extends Anonymizer<?>> clazz) {
-    return clazz.getConstructor().newInstance();
-  }
-
-  private Set<Class<? extends Anonymizer<?>>> loadAnonymizers() {
-    val packageName = this.getClass().getPackageName();
-    return loadAnonymizers(packageName);
+  public <R extends Resource> boolean anonymize(R resource) {
+    return this.ctx.anonymize(resource);
   }
 
-  @SneakyThrows
-  @SuppressWarnings("unchecked")
-  private Set<Class<? extends Anonymizer<?>>> loadAnonymizers(String packageName) {
-    return ClassPath.from(ClassLoader.getSystemClassLoader()).getAllClasses().stream()
-        .filter(clazz -> clazz.getPackageName().equalsIgnoreCase(packageName))
-        .filter(clazz -> !clazz.getSimpleName().equalsIgnoreCase(this.getClass().getSimpleName()))
-        .map(ClassPath.ClassInfo::load)
-        .filter(clazz -> Arrays.stream(clazz.getInterfaces()).toList().contains(Anonymizer.class))
-        .map(clazz -> (Class<? extends Anonymizer<?>>) clazz)
-        .collect(Collectors.toSet());
+  private static Map<Class<? extends Resource>, Anonymizer<?>> registry(
+      List<Anonymizer<?>> anonymizers) {
+    return anonymizers.stream()
+        .collect(Collectors.toUnmodifiableMap(Anonymizer::getType, Function.identity()));
   }
 }
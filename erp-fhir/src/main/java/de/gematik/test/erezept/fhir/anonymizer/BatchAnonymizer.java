@@ -0,0 +1,200 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fhir.anonymizer;
+
+import static java.text.MessageFormat.format;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.test.erezept.fhir.parser.FhirParser;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.hl7.fhir.r4.model.Bundle;
+import org.hl7.fhir.r4.model.CanonicalType;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.hl7.fhir.r4.model.Resource;
+
+/**
+ * Anonymizes many resources at once on a bounded {@link Executor}. Resources are read from NDJSON
+ * (one JSON encoded resource per line) or from the entries of a collection {@link Bundle}. The
+ * order of the input is preserved and resources which cannot be anonymized are replaced by an
+ * {@link OperationOutcome} describing the failure
+ */
+@Slf4j
+public class BatchAnonymizer {
+
+  private final FhirParser parser;
+  private final AnonymizerFacade anonymizer;
+  private final Executor executor;
+  private final int maxInFlight;
+
+  /**
+   * @param parser used for decoding and encoding the resources
+   * @param anonymizer used for anonymizing each single resource
+   * @param executor on which the resources are anonymized
+   * @param maxInFlight is the maximum number of resources being anonymized at the same time and
+   *     bounds the memory required for streaming
+   */
+  public BatchAnonymizer(
+      FhirParser parser, AnonymizerFacade anonymizer, Executor executor, int maxInFlight) {
+    if (maxInFlight < 1) {
+      throw new IllegalArgumentException(
+          format("maxInFlight must be at least 1 but was {0}", maxInFlight));
+    }
+    this.parser = parser;
+    this.anonymizer = anonymizer;
+    this.executor = executor;
+    this.maxInFlight = maxInFlight;
+  }
+
+  /**
+   * Read NDJSON from the given input and write the anonymized resources as NDJSON to the given
+   * output. At most maxInFlight resources are held in memory which allows streaming of arbitrary
+   * large inputs
+   *
+   * @param input containing one JSON encoded resource per line
+   * @param output to which one anonymized JSON encoded resource per line is written
+   * @return the number of processed resources
+   */
+  public int anonymizeNdjson(InputStream input, OutputStream output) throws IOException {
+    val reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+    val writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+    final Deque<CompletableFuture<String>> inFlight = new ArrayDeque<>(maxInFlight);
+    var count = 0;
+
+    String line;
+    while ((line = reader.readLine()) != null) {
+      if (line.isBlank()) {
+        continue;
+      }
+      if (inFlight.size() >= maxInFlight) {
+        writeLine(writer, inFlight.removeFirst().join());
+      }
+      val content = line;
+      inFlight.addLast(CompletableFuture.supplyAsync(() -> this.process(content), executor));
+      count++;
+    }
+
+    while (!inFlight.isEmpty()) {
+      writeLine(writer, inFlight.removeFirst().join());
+    }
+    writer.flush();
+    log.info("Anonymized {} resources from NDJSON", count);
+    return count;
+  }
+
+  /**
+   * Anonymize each entry of the given collection Bundle. In contrast to NDJSON the Bundle is
+   * decoded and encoded as a whole
+   *
+   * @param content of the collection Bundle
+   * @return the encoded Bundle containing the anonymized resources
+   */
+  public String anonymizeBundle(String content) {
+    val encoding = EncodingType.guessFromContent(content);
+    val bundle = parser.decode(Bundle.class, content, encoding);
+    if (bundle.getType() != Bundle.BundleType.COLLECTION) {
+      throw new IllegalArgumentException(
+          format(
+              "Expected a collection Bundle but received a Bundle of type {0}", bundle.getType()));
+    }
+
+    val entries = bundle.getEntry();
+    val futures =
+        entries.stream()
+            .map(
+                entry ->
+                    CompletableFuture.supplyAsync(
+                        () -> this.anonymizeEntry(entry.getResource()), executor))
+            .toList();
+    for (var i = 0; i < entries.size(); i++) {
+      entries.get(i).setResource(futures.get(i).join());
+    }
+
+    log.info("Anonymized {} resources from collection Bundle", entries.size());
+    return parser.encode(bundle, encoding);
+  }
+
+  private String process(String content) {
+    Resource result;
+    try {
+      val resource = parser.decode(content, EncodingType.JSON);
+      result = anonymizeOrOutcome(resource);
+    } catch (RuntimeException e) {
+      log.warn("Failed to anonymize resource: {}", e.getMessage());
+      result = failure(e.getMessage());
+    }
+    return parser.encode(result, EncodingType.JSON);
+  }
+
+  private Resource anonymizeEntry(Resource resource) {
+    try {
+      // re-decode the entry to obtain the profile specific type of the resource
+      val content = parser.encode(resource, EncodingType.XML);
+      return anonymizeOrOutcome(parser.decode(content, EncodingType.XML));
+    } catch (RuntimeException e) {
+      log.warn("Failed to anonymize resource {}: {}", resource.getIdPart(), e.getMessage());
+      return failure(e.getMessage());
+    }
+  }
+
+  private Resource anonymizeOrOutcome(Resource resource) {
+    if (anonymizer.anonymize(resource)) {
+      return resource;
+    }
+
+    val profile =
+        resource.getMeta().getProfile().stream()
+            .findFirst()
+            .map(CanonicalType::getValue)
+            .orElse("no profile");
+    return failure(
+        format(
+            "Anonymization failed: the given resource does not seem to be from ERP-context: {0}",
+            profile));
+  }
+
+  private static OperationOutcome failure(String message) {
+    val outcome = new OperationOutcome();
+    outcome
+        .addIssue()
+        .setSeverity(OperationOutcome.IssueSeverity.ERROR)
+        .setCode(OperationOutcome.IssueType.PROCESSING)
+        .setDiagnostics(message);
+    return outcome;
+  }
+
+  private static void writeLine(BufferedWriter writer, String line) throws IOException {
+    writer.write(line);
+    writer.newLine();
+  }
+}
@@ -22,13 +22,15 @@ package de.gematik.test.erezept.fhir.parser;
 
 import ca.uhn.fhir.context.FhirContext;
 import ca.uhn.fhir.parser.IParser;
+import ca.uhn.fhir.parser.IParserErrorHandler;
+import ca.uhn.fhir.validation.ValidationResult;
 import com.google.common.base.Strings;
 import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.bbriccs.fhir.codec.EmptyResource;
 import de.gematik.bbriccs.fhir.validation.ProfileExtractor;
 import de.gematik.bbriccs.fhir.validation.ValidatorFhir;
 import de.gematik.test.erezept.fhir.r4.erp.ErxCommunication;
-import lombok.Getter;
+import javax.annotation.Nullable;
 import lombok.experimental.Delegate;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -39,20 +41,81 @@ import org.hl7.fhir.r4.model.Resource;
 @Slf4j
 public class FhirParser {
 
-  @Getter private final FhirContext ctx;
+  private final FhirContext ctx;
   private final ProfileExtractor profileExtractor;
   @Delegate private final ValidatorFhir validator;
-  private IParser xmlParser;
-  private IParser jsonParser;
+  private final String validatorKey;
+  @Nullable private final ValidationResultCache validationCache;
+
+  /**
+   * HAPI parsers are not thread-safe but cheap to create from an already initialized {@link
+   * FhirContext}: instead of serializing all callers on a single parser, each thread gets its own
+   * parser instance
+   */
+  private volatile ThreadLocal<IParser> xmlParser;
+
+  private volatile ThreadLocal<IParser> jsonParser;
 
   public FhirParser() {
     this(ValidatorType.BRICKS);
   }
 
   public FhirParser(ValidatorType validatorType) {
-    this.ctx = ProfileFhirParserFactory.createDecoderContext();
+    this(validatorType, ValidationResultCache.getDefault().orElse(null));
+  }
+
+  /**
+   * @param validatorType of the validator to be used
+   * @param validationCache for the results of byte-identical contents or null for no caching
+   */
+  public FhirParser(ValidatorType validatorType, @Nullable ValidationResultCache validationCache) {
+    this.ctx = ProfileFhirParserFactory.getDecoderContext();
     this.profileExtractor = new ProfileExtractor();
     this.validator = ProfileFhirParserFactory.getValidatorFor(validatorType);
+    this.validatorKey = ProfileFhirParserFactory.getValidatorKey(validatorType);
+    this.validationCache = validationCache;
+    this.xmlParser = ThreadLocal.withInitial(() -> configure(ctx.newXmlParser()));
+    this.jsonParser = ThreadLocal.withInitial(() -> configure(ctx.newJsonParser()));
+  }
+
+  /**
+   * The returned {@link FhirContext} is shared process-wide by all FhirParsers and must be treated
+   * as read-only: callers must not reconfigure it (e.g. parser error handler, parser options or
+   * validation support), but use the configuration methods of this FhirParser instead
+   *
+   * @return the shared FhirContext of all FhirParsers
+   */
+  public FhirContext getCtx() {
+    return ctx;
+  }
+
+  /**
+   * Set the {@link IParserErrorHandler} for the parsers of this FhirParser only. The shared {@link
+   * FhirContext} must not be reconfigured, because it is used by all other FhirParsers as well
+   *
+   * @param errorHandler to be used by all subsequently used parsers of this instance
+   */
+  public void setParserErrorHandler(IParserErrorHandler errorHandler) {
+    this.xmlParser =
+        ThreadLocal.withInitial(
+            () -> configure(ctx.newXmlParser()).setParserErrorHandler(errorHandler));
+    this.jsonParser =
+        ThreadLocal.withInitial(
+            () -> configure(ctx.newJsonParser()).setParserErrorHandler(errorHandler));
+  }
+
+  /**
+   * Validate the given content. If a {@link ValidationResultCache} is configured, the result for
+   * byte-identical content is taken from the cache
+   *
+   * @param content to be validated
+   * @return the ValidationResult of the content
+   */
+  public ValidationResult validate(String content) {
+    if (validationCache == null || content == null) {
+      return validator.validate(content);
+    }
+    return validationCache.validate(validatorKey, content, validator::validate);
   }
 
   public <T extends Resource> T decode(Class<T> expectedClass, String content) {
@@ -61,7 +124,7 @@ public class FhirParser {
   }
 
   @SuppressWarnings("unchecked")
-  public synchronized <T extends Resource> T decode(
+  public <T extends Resource> T decode(
       Class<T> expectedClass, String content, EncodingType encoding) {
 
     val isEmptyContent = Strings.isNullOrEmpty(content) || StringUtils.isBlank(content);
@@ -89,9 +152,7 @@ public class FhirParser {
     return encode(resource, encoding, false);
   }
 
-  public synchronized String encode(
-      IBaseResource resource, EncodingType encoding, boolean prettyPrint) {
-
+  public String encode(IBaseResource resource, EncodingType encoding, boolean prettyPrint) {
     if (resource instanceof EmptyResource) {
       return "";
     }
@@ -103,17 +164,15 @@ public class FhirParser {
   }
 
   private IParser getXmlParser() {
-    if (this.xmlParser == null) {
-      this.xmlParser = ctx.newXmlParser().setOverrideResourceIdWithBundleEntryFullUrl(false);
-    }
-    return this.xmlParser;
+    return this.xmlParser.get();
   }
 
   private IParser getJsonParser() {
-    if (this.jsonParser == null) {
-      this.jsonParser = ctx.newJsonParser().setOverrideResourceIdWithBundleEntryFullUrl(false);
-    }
-    return this.jsonParser;
+    return this.jsonParser.get();
+  }
+
+  private static IParser configure(IParser parser) {
+    return parser.setOverrideResourceIdWithBundleEntryFullUrl(false);
   }
 
   /**
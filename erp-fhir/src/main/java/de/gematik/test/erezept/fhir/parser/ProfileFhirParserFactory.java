@@ -53,6 +53,7 @@ import de.gematik.test.erezept.fhir.r4.kbv.KbvPatient;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvPractitioner;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvPractitionerRole;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -156,7 +157,8 @@ public class ProfileFhirParserFactory {
               .forAllVersionsFrom(EuVersion.class)
               .mappingTo(EuMedication.class));
   private static final Map<ValidatorType, ValidatorFhir> validatorCache =
-      new EnumMap<>(ValidatorType.class);
+      new ConcurrentHashMap<>();
+  private static final Map<ValidatorType, String> validatorKeys = new ConcurrentHashMap<>();
 
   static {
     /* this will force HAPI to produce error messages in english; by that we can filter messages reliably */
@@ -167,6 +169,23 @@ public class ProfileFhirParserFactory {
     throw new IllegalStateException("Utility class");
   }
 
+  /**
+   * Get the process-wide {@link FhirContext} with all {@link ResourceTypeHint}s registered. The
+   * context is initialized lazily on first access and shared by all {@link FhirParser}s, thus it
+   * must not be reconfigured by single clients
+   *
+   * @return the shared decoder context
+   */
+  public static FhirContext getDecoderContext() {
+    return DecoderContextHolder.CONTEXT;
+  }
+
+  /**
+   * Create a new and dedicated {@link FhirContext} with all {@link ResourceTypeHint}s registered.
+   * Prefer {@link #getDecoderContext()} unless a separately configurable context is required
+   *
+   * @return a new decoder context
+   */
   public static FhirContext createDecoderContext() {
     val ctx = FhirContext.forR4();
 
@@ -184,14 +203,36 @@ public class ProfileFhirParserFactory {
     // erpConfigurator is required here to load the profile context for the builders as well
     val erpConfigurator =
         ProfilesConfigurator.getConfiguration(ERP_FHIR_PROFILES_CONFIG, ERP_FHIR_PROFILES_TOGGLE);
-    return switch (validatorType) {
-      case NONE -> validatorCache.computeIfAbsent(
-          validatorType, type -> new DummyValidator(FhirContext.forR4()));
-      case BRICKS -> validatorCache.computeIfAbsent(
-          validatorType, type -> createBricksValidator(erpConfigurator));
-      case REF_VAL -> validatorCache.computeIfAbsent(
-          validatorType, type -> createReferenzValidator());
-    };
+    val validator =
+        switch (validatorType) {
+          case NONE -> validatorCache.computeIfAbsent(
+              validatorType, type -> new DummyValidator(getDecoderContext()));
+          case BRICKS -> validatorCache.computeIfAbsent(
+              validatorType,
+              type -> {
+                val profile = erpConfigurator.getDefaultProfile().getId();
+                validatorKeys.put(type, type.name() + "@" + profile);
+                return createBricksValidator(erpConfigurator);
+              });
+          case REF_VAL -> validatorCache.computeIfAbsent(
+              validatorType, type -> createReferenzValidator());
+        };
+    validatorKeys.putIfAbsent(validatorType, validatorType.name());
+    return validator;
+  }
+
+  /**
+   * Get a key which identifies the configuration the validator of the given type was created with,
+   * e.g. the FHIR profiles configured via {@link #ERP_FHIR_PROFILES_TOGGLE} or its environment
+   * variable. Validators are created only once, thus later changes of the profiles configuration
+   * do not change this key
+   *
+   * @param validatorType of the validator
+   * @return the key of the validator
+   */
+  public static String getValidatorKey(ValidatorType validatorType) {
+    getValidatorFor(validatorType);
+    return validatorKeys.get(validatorType);
   }
 
   @SneakyThrows
@@ -206,4 +247,9 @@ public class ProfileFhirParserFactory {
 
     return ValidatorFhirFactory.createValidator(erpConfigurator.getProfileConfigurations());
   }
+
+  /** initialization-on-demand holder: the JVM guarantees a lazy and thread-safe initialization */
+  private static final class DecoderContextHolder {
+    private static final FhirContext CONTEXT = createDecoderContext();
+  }
 }
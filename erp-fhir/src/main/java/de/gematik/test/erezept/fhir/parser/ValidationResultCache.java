@@ -0,0 +1,217 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fhir.parser;
+
+import static java.text.MessageFormat.format;
+
+import ca.uhn.fhir.validation.SingleValidationMessage;
+import ca.uhn.fhir.validation.ValidationResult;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Caches {@link ValidationResult}s by the SHA-256 digest of the validated content and the
+ * configuration of the validator. Byte-identical payloads are then validated only once. The cache
+ * is bounded by the estimated memory of its entries and evicts the least recently used ones
+ *
+ * <p><b>Note:</b> cached results are shared between all callers and must not be modified
+ */
+@Slf4j
+public class ValidationResultCache {
+
+  public static final String ENV_TOGGLE = "ERP_FHIR_VALIDATION_CACHE";
+  public static final String SYS_PROP_TOGGLE = "erp.fhir.validation.cache";
+
+  private static final long DEFAULT_MAX_WEIGHT = 64L * 1024 * 1024;
+  private static final int ENTRY_OVERHEAD = 256;
+  private static final int MESSAGE_OVERHEAD = 128;
+
+  private final long maxWeight;
+  private final LinkedHashMap<CacheKey, CachedResult> results;
+  private long weight;
+
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder savedNanos = new LongAdder();
+
+  public ValidationResultCache() {
+    this(DEFAULT_MAX_WEIGHT);
+  }
+
+  /**
+   * @param maxWeight the estimated number of bytes the cached results may occupy
+   */
+  public ValidationResultCache(long maxWeight) {
+    this.maxWeight = maxWeight;
+    this.results = new LinkedHashMap<>(64, 0.75f, true);
+  }
+
+  /**
+   * The cache is disabled unless it is enabled via the system property {@value #SYS_PROP_TOGGLE}
+   * or the environment variable {@value #ENV_TOGGLE}
+   *
+   * @return the process-wide cache if enabled
+   */
+  public static Optional<ValidationResultCache> getDefault() {
+    val conf = System.getProperty(SYS_PROP_TOGGLE, System.getenv(ENV_TOGGLE));
+    if (Boolean.parseBoolean(conf)) {
+      return Optional.of(SharedCache.INSTANCE);
+    } else {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Get the cached result for the content or validate the content on a cache miss. The validation
+   * itself is performed outside any lock, concurrent misses for the same content might thus
+   * validate the content more than once
+   *
+   * @param validatorKey identifies the validator and its profile configuration
+   * @param content to be validated
+   * @param validation which validates the content on a cache miss
+   * @return the ValidationResult of the content
+   */
+  public ValidationResult validate(
+      String validatorKey, String content, Function<String, ValidationResult> validation) {
+    val key = new CacheKey(digest(content), validatorKey);
+    val cached = get(key);
+    if (cached != null) {
+      hits.increment();
+      savedNanos.add(cached.validationNanos());
+      return cached.result();
+    }
+
+    misses.increment();
+    val start = System.nanoTime();
+    val result = validation.apply(content);
+    put(key, new CachedResult(result, System.nanoTime() - start, weigh(result)));
+    return result;
+  }
+
+  private synchronized CachedResult get(CacheKey key) {
+    return results.get(key);
+  }
+
+  private synchronized void put(CacheKey key, CachedResult cached) {
+    if (cached.weight() > maxWeight) {
+      return;
+    }
+
+    val previous = results.put(key, cached);
+    if (previous != null) {
+      weight -= previous.weight();
+    }
+    weight += cached.weight();
+
+    val it = results.values().iterator();
+    while (weight > maxWeight && it.hasNext()) {
+      weight -= it.next().weight();
+      it.remove();
+    }
+  }
+
+  public synchronized void clear() {
+    results.clear();
+    weight = 0;
+  }
+
+  public synchronized int size() {
+    return results.size();
+  }
+
+  public synchronized long getWeight() {
+    return weight;
+  }
+
+  public long getHits() {
+    return hits.sum();
+  }
+
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  public double getHitRatio() {
+    val hitCount = getHits();
+    val total = hitCount + getMisses();
+    return total == 0 ? 0.0 : (double) hitCount / total;
+  }
+
+  /**
+   * @return the accumulated validation time of all cache hits
+   */
+  public Duration getSavedValidationTime() {
+    return Duration.ofNanos(savedNanos.sum());
+  }
+
+  /** Log the statistics of the shared cache, if enabled, e.g. at the end of a test suite */
+  public static void logStatistics() {
+    getDefault().ifPresent(cache -> log.info("{}", cache));
+  }
+
+  @Override
+  public String toString() {
+    return format(
+        "ValidationResultCache(entries={0}, hits={1}, misses={2}, hitRatio={3}%, saved={4}ms)",
+        size(),
+        getHits(),
+        getMisses(),
+        String.format("%.1f", getHitRatio() * 100),
+        getSavedValidationTime().toMillis());
+  }
+
+  private static long weigh(ValidationResult result) {
+    var w = (long) ENTRY_OVERHEAD;
+    for (SingleValidationMessage message : result.getMessages()) {
+      w += MESSAGE_OVERHEAD;
+      w += 2L * lengthOf(message.getMessage());
+      w += 2L * lengthOf(message.getLocationString());
+    }
+    return w;
+  }
+
+  private static int lengthOf(String value) {
+    return value != null ? value.length() : 0;
+  }
+
+  @SneakyThrows
+  private static String digest(String content) {
+    val md = MessageDigest.getInstance("SHA-256");
+    return HexFormat.of().formatHex(md.digest(content.getBytes(StandardCharsets.UTF_8)));
+  }
+
+  private record CacheKey(String digest, String validatorKey) {}
+
+  private record CachedResult(ValidationResult result, long validationNanos, long weight) {}
+
+  private static final class SharedCache {
+    private static final ValidationResultCache INSTANCE = new ValidationResultCache();
+  }
+}
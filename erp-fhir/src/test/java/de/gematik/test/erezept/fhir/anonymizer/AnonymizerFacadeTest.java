@@ -22,16 +22,21 @@ package de.gematik.test.erezept.fhir.anonymizer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.google.common.reflect.ClassPath;
 import de.gematik.bbriccs.utils.ResourceLoader;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvPatient;
 import de.gematik.test.erezept.fhir.r4.kbv.KbvPractitioner;
 import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import java.util.Arrays;
 import java.util.LinkedList;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
+import lombok.SneakyThrows;
 import lombok.val;
 import org.hl7.fhir.r4.model.Bundle;
 import org.hl7.fhir.r4.model.ResourceType;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -140,4 +145,46 @@ class AnonymizerFacadeTest extends ErpFhirParsingTest {
     assertEquals(originalANR.getValue().length(), anonymizedANR.getValue().length());
     assertEquals(originalANR.getCodeSystemUrl(), anonymizedANR.getCodeSystemUrl());
   }
+
+  @Test
+  void shouldShareDefaultInstance() {
+    assertSame(AnonymizerFacade.getInstance(), AnonymizerFacade.getInstance());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRegisterAllAnonymizersOfPackage() {
+    val packageName = AnonymizerFacade.class.getPackageName();
+    val implementations =
+        ClassPath.from(ClassLoader.getSystemClassLoader()).getAllClasses().stream()
+            .filter(clazz -> clazz.getPackageName().equals(packageName))
+            .map(ClassPath.ClassInfo::load)
+            .filter(clazz -> Arrays.asList(clazz.getInterfaces()).contains(Anonymizer.class))
+            .toList();
+
+    val registered = AnonymizerFacade.getAnonymizers().values();
+    assertFalse(implementations.isEmpty());
+    assertEquals(implementations.size(), registered.size());
+    implementations.forEach(
+        clazz ->
+            assertTrue(
+                registered.stream().anyMatch(clazz::isInstance),
+                clazz.getSimpleName() + " is not registered"));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"fhir/valid/kbv/1.1.0/bundle/3a1c45f8-d959-43f0-8ac4-9959be746188.xml"})
+  void shouldAnonymizeConcurrentlyWithSharedInstance(String path) {
+    val content = ResourceLoader.readFileFromResource(path);
+    val anonymizer = AnonymizerFacade.getInstance();
+
+    val results =
+        IntStream.range(0, 8)
+            .parallel()
+            .mapToObj(i -> parser.decode(KbvErpBundle.class, content))
+            .map(anonymizer::anonymize)
+            .toList();
+
+    assertTrue(results.stream().allMatch(Boolean::booleanValue));
+  }
 }
@@ -0,0 +1,177 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fhir.anonymizer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.hl7.fhir.r4.model.Bundle;
+import org.hl7.fhir.r4.model.OperationOutcome;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class BatchAnonymizerTest extends ErpFhirParsingTest {
+
+  private static final List<String> KBV_BUNDLES =
+      List.of(
+          "fhir/valid/kbv/1.1.0/bundle/3a1c45f8-d959-43f0-8ac4-9959be746188.xml",
+          "fhir/valid/kbv/1.1.0/bundle/5f66314e-459a-41e9-a3d7-65c935a8be2c.xml",
+          "fhir/valid/kbv/1.1.0/bundle/1f339db0-9e55-4946-9dfa-f1b30953be9b.xml");
+
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setUp() {
+    executor = Executors.newFixedThreadPool(4);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldAnonymizeNdjsonInOrder() {
+    val bundles = readKbvBundles();
+    val lines =
+        bundles.stream()
+            .map(bundle -> parser.encode(bundle, EncodingType.JSON))
+            .collect(Collectors.toList());
+    lines.add(1, "{ this is not FHIR }");
+    val input = String.join("\n", lines) + "\n\n";
+
+    val batchAnonymizer = new BatchAnonymizer(parser, AnonymizerFacade.getInstance(), executor, 2);
+    val output = new ByteArrayOutputStream();
+    val count =
+        batchAnonymizer.anonymizeNdjson(
+            new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8)), output);
+
+    val results = output.toString(StandardCharsets.UTF_8).lines().toList();
+    assertEquals(bundles.size() + 1, count);
+    assertEquals(bundles.size() + 1, results.size());
+    assertInstanceOf(OperationOutcome.class, parser.decode(results.get(1), EncodingType.JSON));
+
+    val anonymized =
+        IntStream.range(0, results.size()).filter(i -> i != 1).mapToObj(results::get).toList();
+    for (var i = 0; i < bundles.size(); i++) {
+      val original = bundles.get(i);
+      val bundle = parser.decode(KbvErpBundle.class, anonymized.get(i), EncodingType.JSON);
+      assertEquals(original.getLogicalId(), bundle.getLogicalId());
+      assertNotEquals(original.getPatient().getFullname(), bundle.getPatient().getFullname());
+    }
+  }
+
+  @Test
+  void shouldAnonymizeCollectionBundle() {
+    val bundles = readKbvBundles();
+    val collection = new Bundle().setType(Bundle.BundleType.COLLECTION);
+    bundles.forEach(bundle -> collection.addEntry().setResource(bundle.copy()));
+    collection.addEntry().setResource(new OperationOutcome());
+    val content = parser.encode(collection, EncodingType.XML);
+
+    val batchAnonymizer = new BatchAnonymizer(parser, AnonymizerFacade.getInstance(), executor, 2);
+    val result = parser.decode(Bundle.class, batchAnonymizer.anonymizeBundle(content));
+
+    assertEquals(bundles.size() + 1, result.getEntry().size());
+    for (var i = 0; i < bundles.size(); i++) {
+      val entry = parser.encode(result.getEntry().get(i).getResource(), EncodingType.XML);
+      val bundle = parser.decode(KbvErpBundle.class, entry);
+      assertNotEquals(
+          bundles.get(i).getPatient().getFullname(), bundle.getPatient().getFullname());
+    }
+    val outcome = (OperationOutcome) result.getEntry().get(bundles.size()).getResource();
+    assertEquals(OperationOutcome.IssueSeverity.ERROR, outcome.getIssueFirstRep().getSeverity());
+  }
+
+  @Test
+  void shouldRejectNonCollectionBundle() {
+    val content = ResourceLoader.readFileFromResource(KBV_BUNDLES.get(0));
+    val batchAnonymizer = new BatchAnonymizer(parser, AnonymizerFacade.getInstance(), executor, 2);
+    assertThrows(IllegalArgumentException.class, () -> batchAnonymizer.anonymizeBundle(content));
+  }
+
+  @Test
+  void shouldRejectInvalidMaxInFlight() {
+    val anonymizer = AnonymizerFacade.getInstance();
+    assertThrows(
+        IllegalArgumentException.class, () -> new BatchAnonymizer(parser, anonymizer, executor, 0));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldKeepOutputOrderAcrossThreadCounts() {
+    val bundles = readKbvBundles();
+    val lines = bundles.stream().map(b -> parser.encode(b, EncodingType.JSON)).toList();
+    val bundleIds = bundles.stream().map(b -> b.getIdElement().getIdPart()).toList();
+    val input =
+        IntStream.range(0, 30)
+            .mapToObj(i -> i == 7 ? "{ this is not FHIR }" : lines.get(i % lines.size()))
+            .collect(Collectors.joining("\n"))
+            .getBytes(StandardCharsets.UTF_8);
+
+    val expected =
+        IntStream.range(0, 30)
+            .mapToObj(i -> i == 7 ? null : bundleIds.get(i % bundleIds.size()))
+            .toList();
+    for (val threads : List.of(1, 4)) {
+      val pool = Executors.newFixedThreadPool(threads);
+      try {
+        val batchAnonymizer =
+            new BatchAnonymizer(parser, AnonymizerFacade.getInstance(), pool, threads * 2);
+        val output = new ByteArrayOutputStream();
+        val count = batchAnonymizer.anonymizeNdjson(new ByteArrayInputStream(input), output);
+
+        assertEquals(30, count);
+        val ids =
+            output
+                .toString(StandardCharsets.UTF_8)
+                .lines()
+                .map(line -> parser.decode(line, EncodingType.JSON))
+                .map(r -> r instanceof OperationOutcome ? null : r.getIdElement().getIdPart())
+                .toList();
+        assertEquals(expected, ids, "output order differs with " + threads + " threads");
+      } finally {
+        pool.shutdownNow();
+      }
+    }
+  }
+
+  private static List<KbvErpBundle> readKbvBundles() {
+    return KBV_BUNDLES.stream()
+        .map(path -> parser.decode(KbvErpBundle.class, ResourceLoader.readFileFromResource(path)))
+        .toList();
+  }
+}
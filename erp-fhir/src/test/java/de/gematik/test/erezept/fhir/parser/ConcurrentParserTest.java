@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fhir.parser;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.erezept.fhir.r4.kbv.KbvErpBundle;
+import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class ConcurrentParserTest extends ErpFhirParsingTest {
+
+  private static final String KBV_BUNDLE =
+      "fhir/valid/kbv/1.1.0/bundle/1f339db0-9e55-4946-9dfa-f1b30953be9b.xml";
+  private static final int ROUNDS_PER_THREAD = 50;
+
+  @Test
+  void shouldDecodeAndEncodeConcurrently() {
+    val content = ResourceLoader.readFileFromResource(KBV_BUNDLE);
+    val expected = parser.decode(KbvErpBundle.class, content);
+    val expectedJson = parser.encode(expected, EncodingType.JSON);
+
+    val threads = Math.max(2, Runtime.getRuntime().availableProcessors());
+    val results = runConcurrently(threads, () -> roundTrip(content));
+    results.forEach(json -> assertEquals(expectedJson, json));
+  }
+
+  private String roundTrip(String content) {
+    String json = null;
+    for (var i = 0; i < ROUNDS_PER_THREAD; i++) {
+      val bundle = parser.decode(KbvErpBundle.class, content, EncodingType.XML);
+      json = parser.encode(bundle, EncodingType.JSON);
+      val reDecoded = parser.decode(KbvErpBundle.class, json, EncodingType.JSON);
+      assertEquals(bundle.getLogicalId(), reDecoded.getLogicalId());
+    }
+    return json;
+  }
+
+  @SneakyThrows
+  private static <T> ArrayList<T> runConcurrently(int threads, Callable<T> task) {
+    val executor = Executors.newFixedThreadPool(threads);
+    try {
+      val futures = new ArrayList<Future<T>>(threads);
+      for (var i = 0; i < threads; i++) {
+        futures.add(executor.submit(task));
+      }
+
+      val results = new ArrayList<T>(threads);
+      for (val future : futures) {
+        results.add(future.get(2, TimeUnit.MINUTES));
+      }
+      return results;
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -25,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.*;
 
 import ca.uhn.fhir.context.ConfigurationException;
 import ca.uhn.fhir.parser.DataFormatException;
+import ca.uhn.fhir.parser.LenientErrorHandler;
 import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.bbriccs.fhir.codec.EmptyResource;
 import de.gematik.bbriccs.utils.ResourceLoader;
@@ -169,4 +170,18 @@ class ParserTest extends ErpFhirParsingTest {
     val content = assertDoesNotThrow(() -> parser.encode(new EmptyResource(), encodingType));
     assertTrue(content.isEmpty());
   }
+
+  @Test
+  void shouldSetParserErrorHandlerWithoutChangingSharedContext() {
+    val sharedErrorHandler = ProfileFhirParserFactory.getDecoderContext().getParserErrorHandler();
+    val lenientParser = new FhirParser();
+    val errorHandler = new LenientErrorHandler();
+    errorHandler.disableAllErrors();
+    lenientParser.setParserErrorHandler(errorHandler);
+
+    assertSame(sharedErrorHandler, lenientParser.getCtx().getParserErrorHandler());
+    val oo = new OperationOutcome();
+    oo.addIssue().setDiagnostics("encoded with a lenient parser");
+    assertDoesNotThrow(() -> lenientParser.encode(oo, EncodingType.XML));
+  }
 }
@@ -23,9 +23,13 @@ package de.gematik.test.erezept.fhir.parser;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import de.gematik.bbriccs.fhir.conf.ProfilesConfigurator;
 import de.gematik.bbriccs.utils.PrivateConstructorsUtil;
+import java.util.stream.IntStream;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -60,4 +64,40 @@ class ProfileFhirParserFactoryTest {
     val validatorTwo = assertDoesNotThrow(ProfileFhirParserFactory::getDefaultValidator);
     assertEquals(validatorOne, validatorTwo);
   }
+
+  @Test
+  void shouldProvideValidatorKeyOfConfiguredProfiles() {
+    val configuredProfile =
+        ProfilesConfigurator.getConfiguration(
+                ProfileFhirParserFactory.ERP_FHIR_PROFILES_CONFIG,
+                ProfileFhirParserFactory.ERP_FHIR_PROFILES_TOGGLE)
+            .getDefaultProfile()
+            .getId();
+    assertEquals(
+        "BRICKS@" + configuredProfile,
+        ProfileFhirParserFactory.getValidatorKey(ValidatorType.BRICKS));
+    assertEquals("NONE", ProfileFhirParserFactory.getValidatorKey(ValidatorType.NONE));
+  }
+
+  @Test
+  void shouldShareDecoderContext() {
+    val ctxOne = ProfileFhirParserFactory.getDecoderContext();
+    val ctxTwo = ProfileFhirParserFactory.getDecoderContext();
+    assertSame(ctxOne, ctxTwo);
+    assertSame(ctxOne, new FhirParser(ValidatorType.NONE).getCtx());
+  }
+
+  @Test
+  void shouldCreateDedicatedDecoderContext() {
+    val shared = ProfileFhirParserFactory.getDecoderContext();
+    val dedicated = ProfileFhirParserFactory.createDecoderContext();
+    assertNotSame(shared, dedicated);
+  }
+
+  @Test
+  void shouldShareDecoderContextAcrossManyParsers() {
+    val first = new FhirParser();
+    val parsers = IntStream.range(0, 15).mapToObj(idx -> new FhirParser()).toList();
+    parsers.forEach(p -> assertSame(first.getCtx(), p.getCtx()));
+  }
 }
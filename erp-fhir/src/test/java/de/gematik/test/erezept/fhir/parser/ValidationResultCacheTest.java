@@ -0,0 +1,158 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.fhir.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import ca.uhn.fhir.validation.ResultSeverityEnum;
+import ca.uhn.fhir.validation.SingleValidationMessage;
+import ca.uhn.fhir.validation.ValidationResult;
+import de.gematik.bbriccs.utils.ResourceLoader;
+import de.gematik.test.erezept.fhir.testutil.ErpFhirParsingTest;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+import org.junitpioneer.jupiter.ClearSystemProperty;
+import org.junitpioneer.jupiter.SetSystemProperty;
+
+@Slf4j
+class ValidationResultCacheTest extends ErpFhirParsingTest {
+
+  private static final String KBV_BUNDLE =
+      "fhir/valid/kbv/1.1.0/bundle/1f339db0-9e55-4946-9dfa-f1b30953be9b.xml";
+
+  private static ValidationResult resultWith(String message) {
+    val svm = new SingleValidationMessage();
+    svm.setSeverity(ResultSeverityEnum.ERROR);
+    svm.setMessage(message);
+    return new ValidationResult(parser.getCtx(), List.of(svm));
+  }
+
+  @Test
+  void shouldValidateIdenticalContentOnlyOnce() {
+    val cache = new ValidationResultCache();
+    val validations = new AtomicInteger();
+    val result = resultWith("invalid");
+
+    val first =
+        cache.validate(
+            "BRICKS",
+            "content",
+            c -> {
+              validations.incrementAndGet();
+              return result;
+            });
+    val second = cache.validate("BRICKS", "content", c -> resultWith("other"));
+
+    assertSame(result, first);
+    assertSame(result, second);
+    assertEquals(1, validations.get());
+    assertEquals(1, cache.getHits());
+    assertEquals(1, cache.getMisses());
+    assertEquals(0.5, cache.getHitRatio());
+  }
+
+  @Test
+  void shouldDistinguishValidatorConfigurations() {
+    val cache = new ValidationResultCache();
+    val bricks = cache.validate("BRICKS@default", "content", c -> resultWith("bricks"));
+    val refVal = cache.validate("REF_VAL@default", "content", c -> resultWith("refval"));
+    assertNotSame(bricks, refVal);
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedResultsWhenFull() {
+    val cache = new ValidationResultCache(2048);
+    IntStream.range(0, 100)
+        .forEach(i -> cache.validate("BRICKS", "content " + i, c -> resultWith(c)));
+
+    assertTrue(cache.getWeight() <= 2048);
+    assertTrue(cache.size() < 100);
+
+    // the most recent result must still be cached
+    cache.validate("BRICKS", "content 99", c -> resultWith("should not be validated again"));
+    assertEquals(1, cache.getHits());
+  }
+
+  @Test
+  void shouldBeSafeForConcurrentUse() {
+    val cache = new ValidationResultCache();
+    val executor = Executors.newFixedThreadPool(4);
+    try {
+      val futures =
+          IntStream.range(0, 1000)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> cache.validate("BRICKS", "content " + (i % 10), this::valid),
+                          executor))
+              .toList();
+      futures.forEach(f -> assertTrue(f.join().isSuccessful()));
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(10, cache.size());
+    assertEquals(1000, cache.getHits() + cache.getMisses());
+  }
+
+  @Test
+  @ClearSystemProperty(key = ValidationResultCache.SYS_PROP_TOGGLE)
+  void shouldBeDisabledByDefault() {
+    assertFalse(ValidationResultCache.getDefault().isPresent());
+  }
+
+  @Test
+  @SetSystemProperty(key = ValidationResultCache.SYS_PROP_TOGGLE, value = "true")
+  void shouldEnableSharedCache() {
+    assertTrue(ValidationResultCache.getDefault().isPresent());
+    assertSame(
+        ValidationResultCache.getDefault().orElseThrow(),
+        ValidationResultCache.getDefault().orElseThrow());
+  }
+
+  @Test
+  void shouldReportSavedValidationTimeOfFhirParser() {
+    val cache = new ValidationResultCache();
+    val cachingParser = new FhirParser(ValidatorType.BRICKS, cache);
+    val content = ResourceLoader.readFileFromResource(KBV_BUNDLE);
+
+    val first = cachingParser.validate(content);
+    IntStream.range(0, 9).forEach(i -> assertSame(first, cachingParser.validate(content)));
+
+    assertEquals(9, cache.getHits());
+    assertTrue(cache.getSavedValidationTime().toNanos() > 0);
+    log.info("Validated the same KBV Bundle 10 times: {}", cache);
+  }
+
+  private ValidationResult valid(String content) {
+    return new ValidationResult(parser.getCtx(), List.of());
+  }
+}
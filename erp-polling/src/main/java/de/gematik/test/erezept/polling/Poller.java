@@ -0,0 +1,112 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.polling;
+
+import static java.text.MessageFormat.format;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Repeats an attempt until it yields a non-empty result, the deadline of the {@link
+ * PollingPolicy} is reached or the polling is cancelled. Polling can be cancelled by interrupting
+ * the polling thread or by the optional cancellation condition
+ */
+@Slf4j
+public class Poller {
+
+  private final PollingPolicy policy;
+  private final Function<String, ? extends RuntimeException> timeoutException;
+
+  /**
+   * @param policy defines the intervals and the deadline
+   * @param timeoutException creates the exception to be thrown when the deadline is reached
+   */
+  public Poller(
+      PollingPolicy policy, Function<String, ? extends RuntimeException> timeoutException) {
+    this.policy = policy;
+    this.timeoutException = timeoutException;
+  }
+
+  public <T> List<T> poll(Supplier<List<T>> attempt, String description) {
+    return poll(attempt, description, () -> false);
+  }
+
+  public <T> List<T> poll(
+      Supplier<List<T>> attempt, String description, BooleanSupplier cancelled) {
+    val start = System.nanoTime();
+    val deadline = start + policy.getMaxWait().toNanos();
+    var interval = policy.getInitialInterval();
+    var count = 0;
+
+    while (true) {
+      if (cancelled.getAsBoolean()) {
+        throw new PollingCancelledException(format("Polling for {0} was cancelled", description));
+      }
+
+      count++;
+      val result = attempt.get();
+      val elapsed = Duration.ofNanos(System.nanoTime() - start);
+      if (!result.isEmpty()) {
+        log.info(
+            "Polling for {} succeeded after {} attempts within {} ms",
+            description,
+            count,
+            elapsed.toMillis());
+        return result;
+      }
+
+      val remaining = deadline - System.nanoTime();
+      if (remaining <= 0) {
+        throw timeoutException.apply(
+            format(
+                "No request returned after {0} seconds waiting for call: {1}",
+                policy.getMaxWait().toSeconds(), description));
+      }
+
+      val sleep = Math.min(policy.withJitter(interval).toNanos(), remaining);
+      log.debug(
+          "Polling for {} without result after {} attempts within {} ms, retry in {} ms",
+          description,
+          count,
+          elapsed.toMillis(),
+          TimeUnit.NANOSECONDS.toMillis(sleep));
+      sleepFor(sleep, description);
+      interval = policy.nextInterval(interval);
+    }
+  }
+
+  private static void sleepFor(long nanos, String description) {
+    try {
+      TimeUnit.NANOSECONDS.sleep(nanos);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new PollingCancelledException(
+          format("Polling for {0} was interrupted", description), e);
+    }
+  }
+}
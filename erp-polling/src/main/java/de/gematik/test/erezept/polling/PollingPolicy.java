@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.polling;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import lombok.Builder;
+import lombok.Builder.Default;
+import lombok.Getter;
+import lombok.val;
+
+/**
+ * Describes how often a mock is polled: starting with a short interval, the interval grows
+ * exponentially up to {@link #maxInterval} while {@link #jitter} randomizes each interval to avoid
+ * many waiting clients polling in lockstep. Polling stops after {@link #maxWait}
+ */
+@Getter
+@Builder(toBuilder = true)
+public class PollingPolicy {
+
+  @Default private final Duration initialInterval = Duration.ofMillis(50);
+  @Default private final Duration maxInterval = Duration.ofSeconds(5);
+  @Default private final double multiplier = 2.0;
+
+  /** relative jitter in the range of [0.0, 1.0] applied to each interval */
+  @Default private final double jitter = 0.2;
+
+  @Default private final Duration maxWait = Duration.ofMinutes(6);
+
+  /**
+   * Adaptive polling which detects fast responses within tens of milliseconds
+   *
+   * @param maxInterval is the upper bound of the interval between two attempts
+   * @param maxWait is the deadline after which polling is given up
+   * @return the adaptive PollingPolicy
+   */
+  public static PollingPolicy adaptive(Duration maxInterval, Duration maxWait) {
+    return PollingPolicy.builder().maxInterval(maxInterval).maxWait(maxWait).build();
+  }
+
+  /**
+   * Polling with a constant interval and without jitter
+   *
+   * @param interval is the constant interval between two attempts
+   * @param maxWait is the deadline after which polling is given up
+   * @return the fixed PollingPolicy
+   */
+  public static PollingPolicy fixed(Duration interval, Duration maxWait) {
+    return PollingPolicy.builder()
+        .initialInterval(interval)
+        .maxInterval(interval)
+        .multiplier(1.0)
+        .jitter(0.0)
+        .maxWait(maxWait)
+        .build();
+  }
+
+  public Duration nextInterval(Duration current) {
+    val next = (long) (current.toNanos() * multiplier);
+    return Duration.ofNanos(Math.min(Math.max(next, 0), maxInterval.toNanos()));
+  }
+
+  public Duration withJitter(Duration interval) {
+    if (jitter <= 0.0) {
+      return interval;
+    }
+    val factor = 1.0 + ThreadLocalRandom.current().nextDouble(-jitter, jitter);
+    return Duration.ofNanos((long) (interval.toNanos() * factor));
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.polling;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class PollerTest {
+
+  private static final Duration SHORT_WAIT = Duration.ofMillis(500);
+
+  @Test
+  void shouldGrowIntervalUpToMaximum() {
+    val policy =
+        PollingPolicy.builder()
+            .initialInterval(Duration.ofMillis(50))
+            .maxInterval(Duration.ofMillis(300))
+            .build();
+
+    var interval = policy.getInitialInterval();
+    interval = policy.nextInterval(interval);
+    assertEquals(Duration.ofMillis(100), interval);
+    interval = policy.nextInterval(interval);
+    assertEquals(Duration.ofMillis(200), interval);
+    interval = policy.nextInterval(interval);
+    assertEquals(Duration.ofMillis(300), interval);
+    interval = policy.nextInterval(interval);
+    assertEquals(Duration.ofMillis(300), interval);
+  }
+
+  @Test
+  void shouldKeepJitterWithinBounds() {
+    val policy = PollingPolicy.builder().jitter(0.2).build();
+    val interval = Duration.ofMillis(1000);
+    for (var i = 0; i < 100; i++) {
+      val jittered = policy.withJitter(interval).toMillis();
+      assertTrue(jittered >= 800 && jittered <= 1200, "jittered interval was " + jittered);
+    }
+  }
+
+  @Test
+  void shouldNotJitterFixedPolicy() {
+    val policy = PollingPolicy.fixed(Duration.ofMillis(100), SHORT_WAIT);
+    assertEquals(Duration.ofMillis(100), policy.withJitter(Duration.ofMillis(100)));
+    assertEquals(Duration.ofMillis(100), policy.nextInterval(Duration.ofMillis(100)));
+  }
+
+  @Test
+  void shouldReturnFirstNonEmptyResult() {
+    val poller = adaptivePoller();
+    val attempts = new AtomicInteger();
+
+    val result =
+        poller.poll(
+            () -> attempts.incrementAndGet() < 3 ? List.<String>of() : List.of("found"), "test");
+
+    assertEquals(List.of("found"), result);
+    assertEquals(3, attempts.get());
+  }
+
+  @Test
+  void shouldThrowConfiguredTimeoutException() {
+    val poller = adaptivePoller();
+    val attempts = new AtomicInteger();
+
+    val start = System.nanoTime();
+    assertThrows(
+        TestTimeout.class,
+        () ->
+            poller.poll(
+                () -> {
+                  attempts.incrementAndGet();
+                  return List.of();
+                },
+                "test"));
+    val elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+    assertTrue(attempts.get() > 1);
+    assertTrue(elapsed.compareTo(SHORT_WAIT) >= 0);
+    assertTrue(elapsed.compareTo(SHORT_WAIT.multipliedBy(4)) < 0);
+  }
+
+  @Test
+  void shouldStopOnCancellation() {
+    val poller = adaptivePoller();
+    val cancelled = new AtomicBoolean(false);
+    val attempts = new AtomicInteger();
+
+    assertThrows(
+        PollingCancelledException.class,
+        () ->
+            poller.poll(
+                () -> {
+                  if (attempts.incrementAndGet() == 2) {
+                    cancelled.set(true);
+                  }
+                  return List.of();
+                },
+                "test",
+                cancelled::get));
+    assertEquals(2, attempts.get());
+  }
+
+  @Test
+  void shouldStopOnInterrupt() throws InterruptedException {
+    val poller =
+        new Poller(
+            PollingPolicy.fixed(Duration.ofSeconds(10), Duration.ofSeconds(30)), TestTimeout::new);
+    val interrupted = new CompletableFuture<Boolean>();
+
+    val thread =
+        new Thread(
+            () -> {
+              try {
+                poller.poll(List::of, "test");
+              } catch (PollingCancelledException e) {
+                interrupted.complete(Thread.currentThread().isInterrupted());
+              }
+            });
+    thread.start();
+    thread.interrupt();
+    thread.join(5000);
+
+    assertDoesNotThrow(() -> assertTrue(interrupted.get()));
+  }
+
+  private static Poller adaptivePoller() {
+    return new Poller(PollingPolicy.adaptive(Duration.ofMillis(50), SHORT_WAIT), TestTimeout::new);
+  }
+
+  private static class TestTimeout extends RuntimeException {
+    TestTimeout(String message) {
+      super(message);
+    }
+  }
+}
@@ -27,6 +27,9 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.gematik.bbriccs.rest.HttpBClient;
 import de.gematik.bbriccs.rest.HttpBRequest;
 import de.gematik.bbriccs.rest.RawHttpCodec;
+import de.gematik.test.erezept.polling.Poller;
+import de.gematik.test.erezept.polling.PollingPolicy;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.SneakyThrows;
@@ -40,24 +43,34 @@ public class TRegisterMockClient {
   private final ObjectMapper om =
       new ObjectMapper().enable(DeserializationFeature.ACCEPT_SINGLE_VALUE_AS_ARRAY);
   private final RawHttpCodec codec = RawHttpCodec.defaultCodec();
-  private final long interval;
-  private final long maxWait;
+  private final Poller poller;
 
-  private TRegisterMockClient(HttpBClient restClient, long interval, long maxWait) {
+  private TRegisterMockClient(HttpBClient restClient, PollingPolicy policy) {
     this.restClient = restClient;
-    this.interval = interval;
-    this.maxWait = maxWait;
+    this.poller = new Poller(policy, PollingTimeoutException::new);
   }
 
   public static TRegisterMockClient withRestClient(HttpBClient restClient) {
-    long interval = 5000L;
-    long maxWait = 30000L;
-    return withRestClient(restClient, interval, maxWait);
+    return withRestClient(
+        restClient, PollingPolicy.adaptive(Duration.ofSeconds(5), Duration.ofSeconds(30)));
   }
 
+  /**
+   * Create a TRegisterMockClient which polls with a constant interval
+   *
+   * @param restClient to be used for communicating with the T-Register-Mock
+   * @param interval in milliseconds between two polling attempts
+   * @param maxWait in milliseconds after which polling is given up
+   * @return the TRegisterMockClient
+   */
   public static TRegisterMockClient withRestClient(
       HttpBClient restClient, long interval, long maxWait) {
-    return new TRegisterMockClient(restClient, interval, maxWait);
+    return withRestClient(
+        restClient, PollingPolicy.fixed(Duration.ofMillis(interval), Duration.ofMillis(maxWait)));
+  }
+
+  public static TRegisterMockClient withRestClient(HttpBClient restClient, PollingPolicy policy) {
+    return new TRegisterMockClient(restClient, policy);
   }
 
   /** Downloads logs from T-Register for the given request. */
@@ -105,37 +118,8 @@ public class TRegisterMockClient {
     }
   }
 
-  @SneakyThrows
   public List<TRegisterLog> pollRequest(TRegisterMockDownloadRequest request) {
-    long startTime = System.currentTimeMillis();
-    List<TRegisterLog> list;
-    int count = 0;
-
-    do {
-      count++;
-
-      list = this.downloadRequest(request);
-      if (!list.isEmpty()) {
-        break;
-      }
-
-      log.info(
-          "Tried to download from TRegisterMock with {} iterations and a period of {} ms",
-          count,
-          (System.currentTimeMillis() - startTime));
-
-      Thread.sleep(interval);
-
-    } while (System.currentTimeMillis() - startTime < maxWait);
-
-    if (list.isEmpty()) {
-      throw new PollingTimeoutException(
-          String.format(
-              "No request returned after %d seconds waiting for call: %s",
-              (maxWait * 3 / 1000), request.urlPath()));
-    }
-
-    return list;
+    return poller.poll(() -> this.downloadRequest(request), request.urlPath());
   }
 
   @JsonIgnoreProperties(ignoreUnknown = true)
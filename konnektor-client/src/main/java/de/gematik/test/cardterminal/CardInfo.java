@@ -22,6 +22,7 @@ package de.gematik.test.cardterminal;
 
 import static java.text.MessageFormat.format;
 
+import de.gematik.bbriccs.smartcards.Smartcard;
 import de.gematik.bbriccs.smartcards.SmartcardType;
 import de.gematik.ws.conn.cardservice.v8.CardInfoType;
 import java.math.BigInteger;
@@ -34,6 +35,9 @@ import lombok.NonNull;
 @Builder
 public class CardInfo {
 
+  /** the card handle of a card which is not yet reported by the Konnektor */
+  static final String UNKNOWN_HANDLE = "UNKNOWN";
+
   @NonNull private final String handle;
   @NonNull private final String iccsn;
 
@@ -77,4 +81,25 @@ public class CardInfo {
         .insertTime(cit.getInsertTime() != null ? cit.getInsertTime().toGregorianCalendar() : null)
         .build();
   }
+
+  /**
+   * Describe a card which was just inserted into a slot by a {@link CardTerminalClient}. The card
+   * handle is assigned by the Konnektor and thus stays {@link #UNKNOWN_HANDLE} until the card is
+   * reported via GetCards or a card event
+   *
+   * @param card which was inserted
+   * @param ctId of the card terminal
+   * @param slot of the card terminal the card was inserted into
+   * @return the CardInfo of the inserted card
+   */
+  static CardInfo insertedInto(Smartcard card, String ctId, int slot) {
+    return new CardInfoBuilder()
+        .handle(UNKNOWN_HANDLE)
+        .iccsn(card.getIccsn())
+        .slot(BigInteger.valueOf(slot))
+        .ctId(ctId)
+        .type(card.getType())
+        .insertTime(new GregorianCalendar())
+        .build();
+  }
 }
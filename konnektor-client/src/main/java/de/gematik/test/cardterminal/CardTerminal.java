@@ -28,6 +28,7 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import lombok.val;
 
 @Getter
 @RequiredArgsConstructor
@@ -65,9 +66,15 @@ public class CardTerminal {
     this.slots.clear();
   }
 
-  public void addCard(@NonNull CardInfo card) {
+  public CardTerminalSlot addCard(@NonNull CardInfo card) {
     slots.removeIf(it -> it.isOccupied() && it.getCard().getSlot().equals(card.getSlot()));
-    slots.add(new CardTerminalSlot(this, card));
+    val slot = new CardTerminalSlot(this, card);
+    slots.add(slot);
+    return slot;
+  }
+
+  public void removeSlot(@NonNull CardTerminalSlot slot) {
+    slots.remove(slot);
   }
 
   @Override
@@ -28,56 +28,132 @@ import de.gematik.test.cardterminal.exceptions.NoAppropriateSlotException;
 import de.gematik.test.erezept.config.dto.konnektor.KonnektorType;
 import de.gematik.test.konnektor.Konnektor;
 import de.gematik.test.konnektor.commands.GetCardsCommand;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+/**
+ * Keeps an index of the card terminals by their ctId and of the occupied slots by the ICCSN of the
+ * inserted card. The index is updated incrementally on each insertion and via {@link
+ * #onCardInserted(CardInfo)} and {@link #onCardRemoved(CardInfo)} which can be fed by the card
+ * events of the EventService. A full GetCards is only issued if the index is stale or does not know
+ * the card to be inserted
+ */
 @Slf4j
 public class CardTerminalManager {
 
+  private static final Duration DEFAULT_MAX_INDEX_AGE = Duration.ofMinutes(1);
+
   private final Konnektor konnektor;
   private final Set<CardTerminalClient> cardTerminalClients;
-  private final Set<CardTerminal> cardTerminals = new HashSet<>();
+  private final Duration maxIndexAge;
+  private final Clock clock;
+  private final Map<String, CardTerminal> cardTerminals = new LinkedHashMap<>();
+  private final Map<String, CardTerminalSlot> slotsByIccsn = new HashMap<>();
+  private Instant lastRefresh;
 
   public CardTerminalManager(
       @NonNull Konnektor konnektor, @NonNull Collection<CardTerminalClient> cardTerminalClients) {
+    this(konnektor, cardTerminalClients, DEFAULT_MAX_INDEX_AGE);
+  }
+
+  /**
+   * @param konnektor the card terminals are connected to
+   * @param cardTerminalClients which are able to insert cards into the card terminals
+   * @param maxIndexAge after which the index is considered stale and refreshed via GetCards
+   */
+  public CardTerminalManager(
+      @NonNull Konnektor konnektor,
+      @NonNull Collection<CardTerminalClient> cardTerminalClients,
+      @NonNull Duration maxIndexAge) {
+    this(konnektor, cardTerminalClients, maxIndexAge, Clock.systemUTC());
+  }
+
+  CardTerminalManager(
+      Konnektor konnektor,
+      Collection<CardTerminalClient> cardTerminalClients,
+      Duration maxIndexAge,
+      Clock clock) {
     this.konnektor = konnektor;
     this.cardTerminalClients = new HashSet<>(cardTerminalClients);
+    this.maxIndexAge = maxIndexAge;
+    this.clock = clock;
   }
 
-  public void refresh() {
+  public synchronized void refresh() {
     if (konnektor.getType() == KonnektorType.LOCAL) {
       return;
     }
 
-    cardTerminals.forEach(CardTerminal::resetSlots);
+    cardTerminals.values().forEach(CardTerminal::resetSlots);
+    slotsByIccsn.clear();
 
     val resp = konnektor.execute(new GetCardsCommand());
-    val cards =
-        resp.getPayload().getCards().getCard().stream().map(CardInfo::fromCardInfoType).toList();
+    resp.getPayload().getCards().getCard().stream()
+        .map(CardInfo::fromCardInfoType)
+        .forEach(this::indexCard);
+    lastRefresh = clock.instant();
+  }
+
+  /** Mark the index as stale, the next insertion will then refresh it via GetCards */
+  public synchronized void invalidate() {
+    lastRefresh = null;
+  }
+
+  /**
+   * Update the index with a card which was reported as inserted, e.g. by a CARD/INSERTED event of
+   * the EventService
+   *
+   * @param card which was inserted
+   */
+  public synchronized void onCardInserted(@NonNull CardInfo card) {
+    indexCard(card);
+  }
 
-    cards.forEach(
-        card -> {
-          val ct = getCardTerminal(card.getCtId());
-          ct.addCard(card);
-        });
+  /**
+   * Update the index with a card which was reported as removed, e.g. by a CARD/REMOVED event of the
+   * EventService
+   *
+   * @param card which was removed
+   */
+  public synchronized void onCardRemoved(@NonNull CardInfo card) {
+    removeCard(card.getIccsn());
+  }
+
+  private boolean isIndexStale() {
+    return lastRefresh == null || lastRefresh.plus(maxIndexAge).isBefore(clock.instant());
+  }
+
+  private void indexCard(CardInfo card) {
+    removeCard(card.getIccsn());
+    val ct = getCardTerminal(card.getCtId());
+    // the card will replace the one which might still be indexed for the same slot
+    ct.getSlots().stream()
+        .filter(it -> it.isOccupied() && it.getCard().getSlot().equals(card.getSlot()))
+        .forEach(it -> slotsByIccsn.remove(it.getCard().getIccsn()));
+    slotsByIccsn.put(card.getIccsn(), ct.addCard(card));
+  }
+
+  private void removeCard(String iccsn) {
+    val slot = slotsByIccsn.remove(iccsn);
+    if (slot != null) {
+      slot.getCt().removeSlot(slot);
+    }
   }
 
   private CardTerminal getCardTerminal(@NonNull String ctId) {
-    return cardTerminals.stream()
-        .filter(it -> ctId.equals(it.getCtId()))
-        .findFirst()
-        .orElseGet(
-            () -> {
-              val ct = new CardTerminal(ctId);
-              cardTerminals.add(ct);
-              return ct;
-            });
+    return cardTerminals.computeIfAbsent(ctId, CardTerminal::new);
   }
 
   private Optional<CardTerminalClient> getCardTerminalClient(@NonNull CardTerminal ct) {
@@ -86,12 +162,22 @@ public class CardTerminalManager {
         .findFirst();
   }
 
-  public boolean insertCard(@NonNull Smartcard card) {
+  public synchronized boolean insertCard(@NonNull Smartcard card) {
     if (konnektor.getType() == KonnektorType.LOCAL) {
       return false;
     }
 
-    refresh();
+    val isRefreshed = isIndexStale();
+    if (isRefreshed) {
+      refresh();
+    }
+
+    var occupiedSlot = getOccupiedSlot(card);
+    if (occupiedSlot.isEmpty() && !isRefreshed) {
+      // the card might have been inserted without notice: ask the Konnektor before choosing a slot
+      refresh();
+      occupiedSlot = getOccupiedSlot(card);
+    }
 
     if (cardTerminals.isEmpty()) {
       log.warn("No card terminals connected. Please run refresh() first.");
@@ -100,7 +186,7 @@ public class CardTerminalManager {
 
     val ctSlot =
         // if the card is already inserted, get occupied slot
-        getOccupiedSlot(card)
+        occupiedSlot
             // get a free slot of any connected and activated card terminal
             .or(this::getFreeSlot)
             // otherwise get any slot from any card terminal that
@@ -113,28 +199,29 @@ public class CardTerminalManager {
     // If it is not a physical card terminal and a card terminal client is known, then use your
     // power.
     // For a physical card terminal, the SOAP operation requestCard could be called
-    val ctClient = getCardTerminalClient(ctSlot.getCt());
+    val ct = ctSlot.getCt();
+    val ctClient = getCardTerminalClient(ct);
     ctClient.ifPresentOrElse(
-        client -> client.insertCard(card, ctSlot.getSlot()),
+        client -> {
+          client.insertCard(card, ctSlot.getSlot());
+          indexCard(CardInfo.insertedInto(card, ct.getCtId(), ctSlot.getSlot()));
+        },
         () ->
             log.warn(
                 format(
                     "no card terminal client with id {0} has matched. Card terminal client ids:"
                         + " {1}",
-                    ctSlot.getCt().getCtId(), cardTerminalClients)));
+                    ct.getCtId(), cardTerminalClients)));
 
     return true;
   }
 
   private Optional<CardTerminalSlot> getOccupiedSlot(Smartcard card) {
-    return this.cardTerminals.stream()
-        .flatMap(it -> it.getSlots().stream())
-        .filter(it -> it.getCard().getIccsn().equals(card.getIccsn()))
-        .findFirst();
+    return Optional.ofNullable(slotsByIccsn.get(card.getIccsn()));
   }
 
   private Optional<CardTerminalSlot> getFreeSlot() {
-    return cardTerminals.stream()
+    return cardTerminals.values().stream()
         .map(CardTerminal::getFreeSlot)
         .filter(Optional::isPresent)
         .map(Optional::get)
@@ -145,7 +232,7 @@ public class CardTerminalManager {
     Comparator<CardTerminalSlot> comparatorAsc =
         Comparator.comparing(slot -> slot.getCard().getInsertTime());
 
-    return cardTerminals.stream()
+    return cardTerminals.values().stream()
         .flatMap(
             ct ->
                 ct.getSlots().stream()
@@ -28,6 +28,8 @@ import de.gematik.test.erezept.config.dto.konnektor.KonnektorType;
 import de.gematik.test.konnektor.cfg.KonnektorFactory;
 import de.gematik.test.konnektor.commands.*;
 import de.gematik.test.konnektor.exceptions.*;
+import de.gematik.test.konnektor.metrics.KonnektorLatencyRecorder;
+import de.gematik.test.konnektor.metrics.KonnektorMetrics;
 import de.gematik.test.konnektor.profile.*;
 import de.gematik.test.konnektor.soap.*;
 import de.gematik.ws.conn.connectorcontext.v2.*;
@@ -45,6 +47,7 @@ public class KonnektorImpl implements Konnektor {
   @Getter private final KonnektorType type;
   protected final ServicePortProvider serviceProvider;
   @Getter private final CardTerminalManager cardTerminalManager;
+  @Setter @NonNull private volatile KonnektorMetrics metrics = KonnektorLatencyRecorder.shared();
 
   public KonnektorImpl(
       ContextType ctx,
@@ -90,9 +93,16 @@ public class KonnektorImpl implements Konnektor {
   @Override
   public final <R> KonnektorResponse<R> execute(KonnektorCommand<R> cmd) {
     log.info(format("Execute {0} on {1}", cmd.getClass().getSimpleName(), this));
-    val start = Instant.now();
-    val response = cmd.execute(ctx, serviceProvider);
-    val duration = Duration.between(start, Instant.now());
+    val start = System.nanoTime();
+    final R response;
+    try {
+      response = cmd.execute(ctx, serviceProvider);
+    } catch (RuntimeException e) {
+      metrics.record(name, cmd.getClass(), Duration.ofNanos(System.nanoTime() - start), true);
+      throw e;
+    }
+    val duration = Duration.ofNanos(System.nanoTime() - start);
+    metrics.record(name, cmd.getClass(), duration, false);
     log.trace(
         format(
             "Received Response for {0} from {1} within {2}",
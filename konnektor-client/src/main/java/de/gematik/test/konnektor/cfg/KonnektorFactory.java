@@ -32,6 +32,8 @@ import de.gematik.test.konnektor.profile.ProfileType;
 import de.gematik.test.konnektor.soap.MockKonnektorServiceProvider;
 import de.gematik.test.konnektor.soap.RemoteKonnektorServiceProvider;
 import de.gematik.test.konnektor.soap.TrustProvider;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
 import de.gematik.test.konnektor.soap.mock.vsdm.VsdmService;
 import de.gematik.ws.conn.connectorcontext.v2.ContextType;
 import java.net.URL;
@@ -48,6 +50,16 @@ public class KonnektorFactory {
     throw new IllegalAccessException("utility class");
   }
 
+  /**
+   * The smartcard archive is the same for all Mock-Konnektors of this process and is therefore read
+   * only once on first use
+   *
+   * @return the process-wide SmartcardArchive
+   */
+  public static SmartcardArchive getSharedSmartcardArchive() {
+    return SharedSmartcards.ARCHIVE;
+  }
+
   public static ContextType fromConfig(KonnektorContextConfiguration config) {
     val ctx = new ContextType();
     ctx.setMandantId(config.getMandantId());
@@ -83,10 +95,18 @@ public class KonnektorFactory {
   }
 
   public static Konnektor createMockKonnektor(LocalKonnektorConfiguration config) {
-    if (config.getVsdmServiceConfiguration() != null) {
-      return createMockKonnektor(config.getName(), config.getVsdmServiceConfiguration());
+    val vsdmServiceConfiguration =
+        config.getVsdmServiceConfiguration() != null
+            ? config.getVsdmServiceConfiguration()
+            : VsdmServiceConfiguration.createDefault();
+    if (config.isOfflineOcsp()) {
+      return createMockKonnektor(
+          config.getName(),
+          vsdmServiceConfiguration,
+          OcspTokenProvider.selfSigned(),
+          RevocationPolicy.OFFLINE);
     } else {
-      return createMockKonnektor(config.getName());
+      return createMockKonnektor(config.getName(), vsdmServiceConfiguration);
     }
   }
 
@@ -96,13 +116,25 @@ public class KonnektorFactory {
 
   public static Konnektor createMockKonnektor(
       String named, VsdmServiceConfiguration vsdmServiceConfiguration) {
-    val smartcards = SmartcardArchive.fromResources();
+    return createMockKonnektor(
+        named, vsdmServiceConfiguration, OcspTokenProvider.online(), RevocationPolicy.ONLINE);
+  }
+
+  public static Konnektor createMockKonnektor(
+      String named,
+      VsdmServiceConfiguration vsdmServiceConfiguration,
+      OcspTokenProvider ocspTokenProvider,
+      RevocationPolicy revocationPolicy) {
+    val smartcards = getSharedSmartcardArchive();
     log.info(format("Create Local Mock Konnektor {0}", named));
 
     val ctx = getDefaultContextType();
     val serviceProvider =
         new MockKonnektorServiceProvider(
-            smartcards, VsdmService.createFrom(vsdmServiceConfiguration));
+            smartcards,
+            VsdmService.createFrom(vsdmServiceConfiguration),
+            ocspTokenProvider,
+            revocationPolicy);
     return new KonnektorImpl(ctx, named, KonnektorType.LOCAL, serviceProvider);
   }
 
@@ -151,4 +183,8 @@ public class KonnektorFactory {
     Objects.requireNonNull(address, "RemoteKonnektor requires a network address");
     return new URL(format("{0}://{1}", protocol, address));
   }
+
+  private static final class SharedSmartcards {
+    private static final SmartcardArchive ARCHIVE = SmartcardArchive.fromResources();
+  }
 }
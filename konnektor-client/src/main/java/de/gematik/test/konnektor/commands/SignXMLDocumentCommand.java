@@ -62,14 +62,22 @@ public class SignXMLDocumentCommand extends AbstractKonnektorCommand<byte[]> {
       byte[] content,
       SignDocumentOptions options,
       boolean isIncludeRevocationInfo) {
-    val factory = new ObjectFactory();
     this.options = options;
     this.cardInfo = cardInfo;
-    this.signRequest = factory.createSignRequest();
-    this.signRequest.setIncludeRevocationInfo(isIncludeRevocationInfo);
+    this.signRequest = createSignRequest("CMS-Doc1", content, options, isIncludeRevocationInfo);
+  }
+
+  static SignRequest createSignRequest(
+      String documentId,
+      byte[] content,
+      SignDocumentOptions options,
+      boolean isIncludeRevocationInfo) {
+    val factory = new ObjectFactory();
+    val signRequest = factory.createSignRequest();
+    signRequest.setIncludeRevocationInfo(isIncludeRevocationInfo);
 
     val doctype = factory.createDocumentType();
-    doctype.setID("CMS-Doc1"); // what about this one?
+    doctype.setID(documentId);
     doctype.setShortText("a CMSDocument2Sign");
 
     val data = new Base64Data();
@@ -83,6 +91,7 @@ public class SignXMLDocumentCommand extends AbstractKonnektorCommand<byte[]> {
     optVal.setIncludeEContent(options.isIncludeEContent());
     optVal.setSignatureType(options.getSignatureType().getUrn());
     signRequest.setOptionalInputs(optVal);
+    return signRequest;
   }
 
   @Override
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.commands;
+
+import static java.text.MessageFormat.format;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.test.cardterminal.CardInfo;
+import de.gematik.test.konnektor.commands.options.SignDocumentOptions;
+import de.gematik.test.konnektor.exceptions.SOAPRequestException;
+import de.gematik.test.konnektor.soap.ServicePortProvider;
+import de.gematik.ws.conn.connectorcontext.v2.ContextType;
+import de.gematik.ws.conn.signatureservice.v7.SignRequest;
+import de.gematik.ws.conn.signatureservice.v7.SignResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Signs multiple XML documents with a single SignDocument call under one JobNumber. The signatures
+ * are mapped back to the documents by the RequestID and returned in the order of the given
+ * documents. The SignRequests are created for each execution, thus a command can be executed
+ * repeatedly and concurrently
+ */
+@Slf4j
+public class SignXMLDocumentsCommand extends AbstractKonnektorCommand<List<byte[]>> {
+
+  private final CardInfo cardInfo;
+  private final List<byte[]> contents;
+  private final SignDocumentOptions options;
+  private final boolean isIncludeRevocationInfo;
+
+  public SignXMLDocumentsCommand(CardInfo cardInfo, List<String> contents, CryptoSystem algorithm) {
+    this(cardInfo, contents, algorithm, false);
+  }
+
+  public SignXMLDocumentsCommand(
+      CardInfo cardInfo,
+      List<String> contents,
+      CryptoSystem algorithm,
+      boolean isIncludeRevocationInfo) {
+    this.cardInfo = cardInfo;
+    this.contents = contents.stream().map(c -> c.getBytes(StandardCharsets.UTF_8)).toList();
+    this.options = SignDocumentOptions.withAlgorithm(algorithm);
+    this.isIncludeRevocationInfo = isIncludeRevocationInfo;
+  }
+
+  private List<SignRequest> createSignRequests() {
+    val signRequests = new ArrayList<SignRequest>(contents.size());
+    for (var i = 0; i < contents.size(); i++) {
+      val signRequest =
+          SignXMLDocumentCommand.createSignRequest(
+              format("CMS-Doc{0}", i + 1), contents.get(i), options, isIncludeRevocationInfo);
+      signRequest.setRequestID(UUID.randomUUID().toString());
+      signRequests.add(signRequest);
+    }
+    return signRequests;
+  }
+
+  @Override
+  public List<byte[]> execute(ContextType ctx, ServicePortProvider serviceProvider) {
+    if (contents.isEmpty()) {
+      return List.of();
+    }
+
+    val servicePort = serviceProvider.getSignatureService();
+    val signRequests = createSignRequests();
+
+    val jobNumber = this.executeSupplier(() -> servicePort.getJobNumber(ctx));
+
+    log.trace(
+        format(
+            "Sign {0} XML Documents with {1} for JobNumber {2}",
+            signRequests.size(), options.getCryptoType().getValue(), jobNumber));
+
+    val response =
+        this.executeSupplier(
+            () ->
+                servicePort.signDocument(
+                    cardInfo.getHandle(),
+                    options.getCryptoType().getValue(),
+                    ctx,
+                    options.getTvMode(),
+                    jobNumber,
+                    signRequests));
+
+    val responsesById =
+        response.stream()
+            .collect(
+                Collectors.toMap(
+                    SignResponse::getRequestID,
+                    Function.identity(),
+                    (first, second) -> {
+                      throw new SOAPRequestException(
+                          this.getClass(),
+                          format(
+                              "Response contains multiple entries for Request {0}",
+                              first.getRequestID()));
+                    }));
+
+    return signRequests.stream()
+        .map(SignRequest::getRequestID)
+        .map(
+            requestId -> {
+              val signedDoc = responsesById.get(requestId);
+              if (signedDoc == null) {
+                throw new SOAPRequestException(
+                    this.getClass(),
+                    format("Response does not contain any entry for Request {0}", requestId));
+              }
+              return signedDoc.getSignatureObject().getBase64Signature().getValue();
+            })
+        .toList();
+  }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.metrics;
+
+import static java.text.MessageFormat.format;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Records a {@link LatencyHistogram} and the number of errors per Konnektor and command type. The
+ * {@link #shared()} recorder is used by all Konnektors unless configured otherwise. Once a command
+ * type was recorded for a Konnektor, the metrics are looked up by plain map reads without creating
+ * any lookup key
+ */
+@Slf4j
+public class KonnektorLatencyRecorder implements KonnektorMetrics {
+
+  private static final KonnektorLatencyRecorder SHARED = new KonnektorLatencyRecorder();
+
+  private final Map<String, Map<Class<?>, CommandMetrics>> metrics = new ConcurrentHashMap<>();
+
+  public static KonnektorLatencyRecorder shared() {
+    return SHARED;
+  }
+
+  @Override
+  public void record(
+      String konnektorName, Class<?> commandType, Duration duration, boolean failed) {
+    val commandMetrics =
+        metrics
+            .computeIfAbsent(konnektorName, k -> new ConcurrentHashMap<>())
+            .computeIfAbsent(commandType, c -> new CommandMetrics());
+    commandMetrics.histogram.recordMicros(duration.toNanos() / 1000);
+    if (failed) {
+      commandMetrics.errors.increment();
+    }
+  }
+
+  public List<CommandLatencySummary> getSummaries() {
+    return metrics.entrySet().stream()
+        .flatMap(
+            konnektor ->
+                konnektor.getValue().entrySet().stream()
+                    .map(e -> summarize(konnektor.getKey(), e.getKey(), e.getValue())))
+        .sorted(
+            Comparator.comparing(CommandLatencySummary::konnektor)
+                .thenComparing(CommandLatencySummary::command))
+        .toList();
+  }
+
+  public void reset() {
+    metrics.clear();
+  }
+
+  /**
+   * Write the summaries as JSON next to the output of the API stopwatches to
+   * target/stopwatch/{name}.json
+   *
+   * @param name of the dump file without extension
+   */
+  @SneakyThrows
+  public void dump(String name) {
+    val basePath = Path.of(System.getProperty("user.dir"), "target", "stopwatch");
+    basePath.toFile().mkdirs();
+
+    val summaries = getSummaries();
+    summaries.forEach(
+        s ->
+            log.info(
+                format(
+                    "{0} on {1}: count={2} errors={3} p50={4}ms p95={5}ms p99={6}ms max={7}ms",
+                    s.command(),
+                    s.konnektor(),
+                    s.count(),
+                    s.errors(),
+                    s.p50(),
+                    s.p95(),
+                    s.p99(),
+                    s.max())));
+
+    val objectWriter = new ObjectMapper().writerWithDefaultPrettyPrinter();
+    objectWriter.writeValue(basePath.resolve(format("{0}.json", name)).toFile(), summaries);
+  }
+
+  private static CommandLatencySummary summarize(
+      String konnektor, Class<?> commandType, CommandMetrics metrics) {
+    val histogram = metrics.histogram;
+    return new CommandLatencySummary(
+        konnektor,
+        commandType.getSimpleName(),
+        histogram.getTotalCount(),
+        metrics.errors.sum(),
+        toMillis(histogram.getPercentileMicros(50)),
+        toMillis(histogram.getPercentileMicros(95)),
+        toMillis(histogram.getPercentileMicros(99)),
+        toMillis(histogram.getMaxMicros()));
+  }
+
+  private static double toMillis(long micros) {
+    return micros / 1000.0;
+  }
+
+  private static class CommandMetrics {
+    private final LatencyHistogram histogram = new LatencyHistogram();
+    private final LongAdder errors = new LongAdder();
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.metrics;
+
+import java.time.Duration;
+
+/** Receives the outcome of each command which is executed on a Konnektor */
+@FunctionalInterface
+public interface KonnektorMetrics {
+
+  /**
+   * Record a single command execution. Implementations are called on the hot path of every
+   * Konnektor request and must therefore be thread-safe and cheap
+   *
+   * @param konnektorName of the Konnektor which executed the command
+   * @param commandType of the executed command
+   * @param duration of the execution
+   * @param failed is true if the command threw an exception
+   */
+  void record(String konnektorName, Class<?> commandType, Duration duration, boolean failed);
+
+  static KonnektorMetrics noop() {
+    return (konnektorName, commandType, duration, failed) -> {};
+  }
+}
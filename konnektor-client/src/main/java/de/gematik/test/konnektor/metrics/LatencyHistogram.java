@@ -0,0 +1,109 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.val;
+
+/**
+ * A lock-free latency histogram with logarithmic buckets in the style of HdrHistogram. Values are
+ * recorded in microseconds with a relative error of less than 1/64 (~1.6%), values below 128µs are
+ * recorded exactly. Recording does not allocate and does not lock: it updates the bucket counter,
+ * the total count and the maximum, each of them atomically but not as one atomic step
+ */
+public class LatencyHistogram {
+
+  private static final int SUB_BUCKET_BITS = 6;
+  private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+  private static final int LINEAR_LIMIT = 2 * SUB_BUCKET_COUNT;
+
+  /** one hour, longer durations are recorded as the highest trackable value */
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+
+  private static final int BUCKET_COUNT = indexOf(HIGHEST_TRACKABLE_MICROS) + 1;
+
+  private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+  private final LongAdder totalCount = new LongAdder();
+  private final AtomicLong maxMicros = new AtomicLong();
+
+  public void recordMicros(long micros) {
+    val value = Math.min(Math.max(micros, 0), HIGHEST_TRACKABLE_MICROS);
+    counts.incrementAndGet(indexOf(value));
+    totalCount.increment();
+    maxMicros.accumulateAndGet(value, Math::max);
+  }
+
+  public long getTotalCount() {
+    return totalCount.sum();
+  }
+
+  public long getMaxMicros() {
+    return maxMicros.get();
+  }
+
+  /**
+   * @param percentile between 0 and 100
+   * @return the highest value of the bucket containing the given percentile in microseconds or 0
+   *     if nothing was recorded yet
+   */
+  public long getPercentileMicros(double percentile) {
+    val snapshot = new long[BUCKET_COUNT];
+    var total = 0L;
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      snapshot[i] = counts.get(i);
+      total += snapshot[i];
+    }
+    if (total == 0) {
+      return 0;
+    }
+
+    val rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+    var cumulated = 0L;
+    for (var i = 0; i < BUCKET_COUNT; i++) {
+      cumulated += snapshot[i];
+      if (cumulated >= rank) {
+        return Math.min(highestValueOf(i), getMaxMicros());
+      }
+    }
+    return getMaxMicros();
+  }
+
+  static int indexOf(long value) {
+    if (value < LINEAR_LIMIT) {
+      return (int) value;
+    }
+    val exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    val subBucket = (int) (value >>> exponent) - SUB_BUCKET_COUNT;
+    return LINEAR_LIMIT + (exponent - 1) * SUB_BUCKET_COUNT + subBucket;
+  }
+
+  static long highestValueOf(int index) {
+    if (index < LINEAR_LIMIT) {
+      return index;
+    }
+    val exponent = (index - LINEAR_LIMIT) / SUB_BUCKET_COUNT + 1;
+    val subBucket = (index - LINEAR_LIMIT) % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+    return ((long) (subBucket + 1) << exponent) - 1;
+  }
+}
@@ -24,6 +24,7 @@ import static java.text.MessageFormat.format;
 
 import de.gematik.bbriccs.smartcards.SmartcardArchive;
 import de.gematik.test.konnektor.profile.MockProfile;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
 import de.gematik.test.konnektor.soap.mock.MockAuthSignatureServicePortType;
 import de.gematik.test.konnektor.soap.mock.MockCardServicePortType;
 import de.gematik.test.konnektor.soap.mock.MockCertificateServicePortType;
@@ -32,6 +33,7 @@ import de.gematik.test.konnektor.soap.mock.MockEventServicePortType;
 import de.gematik.test.konnektor.soap.mock.MockKonnektor;
 import de.gematik.test.konnektor.soap.mock.MockSignatureServicePortType;
 import de.gematik.test.konnektor.soap.mock.MockVSDServicePortType;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
 import de.gematik.test.konnektor.soap.mock.vsdm.VsdmService;
 import de.gematik.ws.conn.authsignatureservice.wsdl.v7_4.AuthSignatureServicePortType;
 import de.gematik.ws.conn.cardservice.wsdl.v8.CardServicePortType;
@@ -47,10 +49,44 @@ public class MockKonnektorServiceProvider extends ServicePortProvider {
   private final MockKonnektor mockKonnektor;
   private final VsdmService vsdmService;
 
+  // the mock ports only hold the shared MockKonnektor and are reused by all threads
+  private final AuthSignatureServicePortType authSignatureService;
+  private final CertificateServicePortType certificateService;
+  private final EventServicePortType eventService;
+  private final SignatureServicePortType signatureService;
+  private final CardServicePortType cardService;
+  private final VSDServicePortType vsdService;
+  private final EncryptionServicePortType encryptionService;
+
   public MockKonnektorServiceProvider(SmartcardArchive smartcardArchive, VsdmService service) {
+    this(smartcardArchive, service, OcspTokenProvider.online());
+  }
+
+  public MockKonnektorServiceProvider(
+      SmartcardArchive smartcardArchive,
+      VsdmService service,
+      OcspTokenProvider ocspTokenProvider) {
+    this(smartcardArchive, service, ocspTokenProvider, RevocationPolicy.ONLINE);
+  }
+
+  public MockKonnektorServiceProvider(
+      SmartcardArchive smartcardArchive,
+      VsdmService service,
+      OcspTokenProvider ocspTokenProvider,
+      RevocationPolicy revocationPolicy) {
     super(new MockProfile());
     this.mockKonnektor = new MockKonnektor(smartcardArchive);
+    this.mockKonnektor.setOcspTokenProvider(ocspTokenProvider);
+    this.mockKonnektor.setRevocationPolicy(revocationPolicy);
     this.vsdmService = service;
+
+    this.authSignatureService = new MockAuthSignatureServicePortType(mockKonnektor);
+    this.certificateService = new MockCertificateServicePortType(mockKonnektor);
+    this.eventService = new MockEventServicePortType(mockKonnektor);
+    this.signatureService = new MockSignatureServicePortType(mockKonnektor);
+    this.cardService = new MockCardServicePortType(mockKonnektor);
+    this.vsdService = new MockVSDServicePortType(mockKonnektor, vsdmService);
+    this.encryptionService = new MockEncryptionPortType(mockKonnektor);
   }
 
   public MockKonnektorServiceProvider(SmartcardArchive smartcardArchive) {
@@ -59,27 +95,27 @@ public class MockKonnektorServiceProvider extends ServicePortProvider {
 
   @Override
   public AuthSignatureServicePortType getAuthSignatureService() {
-    return new MockAuthSignatureServicePortType(mockKonnektor);
+    return authSignatureService;
   }
 
   @Override
   public CertificateServicePortType getCertificateService() {
-    return new MockCertificateServicePortType(mockKonnektor);
+    return certificateService;
   }
 
   @Override
   public EventServicePortType getEventService() {
-    return new MockEventServicePortType(mockKonnektor);
+    return eventService;
   }
 
   @Override
   public SignatureServicePortType getSignatureService() {
-    return new MockSignatureServicePortType(this.mockKonnektor);
+    return signatureService;
   }
 
   @Override
   public CardServicePortType getCardService() {
-    return new MockCardServicePortType(this.mockKonnektor);
+    return cardService;
   }
 
   @Override
@@ -89,12 +125,12 @@ public class MockKonnektorServiceProvider extends ServicePortProvider {
 
   @Override
   public VSDServicePortType getVSDServicePortType() {
-    return new MockVSDServicePortType(this.mockKonnektor, this.vsdmService);
+    return vsdService;
   }
 
   @Override
   public EncryptionServicePortType getEncryptionServicePortType() {
-    return new MockEncryptionPortType(this.mockKonnektor);
+    return encryptionService;
   }
 
   @Override
@@ -43,15 +43,26 @@ import de.gematik.ws.conn.vsds.vsdservice.v5.VSDServicePortType;
 import jakarta.xml.ws.BindingProvider;
 import jakarta.xml.ws.WebServiceClient;
 import java.net.URL;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import javax.net.ssl.HostnameVerifier;
 import lombok.Getter;
 import lombok.NonNull;
-import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+/**
+ * Provides the SOAP ports of a remote Konnektor.
+ *
+ * <p>Instantiating a JAX-WS service parses its WSDL and schemas, which is by far the most expensive
+ * part of a Konnektor call. Thus, each service is instantiated only once per provider and shared
+ * by all threads. The ports created from these services are cached per thread because the request
+ * context of a port must not be shared between concurrent calls.
+ */
 @Slf4j
 public class RemoteKonnektorServiceProvider extends ServicePortProvider {
 
@@ -60,8 +71,14 @@ public class RemoteKonnektorServiceProvider extends ServicePortProvider {
 
   @Getter private final URL baseUrl;
   private TrustProvider trustProvider;
-  @Getter @Setter private String username;
-  @Getter @Setter private String password;
+  @Getter private String username;
+  @Getter private String password;
+
+  private final Map<Class<?>, Object> services = new ConcurrentHashMap<>();
+  private final ThreadLocal<PortCache> ports = ThreadLocal.withInitial(PortCache::new);
+
+  /** incremented whenever the configuration changes to invalidate the ports of all threads */
+  private final AtomicInteger configurationVersion = new AtomicInteger();
 
   public RemoteKonnektorServiceProvider(@NonNull URL baseUrl, @NonNull KonnektorProfile profile) {
     super(profile);
@@ -72,6 +89,21 @@ public class RemoteKonnektorServiceProvider extends ServicePortProvider {
     return new Builder(baseUrl, profile);
   }
 
+  public void setUsername(String username) {
+    this.username = username;
+    this.configurationVersion.incrementAndGet();
+  }
+
+  public void setPassword(String password) {
+    this.password = password;
+    this.configurationVersion.incrementAndGet();
+  }
+
+  private void setTrustProvider(TrustProvider trustProvider) {
+    this.trustProvider = trustProvider;
+    this.configurationVersion.incrementAndGet();
+  }
+
   public final SignatureServicePortType getSignatureService() {
     return createAndConfigurePort(
         SignatureService.class,
@@ -124,12 +156,35 @@ public class RemoteKonnektorServiceProvider extends ServicePortProvider {
         profile.getEncryptionPath());
   }
 
+  /**
+   * Get the port of the given service which is configured for the given path. The port is created
+   * on the first call of the current thread and reused by all subsequent calls of this thread
+   *
+   * @param serviceClass of the JAX-WS service providing the port
+   * @param portGetter to create a new port from the service
+   * @param path of the endpoint relative to the base URL
+   * @return the configured port
+   * @param <T> type of the port
+   */
+  @SuppressWarnings("unchecked")
   public <T> T createAndConfigurePort(
       Class<?> serviceClass, Function<Object, T> portGetter, String path) {
-    val service = instantiateService(serviceClass);
-    val port = portGetter.apply(service);
-    setEndpointAddress((BindingProvider) port, path);
-    return port;
+    val cache = ports.get();
+    val version = configurationVersion.get();
+    if (cache.version != version) {
+      cache.ports.clear();
+      cache.version = version;
+    }
+
+    return (T)
+        cache.ports.computeIfAbsent(
+            new PortKey(serviceClass, path),
+            key -> {
+              val service = services.computeIfAbsent(serviceClass, this::instantiateService);
+              val port = portGetter.apply(service);
+              setEndpointAddress((BindingProvider) port, path);
+              return port;
+            });
   }
 
   @SneakyThrows
@@ -194,6 +249,13 @@ public class RemoteKonnektorServiceProvider extends ServicePortProvider {
     return format("{0}{1}", baseString, pathString);
   }
 
+  private record PortKey(Class<?> serviceClass, String path) {}
+
+  private static class PortCache {
+    private final Map<PortKey, Object> ports = new HashMap<>();
+    private int version = -1;
+  }
+
   @Override
   public String toString() {
     return format("{0} at {1}", this.profile.getType(), this.getBaseUrl());
@@ -217,7 +279,7 @@ public class RemoteKonnektorServiceProvider extends ServicePortProvider {
     }
 
     public Builder trustProvider(TrustProvider trustProvider) {
-      this.serviceProvider.trustProvider = trustProvider;
+      this.serviceProvider.setTrustProvider(trustProvider);
       return this;
     }
 
@@ -36,12 +36,11 @@ import lombok.val;
 @Slf4j
 public class TrustProvider {
 
-  private final KeyManager[] keyManagers;
-  private final X509TrustManager[] trustManagers;
+  /** created once and shared by all ports to allow the resumption of TLS sessions */
+  private final SSLSocketFactory socketFactory;
 
   private TrustProvider(KeyManager[] keyManagers, X509TrustManager[] trustManagers) {
-    this.keyManagers = keyManagers;
-    this.trustManagers = trustManagers;
+    this.socketFactory = createSocketFactory(keyManagers, trustManagers);
     log.trace(
         format(
             "Created {0} with {1} KeyManagers and {2} TrustManagers",
@@ -111,8 +110,13 @@ public class TrustProvider {
     return type;
   }
 
-  @SneakyThrows
   public SSLSocketFactory getSocketFactory() {
+    return socketFactory;
+  }
+
+  @SneakyThrows
+  private static SSLSocketFactory createSocketFactory(
+      KeyManager[] keyManagers, X509TrustManager[] trustManagers) {
     val sslctx = SSLContext.getInstance("TLSv1.2");
     sslctx.init(keyManagers, trustManagers, new java.security.SecureRandom());
     return sslctx.getSocketFactory();
@@ -24,12 +24,13 @@ import de.gematik.bbriccs.crypto.CryptoSystem;
 import de.gematik.bbriccs.smartcards.Hba;
 import de.gematik.bbriccs.smartcards.SmartcardCertificate;
 import de.gematik.bbriccs.smartcards.SmcB;
-import de.gematik.test.konnektor.soap.mock.utils.OcspTokenGenerator;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
 import eu.europa.esig.dss.cades.CAdESSignatureParameters;
 import eu.europa.esig.dss.cades.signature.CAdESService;
 import eu.europa.esig.dss.cades.signature.CMSSignedDocument;
 import eu.europa.esig.dss.enumerations.*;
 import eu.europa.esig.dss.model.InMemoryDocument;
+import eu.europa.esig.dss.model.SignatureValue;
 import eu.europa.esig.dss.spi.x509.CMSSignedDataBuilder;
 import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
 import eu.europa.esig.dss.token.DSSPrivateKeyEntry;
@@ -48,14 +49,25 @@ import lombok.val;
 import org.bouncycastle.asn1.cms.CMSAttributes;
 import org.bouncycastle.util.encoders.Base64;
 
+/**
+ * Signs documents locally with the keys of a smartcard. The keystore is opened once on creation,
+ * afterwards a signer can be used for concurrent signatures: each signature uses its own {@link
+ * CAdESService} and only the access to the shared keystore token is serialized
+ */
 @Slf4j
 public class LocalSigner {
 
   private final SmartcardCertificate signingKey;
   private final Pkcs12SignatureToken signingToken;
   private final DSSPrivateKeyEntry privateKeyEntry;
-  private final CAdESService cades;
-  @Setter private ZonedDateTime signingTime = ZonedDateTime.now();
+
+  /** fixed signing time; if not set the time of the signature is used */
+  @Setter private volatile ZonedDateTime signingTime;
+
+  /** provides the OCSP responses if revocation information is requested */
+  @Setter
+  @NonNull
+  private volatile OcspTokenProvider ocspTokenProvider = OcspTokenProvider.online();
 
   private LocalSigner(SmartcardCertificate signingKey) {
     this.signingKey = signingKey;
@@ -63,7 +75,6 @@ public class LocalSigner {
         new Pkcs12SignatureToken(
             signingKey.getCertificateStream().get(), signingKey.getP12KeyStoreProtection());
     this.privateKeyEntry = signingToken.getKeys().get(0);
-    this.cades = new CAdESService(new CommonCertificateVerifier());
   }
 
   public byte[] signDocument(boolean isIncludeRevocationInfo, String data) {
@@ -71,28 +82,35 @@ public class LocalSigner {
   }
 
   public byte[] signDocument(boolean isIncludeRevocationInfo, byte[] data) {
-    List<OCSPToken> ocspTokenList =
-        isIncludeRevocationInfo
-            ? List.of(OcspTokenGenerator.with(privateKeyEntry.getCertificate()).asOnlineToken())
-            : Collections.emptyList();
+    List<OCSPToken> ocspTokenList = Collections.emptyList();
+    if (isIncludeRevocationInfo) {
+      val ocspToken = ocspTokenProvider.getToken(privateKeyEntry.getCertificate());
+      ocspTokenList = ocspToken != null ? List.of(ocspToken) : Collections.emptyList();
+    }
     return signDocument(ocspTokenList, data);
   }
 
   @SneakyThrows
   public byte[] signDocument(@NonNull List<OCSPToken> ocspTokens, byte[] data) {
 
-    val signingDate = Date.from(signingTime.toInstant());
+    val fixedSigningTime = this.signingTime;
+    val signingDate =
+        fixedSigningTime != null ? Date.from(fixedSigningTime.toInstant()) : new Date();
     val mimeType = MimeTypeEnum.XML; // Note: only XML for now!
     log.info("Sign {} with {} Bytes at {}", mimeType.getMimeTypeString(), data.length, signingDate);
     log.debug("To be signed data as Base64:\n{}", Base64.toBase64String(data));
     val inMemDocument = new InMemoryDocument(data);
     inMemDocument.setMimeType(mimeType);
 
+    val cades = new CAdESService(new CommonCertificateVerifier());
     val signParams = getCAdESSignatureParameters(signingDate, privateKeyEntry);
     val dataToSign = cades.getDataToSign(inMemDocument, signParams);
 
-    val signatureValue =
-        signingToken.sign(dataToSign, signParams.getDigestAlgorithm(), privateKeyEntry);
+    final SignatureValue signatureValue;
+    synchronized (signingToken) {
+      signatureValue =
+          signingToken.sign(dataToSign, signParams.getDigestAlgorithm(), privateKeyEntry);
+    }
 
     log.info("Sign XML with {}", signatureValue);
     val signedDocument =
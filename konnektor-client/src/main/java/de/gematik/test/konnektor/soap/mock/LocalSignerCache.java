@@ -0,0 +1,88 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.util.concurrent.UncheckedExecutionException;
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import java.util.function.BiFunction;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Caches ready to use {@link LocalSigner}s by card handle and {@link CryptoSystem}. Creating a
+ * signer decrypts the PKCS#12 keystore of the smartcard, which is far more expensive than the
+ * signature itself. When the cache exceeds its capacity, the least recently used signer is evicted
+ */
+@Slf4j
+class LocalSignerCache {
+
+  private final LoadingCache<SignerKey, LocalSigner> signers;
+
+  /**
+   * @param capacity maximum number of signers kept in the cache
+   * @param loader creates the signer for a card handle and crypto system on a cache miss
+   */
+  LocalSignerCache(int capacity, BiFunction<String, CryptoSystem, LocalSigner> loader) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException("Capacity of the signer cache must be at least 1");
+    }
+    this.signers =
+        CacheBuilder.newBuilder()
+            // a single segment keeps the capacity exact instead of evicting per segment
+            .concurrencyLevel(1)
+            .maximumSize(capacity)
+            .removalListener(
+                notification ->
+                    log.trace(
+                        "Remove LocalSigner for {} ({})",
+                        notification.getKey(),
+                        notification.getCause()))
+            .build(
+                CacheLoader.from(
+                    (SignerKey key) -> loader.apply(key.cardHandle(), key.algorithm())));
+  }
+
+  LocalSigner get(String cardHandle, CryptoSystem algorithm) {
+    val key = new SignerKey(cardHandle, algorithm);
+    try {
+      return signers.getUnchecked(key);
+    } catch (UncheckedExecutionException e) {
+      // rethrow the original failure of the loader instead of the wrapper of the cache
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  void clear() {
+    signers.invalidateAll();
+  }
+
+  long size() {
+    return signers.size();
+  }
+
+  private record SignerKey(String cardHandle, CryptoSystem algorithm) {}
+}
@@ -20,6 +20,8 @@
 
 package de.gematik.test.konnektor.soap.mock;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import de.gematik.test.konnektor.soap.mock.utils.BNetzAVLCa;
 import eu.europa.esig.dss.enumerations.CertificateStatus;
 import eu.europa.esig.dss.enumerations.Indication;
@@ -34,21 +36,65 @@ import eu.europa.esig.dss.validation.*;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.*;
+import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
+/**
+ * Verifies CAdES signatures locally. The trusted certificates and the certificate verifiers are
+ * built once and shared by all instances. The outcomes of {@link #verify(byte[])} are cached by the
+ * digest of the signed document, thus repeated checks of the same signature are answered from
+ * memory.
+ */
 @Slf4j
 public class LocalVerifier {
 
+  private static final int RESULT_CACHE_SIZE = 1024;
+
+  private static final CommonTrustedCertificateSource TRUSTED_CERTIFICATES =
+      createTrustedCertificateSource();
+  private static final CommonCertificateVerifier ONLINE_VERIFIER =
+      createOnlineCertificateVerifier();
+  private static final CommonCertificateVerifier OFFLINE_VERIFIER =
+      createOfflineCertificateVerifier();
+
+  private static final Cache<ResultKey, Boolean> RESULTS =
+      CacheBuilder.newBuilder().maximumSize(RESULT_CACHE_SIZE).build();
+
+  /** Defines how the revocation status of the signing certificates is checked */
+  public enum RevocationPolicy {
+    /** request the OCSP responders and require valid OCSP responses */
+    ONLINE,
+    /**
+     * use only the revocation information embedded in the signature without any network access;
+     * embedded OCSP responses are checked for their status but not for the responder signature to
+     * accept the self-signed responses of the Soft-Konn
+     */
+    OFFLINE
+  }
+
   private final SignedDocumentValidator documentValidator;
+  private final RevocationPolicy revocationPolicy;
+  private boolean failedWithException;
+
+  private LocalVerifier(byte[] input, RevocationPolicy revocationPolicy) {
+    this.revocationPolicy = revocationPolicy;
+    documentValidator = SignedDocumentValidator.fromDocument(new InMemoryDocument(input));
+    documentValidator.setCertificateVerifier(
+        revocationPolicy == RevocationPolicy.ONLINE ? ONLINE_VERIFIER : OFFLINE_VERIFIER);
+  }
 
-  private LocalVerifier(byte[] input) {
+  private static CommonTrustedCertificateSource createTrustedCertificateSource() {
     val trustedCertSource = new CommonTrustedCertificateSource();
     for (BNetzAVLCa ca : BNetzAVLCa.values()) {
       trustedCertSource.addCertificate(new CertificateToken(ca.getCertificate()));
     }
+    return trustedCertSource;
+  }
 
+  private static CommonCertificateVerifier createOnlineCertificateVerifier() {
     val httpDataLoader = new NativeHTTPDataLoader();
     httpDataLoader.setReadTimeout(5000);
     httpDataLoader.setConnectTimeout(5000);
@@ -58,17 +104,64 @@ public class LocalVerifier {
 
     val cv = new CommonCertificateVerifier();
     cv.setOcspSource(ocspSource);
-    cv.setTrustedCertSources(trustedCertSource);
-    documentValidator = SignedDocumentValidator.fromDocument(new InMemoryDocument(input));
-    documentValidator.setCertificateVerifier(cv);
+    cv.setTrustedCertSources(TRUSTED_CERTIFICATES);
+    return cv;
+  }
+
+  private static CommonCertificateVerifier createOfflineCertificateVerifier() {
+    val cv = new CommonCertificateVerifier();
+    cv.setTrustedCertSources(TRUSTED_CERTIFICATES);
+    return cv;
   }
 
   public static LocalVerifier parse(byte[] input) {
-    return new LocalVerifier(input);
+    return parse(input, RevocationPolicy.ONLINE);
+  }
+
+  public static LocalVerifier parse(byte[] input, RevocationPolicy revocationPolicy) {
+    return new LocalVerifier(input, revocationPolicy);
   }
 
   public static boolean verify(byte[] input) {
-    return LocalVerifier.parse(input).verify();
+    return verify(input, RevocationPolicy.ONLINE);
+  }
+
+  /**
+   * Verify the given signed document or answer from the result cache if the same document was
+   * already verified with the same policy. Outcomes caused by unexpected errors (e.g. an
+   * unreachable OCSP responder) are not cached
+   *
+   * @param input the signed document
+   * @param revocationPolicy for checking the revocation status of the signing certificates
+   * @return true if the signature is valid and false otherwise
+   */
+  public static boolean verify(byte[] input, RevocationPolicy revocationPolicy) {
+    val key = new ResultKey(digest(input), revocationPolicy);
+    val cached = RESULTS.getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+
+    val verifier = LocalVerifier.parse(input, revocationPolicy);
+    val result = verifier.verify();
+    if (!verifier.failedWithException) {
+      RESULTS.put(key, result);
+    }
+    return result;
+  }
+
+  static void clearResultCache() {
+    RESULTS.invalidateAll();
+  }
+
+  static long getResultCacheSize() {
+    return RESULTS.size();
+  }
+
+  @SneakyThrows
+  private static String digest(byte[] input) {
+    val md = MessageDigest.getInstance("SHA-256");
+    return HexFormat.of().formatHex(md.digest(input));
   }
 
   private static byte[] asByteArray(DSSDocument document) {
@@ -127,6 +220,7 @@ public class LocalVerifier {
       }
     } catch (Throwable t) {
       isCompletelyValid = false;
+      failedWithException = true;
       log.warn("Failed to verify with a certificate exception", t);
     }
 
@@ -144,11 +238,6 @@ public class LocalVerifier {
   private Optional<OCSPToken> getOcspToken(AdvancedSignature signature) {
     val signingCertToken = signature.getSigningCertificateToken();
     val caToken = new CertificateToken(BNetzAVLCa.getCA(signingCertToken.getCertificate()));
-
-    val httpDataLoader = new NativeHTTPDataLoader();
-    httpDataLoader.setConnectTimeout(5000);
-    httpDataLoader.setReadTimeout(5000);
-
     val revocationToken = signature.getOCSPSource().getRevocationToken(signingCertToken, caToken);
     return revocationToken == null ? Optional.empty() : Optional.of((OCSPToken) revocationToken);
   }
@@ -164,7 +253,7 @@ public class LocalVerifier {
           signingCertToken.getSubject().getCanonical());
       return false;
     }
-    if (!ocspToken.isValid()) {
+    if (revocationPolicy == RevocationPolicy.ONLINE && !ocspToken.isValid()) {
       log.warn(
           "Ocsp Signature for signing certificate with {} is not valid!",
           signingCertToken.getSubject().getCanonical());
@@ -172,4 +261,6 @@ public class LocalVerifier {
     }
     return true;
   }
+
+  private record ResultKey(String digest, RevocationPolicy revocationPolicy) {}
 }
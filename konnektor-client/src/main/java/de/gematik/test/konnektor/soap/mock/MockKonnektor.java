@@ -29,67 +29,118 @@ import de.gematik.bbriccs.smartcards.Hba;
 import de.gematik.bbriccs.smartcards.SmartcardArchive;
 import de.gematik.bbriccs.smartcards.SmartcardType;
 import de.gematik.bbriccs.smartcards.SmcB;
+import de.gematik.bbriccs.smartcards.cfg.SmartcardConfigDto;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import de.gematik.ws.conn.cardservice.v8.CardInfoType;
 import de.gematik.ws.conn.cardservice.v8.Cards;
 import de.gematik.ws.conn.connectorcontext.v2.ContextType;
 import de.gematik.ws.conn.signatureservice.wsdl.v7.FaultMessage;
 import de.gematik.ws.tel.error.v2.Error;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 import javax.xml.datatype.DatatypeFactory;
+import lombok.Setter;
 import lombok.SneakyThrows;
 import lombok.val;
 
 public class MockKonnektor {
 
+  private static final int DEFAULT_SIGNER_CACHE_SIZE = 64;
+
+  private static final List<SmartcardType> SUPPORTED_CARD_TYPES =
+      List.of(SmartcardType.EGK, SmartcardType.HBA, SmartcardType.SMC_B);
+
   private final SmartcardArchive smartcards;
+  private final Map<String, SmartcardConfigDto> cardConfigs;
+  private final Map<String, CardInfoType> cardInfos;
   private final Map<String, SmartcardWrapper> cardsMap;
+  private final LocalSignerCache signers;
+  private volatile OcspTokenProvider ocspTokenProvider = OcspTokenProvider.online();
+  @Setter private volatile RevocationPolicy revocationPolicy = RevocationPolicy.ONLINE;
 
-  private int jobNumber = 0;
+  private final AtomicInteger jobNumber = new AtomicInteger();
 
   public MockKonnektor(SmartcardArchive smartcards) {
+    this(smartcards, DEFAULT_SIGNER_CACHE_SIZE);
+  }
+
+  /**
+   * @param smartcards available to this Konnektor
+   * @param signerCacheSize maximum number of signers kept ready per card handle and crypto system
+   */
+  public MockKonnektor(SmartcardArchive smartcards, int signerCacheSize) {
     this.smartcards = smartcards;
-    this.cardsMap = new HashMap<>();
+    this.cardConfigs = new LinkedHashMap<>();
+    this.cardInfos = new LinkedHashMap<>();
+    this.cardsMap = new ConcurrentHashMap<>();
+    this.signers = new LocalSignerCache(signerCacheSize, this::createSigner);
     initCardsMap();
   }
 
+  /**
+   * Set the provider for the OCSP responses which are embedded into signatures with revocation
+   * information. Use {@link OcspTokenProvider#selfSigned()} to sign without any network access
+   *
+   * @param ocspTokenProvider to be used for all subsequent signatures
+   */
+  public void setOcspTokenProvider(OcspTokenProvider ocspTokenProvider) {
+    this.ocspTokenProvider = ocspTokenProvider;
+    this.signers.clear();
+  }
+
   public Cards getAllCards() {
     val cards = new Cards();
-    val cardInfoTypes = cardsMap.values().stream().map(SmartcardWrapper::getInfoType).toList();
-    cards.getCard().addAll(cardInfoTypes);
+    cards.getCard().addAll(cardInfos.values());
     return cards;
   }
 
   public Optional<SmartcardWrapper> getSmartcardWrapperByCardHandle(String handle) {
-    val wrapper = cardsMap.get(handle);
-    return Optional.ofNullable(wrapper);
+    if (!cardConfigs.containsKey(handle)) {
+      return Optional.empty();
+    }
+    return Optional.of(cardsMap.computeIfAbsent(handle, this::loadSmartcard));
   }
 
+  /**
+   * Register all cards from their configuration only. The keystores of a card are loaded lazily on
+   * the first access to its card handle via {@link #loadSmartcard(String)}
+   */
   private void initCardsMap() {
-    // Note: this workaround here is required because we have eGKs without any stores which lead to
-    // Exceptions being thrown
-    val egks =
-        smartcards.getConfigsFor(SmartcardType.EGK).stream()
-            .map(
-                c -> {
-                  Egk egk;
-                  if (c.getStores().isEmpty()) {
-                    egk = DummyEgk.fromConfig(c);
-                  } else {
-                    egk = smartcards.getEgkByICCSN(c.getIccsn());
-                  }
-                  return new SmartcardWrapper(egk);
-                });
-    val hbas = smartcards.getHbaCards().stream().map(SmartcardWrapper::new);
-    val smcbs = smartcards.getSmcbCards().stream().map(SmartcardWrapper::new);
-
-    egks.forEach(egk -> cardsMap.put(egk.getCardHandle(), egk));
-    hbas.forEach(hba -> cardsMap.put(hba.getCardHandle(), hba));
-    smcbs.forEach(smcb -> cardsMap.put(smcb.getCardHandle(), smcb));
+    SUPPORTED_CARD_TYPES.stream()
+        .flatMap(type -> smartcards.getConfigsFor(type).stream())
+        .forEach(
+            config -> {
+              val cardInfo = SmartcardWrapper.createCardInfoType(config);
+              cardConfigs.put(cardInfo.getCardHandle(), config);
+              cardInfos.put(cardInfo.getCardHandle(), cardInfo);
+            });
+  }
+
+  private SmartcardWrapper loadSmartcard(String cardHandle) {
+    val config = cardConfigs.get(cardHandle);
+    return switch (config.getType()) {
+      case EGK -> {
+        // Note: this workaround here is required because we have eGKs without any stores which
+        // lead to Exceptions being thrown
+        Egk egk;
+        if (config.getStores().isEmpty()) {
+          egk = DummyEgk.fromConfig(config);
+        } else {
+          egk = smartcards.getEgkByICCSN(config.getIccsn());
+        }
+        yield new SmartcardWrapper(egk);
+      }
+      case HBA -> new SmartcardWrapper(smartcards.getHbaByICCSN(config.getIccsn()));
+      default -> new SmartcardWrapper(smartcards.getSmcbByICCSN(config.getIccsn()));
+    };
   }
 
   public byte[] signDocumentWith(
       String cardHandle, CryptoSystem algorithm, boolean isIncludeRevocationInfo, byte[] data)
       throws FaultMessage {
-    val wrapper = cardsMap.get(cardHandle);
+    val wrapper = getSmartcardWrapperByCardHandle(cardHandle).orElse(null);
     if (wrapper == null) {
       throw new FaultMessage(
           format("No card found with CardHandle {0}", cardHandle), createError(cardHandle));
@@ -102,24 +153,34 @@ public class MockKonnektor {
           createError(cardHandle));
     }
 
-    val signer =
+    val signer = signers.get(cardHandle, algorithm);
+    return signer.signDocument(isIncludeRevocationInfo, data);
+  }
+
+  /**
+   * Create a new signer for an already validated card handle of an HBA or SMC-B. Used as the
+   * loader of the {@link LocalSignerCache} on a cache miss
+   */
+  private LocalSigner createSigner(String cardHandle, CryptoSystem algorithm) {
+    val smartcard = cardsMap.computeIfAbsent(cardHandle, this::loadSmartcard).getSmartcard();
+    val localSigner =
         (smartcard.getType() == SmartcardType.HBA)
             ? LocalSigner.signQES((Hba) smartcard, algorithm)
             : LocalSigner.signNonQES((SmcB) smartcard, algorithm);
-
-    return signer.signDocument(isIncludeRevocationInfo, data);
+    localSigner.setOcspTokenProvider(ocspTokenProvider);
+    return localSigner;
   }
 
   public boolean verifyDocument(byte[] data) {
     try {
-      return LocalVerifier.verify(data);
+      return LocalVerifier.verify(data, revocationPolicy);
     } catch (UnsupportedOperationException | NoSuchElementException e) {
       return false;
     }
   }
 
   public String getJobNumber(ContextType context) { // NOSONAR: I will need this parameter later on
-    return String.format("MOCK-KON-%03d", jobNumber++);
+    return String.format("MOCK-KON-%03d", jobNumber.getAndIncrement());
   }
 
   @SneakyThrows
@@ -22,9 +22,11 @@ package de.gematik.test.konnektor.soap.mock;
 
 import static java.text.MessageFormat.format;
 
+import de.gematik.bbriccs.smartcards.DummyEgk;
 import de.gematik.bbriccs.smartcards.Egk;
 import de.gematik.bbriccs.smartcards.Smartcard;
 import de.gematik.bbriccs.smartcards.SmartcardType;
+import de.gematik.bbriccs.smartcards.cfg.SmartcardConfigDto;
 import de.gematik.ws.conn.cardservice.v8.CardInfoType;
 import de.gematik.ws.conn.cardservicecommon.v2.CardTypeType;
 import java.math.BigInteger;
@@ -50,6 +52,21 @@ public class SmartcardWrapper {
     return infoType.getCardHandle();
   }
 
+  /**
+   * Create the {@link CardInfoType} of a card directly from its configuration without loading any
+   * of its keystores
+   *
+   * @param config of the smartcard
+   * @return the CardInfoType as it would be reported by a wrapper of the loaded smartcard
+   */
+  static CardInfoType createCardInfoType(SmartcardConfigDto config) {
+    if (config.getType() == SmartcardType.EGK) {
+      return createCardInfoType(DummyEgk.fromConfig(config));
+    } else {
+      return createCardInfoType(config.getType(), config.getIccsn());
+    }
+  }
+
   private static CardInfoType createCardInfoType(Egk egk) {
     val cit = createCardInfoType((Smartcard) egk);
     cit.setKvnr(egk.getKvnr());
@@ -57,10 +74,14 @@ public class SmartcardWrapper {
   }
 
   private static CardInfoType createCardInfoType(Smartcard smartcard) {
+    return createCardInfoType(smartcard.getType(), smartcard.getIccsn());
+  }
+
+  private static CardInfoType createCardInfoType(SmartcardType type, String iccsn) {
     val cit = new CardInfoType();
-    cit.setCardType(mapSmartcardType(smartcard.getType()));
-    cit.setIccsn(smartcard.getIccsn());
-    cit.setCardHandle(createCardHandleString(smartcard));
+    cit.setCardType(mapSmartcardType(type));
+    cit.setIccsn(iccsn);
+    cit.setCardHandle(createCardHandleString(type, iccsn));
     cit.setSlotId(BigInteger.valueOf(1));
     cit.setCtId("SoftKonKT");
     return cit;
@@ -75,7 +96,7 @@ public class SmartcardWrapper {
     };
   }
 
-  private static String createCardHandleString(Smartcard smartcard) {
-    return format("{0}_{1}", smartcard.getType(), smartcard.getIccsn());
+  private static String createCardHandleString(SmartcardType type, String iccsn) {
+    return format("{0}_{1}", type, iccsn);
   }
 }
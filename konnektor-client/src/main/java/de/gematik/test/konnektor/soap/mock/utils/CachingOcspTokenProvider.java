@@ -0,0 +1,135 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock.utils;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Caches the OCSP responses of a delegate per signing certificate. A response is reused until its
+ * nextUpdate but never longer than the given maximum age. Valid responses are read without any
+ * locking; concurrent refreshes for the same certificate result in a single request to the
+ * delegate, while lookups and refreshes of other certificates are not blocked by it
+ */
+@Slf4j
+public class CachingOcspTokenProvider implements OcspTokenProvider {
+
+  private final OcspTokenProvider delegate;
+  private final Duration maxAge;
+  private final Clock clock;
+  private final Map<String, CachedToken> tokens = new ConcurrentHashMap<>();
+  private final Map<String, CompletableFuture<CachedToken>> refreshing = new ConcurrentHashMap<>();
+
+  public CachingOcspTokenProvider(OcspTokenProvider delegate, Duration maxAge) {
+    this(delegate, maxAge, Clock.systemUTC());
+  }
+
+  public CachingOcspTokenProvider(OcspTokenProvider delegate, Duration maxAge, Clock clock) {
+    this.delegate = delegate;
+    this.maxAge = maxAge;
+    this.clock = clock;
+  }
+
+  @Override
+  public OCSPToken getToken(CertificateToken signingCertificate) {
+    val key = signingCertificate.getDSSIdAsString();
+    val cached = tokens.get(key);
+    if (isValid(cached)) {
+      return cached.token();
+    }
+
+    val refreshed = refresh(key, signingCertificate);
+    return refreshed == null ? null : refreshed.token();
+  }
+
+  /**
+   * Request a new OCSP response from the delegate. The request itself is performed outside of any
+   * map operation: concurrent callers for the same certificate wait for the in-flight request
+   */
+  private CachedToken refresh(String key, CertificateToken signingCertificate) {
+    val own = new CompletableFuture<CachedToken>();
+    val inFlight = refreshing.putIfAbsent(key, own);
+    if (inFlight != null) {
+      return await(inFlight);
+    }
+
+    try {
+      // another caller might have finished its refresh right before this one started
+      val latest = tokens.get(key);
+      if (isValid(latest)) {
+        own.complete(latest);
+        return latest;
+      }
+
+      log.trace("Request OCSP response for certificate {}", key);
+      val token = delegate.getToken(signingCertificate);
+      CachedToken refreshed = null;
+      if (token == null) {
+        tokens.remove(key);
+      } else {
+        refreshed = new CachedToken(token, expiresAt(token, clock.instant()));
+        tokens.put(key, refreshed);
+      }
+      own.complete(refreshed);
+      return refreshed;
+    } catch (RuntimeException e) {
+      own.completeExceptionally(e);
+      throw e;
+    } finally {
+      refreshing.remove(key, own);
+    }
+  }
+
+  private boolean isValid(CachedToken cached) {
+    return cached != null && clock.instant().isBefore(cached.expiresAt());
+  }
+
+  private static CachedToken await(CompletableFuture<CachedToken> inFlight) {
+    try {
+      return inFlight.join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException cause) {
+        throw cause;
+      }
+      throw e;
+    }
+  }
+
+  private Instant expiresAt(OCSPToken token, Instant now) {
+    val latest = now.plus(maxAge);
+    val nextUpdate = token.getNextUpdate();
+    if (nextUpdate == null || nextUpdate.toInstant().isAfter(latest)) {
+      return latest;
+    }
+    return nextUpdate.toInstant();
+  }
+
+  private record CachedToken(OCSPToken token, Instant expiresAt) {}
+}
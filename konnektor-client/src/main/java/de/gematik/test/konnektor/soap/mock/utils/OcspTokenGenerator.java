@@ -94,14 +94,25 @@ public class OcspTokenGenerator {
             signingCertToken.getCertificate().getPublicKey(), dc);
     builder.addResponse(certId, certificateStatus, thisUpdate, nextUpdate, null);
     return builder.build(
-        signWithTempKey(), new X509CertificateHolder[0], Date.from(producedAt.toInstant()));
+        signWithResponderKey(), new X509CertificateHolder[0], Date.from(producedAt.toInstant()));
   }
 
   @SneakyThrows
-  private ContentSigner signWithTempKey() {
-    val kpg = KeyPairGenerator.getInstance("EC");
-    kpg.initialize(256, new SecureRandom());
-    val responderKey = kpg.generateKeyPair().getPrivate();
-    return new JcaContentSignerBuilder("SHA256withECDSA").build(responderKey);
+  private ContentSigner signWithResponderKey() {
+    return new JcaContentSignerBuilder("SHA256withECDSA").build(ResponderKey.PRIVATE_KEY);
+  }
+
+  /** the key of the self-signed responder is generated once and used for all responses */
+  private static final class ResponderKey {
+    private static final PrivateKey PRIVATE_KEY = generate();
+
+    private ResponderKey() {}
+
+    @SneakyThrows
+    private static PrivateKey generate() {
+      val kpg = KeyPairGenerator.getInstance("EC");
+      kpg.initialize(256, new SecureRandom());
+      return kpg.generateKeyPair().getPrivate();
+    }
   }
 }
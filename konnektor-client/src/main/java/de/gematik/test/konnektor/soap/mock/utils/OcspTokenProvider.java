@@ -0,0 +1,55 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock.utils;
+
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+
+/** Provides the OCSP responses which are embedded into signatures as revocation information */
+@FunctionalInterface
+public interface OcspTokenProvider {
+
+  /**
+   * @param signingCertificate for which the OCSP response is requested
+   * @return the OCSP response or null if the responder did not provide one
+   */
+  OCSPToken getToken(CertificateToken signingCertificate);
+
+  /**
+   * Request the OCSP responses from the OCSP responders of the certificates. Responses are reused
+   * until their nextUpdate but for at most one hour
+   *
+   * @return the shared provider for online OCSP responses
+   */
+  static OcspTokenProvider online() {
+    return SharedOcspTokenProviders.ONLINE;
+  }
+
+  /**
+   * Generate self-signed OCSP responses with status GOOD without any network access. The response
+   * for a certificate is generated once and reused until its nextUpdate
+   *
+   * @return the shared provider for self-signed OCSP responses
+   */
+  static OcspTokenProvider selfSigned() {
+    return SharedOcspTokenProviders.SELF_SIGNED;
+  }
+}
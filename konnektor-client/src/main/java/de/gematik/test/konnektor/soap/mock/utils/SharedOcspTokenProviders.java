@@ -0,0 +1,44 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock.utils;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import lombok.val;
+
+final class SharedOcspTokenProviders {
+
+  static final OcspTokenProvider ONLINE =
+      new CachingOcspTokenProvider(
+          cert -> OcspTokenGenerator.with(cert).asOnlineToken(), Duration.ofHours(1));
+
+  static final OcspTokenProvider SELF_SIGNED =
+      new CachingOcspTokenProvider(
+          cert -> {
+            val now = ZonedDateTime.now();
+            return OcspTokenGenerator.with(cert).asSelfSignedToken(now, now.minusMinutes(1));
+          },
+          Duration.ofDays(1));
+
+  private SharedOcspTokenProviders() throws IllegalAccessException {
+    throw new IllegalAccessException("utility class");
+  }
+}
@@ -23,9 +23,13 @@ package de.gematik.test.konnektor.soap.mock.utils;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Marshaller;
+import jakarta.xml.bind.Unmarshaller;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 import lombok.AccessLevel;
@@ -33,50 +37,72 @@ import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.val;
 
+/**
+ * Encodes JAXB objects as gzipped and Base64 encoded XML and vice versa. The JAXBContext of each
+ * class is created only once, the (un)marshallers are reused per thread and the XML is streamed
+ * through gzip and Base64 without intermediate copies.
+ */
 @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
 public class XmlEncoder {
 
+  private static final Map<Class<?>, JAXBContext> CONTEXTS = new ConcurrentHashMap<>();
+  private static final ThreadLocal<Map<Class<?>, Marshaller>> MARSHALLERS =
+      ThreadLocal.withInitial(HashMap::new);
+  private static final ThreadLocal<Map<Class<?>, Unmarshaller>> UNMARSHALLERS =
+      ThreadLocal.withInitial(HashMap::new);
+
   public static <T> T parse(Class<T> clazz, String input) throws JAXBException, IOException {
     return parse(clazz, input.getBytes(StandardCharsets.UTF_8));
   }
 
   public static <T> T parse(Class<T> clazz, byte[] input) throws JAXBException, IOException {
-    byte[] decoded = Base64.getDecoder().decode(input);
-    val reader = new StringReader(decompress(decoded));
-    val context = JAXBContext.newInstance(clazz);
-    return (T) context.createUnmarshaller().unmarshal(reader);
+    try (val in = new GZIPInputStream(Base64.getDecoder().wrap(new ByteArrayInputStream(input)))) {
+      return clazz.cast(unmarshaller(clazz).unmarshal(in));
+    }
   }
 
   @SneakyThrows
   public static <T> String asXml(T obj) {
     val ret = new StringWriter();
-    val jaxbContext = JAXBContext.newInstance(obj.getClass());
-    val jaxbMarshaller = jaxbContext.createMarshaller();
-    jaxbMarshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
-    jaxbMarshaller.marshal(obj, ret);
+    marshaller(obj.getClass()).marshal(obj, ret);
     return ret.toString();
   }
 
   @SneakyThrows
   public static <T> String encode(T obj) {
-    val compressed = compress(asXml(obj).getBytes(StandardCharsets.UTF_8));
-    return Base64.getEncoder().encodeToString(compressed);
+    val ret = new ByteArrayOutputStream();
+    try (val gzipOut = new GZIPOutputStream(Base64.getEncoder().wrap(ret))) {
+      marshaller(obj.getClass()).marshal(obj, gzipOut);
+    }
+    return ret.toString(StandardCharsets.US_ASCII);
   }
 
-  private static byte[] compress(byte[] data) throws IOException {
-    try (val baos = new ByteArrayOutputStream();
-        val gzipOut = new GZIPOutputStream(baos)) {
-      gzipOut.write(data);
-      gzipOut.finish();
-      return baos.toByteArray();
-    }
+  private static JAXBContext context(Class<?> clazz) {
+    return CONTEXTS.computeIfAbsent(clazz, XmlEncoder::createContext);
   }
 
-  private static String decompress(byte[] data) throws IOException {
-    val ret = new StringBuilder();
-    try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(data))) {
-      ret.append(new String(in.readAllBytes()));
-    }
-    return ret.toString();
+  @SneakyThrows
+  private static JAXBContext createContext(Class<?> clazz) {
+    return JAXBContext.newInstance(clazz);
+  }
+
+  private static Marshaller marshaller(Class<?> clazz) {
+    return MARSHALLERS.get().computeIfAbsent(clazz, XmlEncoder::createMarshaller);
+  }
+
+  @SneakyThrows
+  private static Marshaller createMarshaller(Class<?> clazz) {
+    val marshaller = context(clazz).createMarshaller();
+    marshaller.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, Boolean.TRUE);
+    return marshaller;
+  }
+
+  private static Unmarshaller unmarshaller(Class<?> clazz) {
+    return UNMARSHALLERS.get().computeIfAbsent(clazz, XmlEncoder::createUnmarshaller);
+  }
+
+  @SneakyThrows
+  private static Unmarshaller createUnmarshaller(Class<?> clazz) {
+    return context(clazz).createUnmarshaller();
   }
 }
@@ -63,7 +63,9 @@ public class VsdmExamEvidence {
   public static VsdmExamEvidence parse(String base64) {
     try {
       val pn = XmlEncoder.parse(PN.class, base64);
-      log.debug("VsdmExamEvidence: {}", XmlEncoder.asXml(pn).replace("\n", ""));
+      if (log.isDebugEnabled()) {
+        log.debug("VsdmExamEvidence: {}", XmlEncoder.asXml(pn).replace("\n", ""));
+      }
       if (pn.getPZ() != null && pn.getPZ().length > 0) {
         val version = VsdmCheckDigitVersion.fromData(pn.getPZ());
         log.debug("Checkdigit Version: {}", version);
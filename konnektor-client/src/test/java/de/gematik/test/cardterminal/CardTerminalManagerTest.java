@@ -23,6 +23,8 @@ package de.gematik.test.cardterminal;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -40,6 +42,9 @@ import de.gematik.ws.conn.cardservice.v8.CardInfoType;
 import de.gematik.ws.conn.cardservicecommon.v2.CardTypeType;
 import de.gematik.ws.conn.connectorcommon.v5.Status;
 import de.gematik.ws.conn.eventservice.wsdl.v7.EventServicePortType;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.ZonedDateTime;
 import java.util.GregorianCalendar;
 import java.util.List;
@@ -55,6 +60,7 @@ class CardTerminalManagerTest {
   private CardTerminalManager cardTerminalManager;
   private KonnektorContextConfiguration context;
   private ServicePortProvider mockProvider;
+  private Konnektor konnektor;
 
   private final List<CardInfoType> defaultCards =
       List.of(
@@ -98,7 +104,7 @@ class CardTerminalManagerTest {
 
     cats1Client = mock(CatsClient.class);
     when(cats1Client.getCtId()).thenReturn("CT1");
-    Konnektor konnektor =
+    konnektor =
         new KonnektorImpl(context, "KONSIM", KonnektorType.REMOTE, mockProvider, cats1Client);
     cardTerminalManager = konnektor.getCardTerminalManager();
   }
@@ -157,4 +163,75 @@ class CardTerminalManagerTest {
 
     verify(cats1Client, times(1)).insertCard(egk, 2);
   }
+
+  @SneakyThrows
+  @Test
+  void shouldNotRequestCardsForIndexedCard() {
+    cardTerminalManager.refresh();
+    val hannaEgk = smartcards.getEgkByICCSN("80276883110000108142");
+    assertTrue(cardTerminalManager.insertCard(hannaEgk));
+
+    verify(mockEventService, times(1)).getCards(any());
+    verify(cats1Client, times(1)).insertCard(any(), anyInt());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldIndexInsertedCard() {
+    val egk = smartcards.getEgkByICCSN("80276883110000113298");
+    assertTrue(cardTerminalManager.insertCard(egk));
+    assertTrue(cardTerminalManager.insertCard(egk));
+    assertTrue(cardTerminalManager.insertCard(egk));
+
+    // only the first insertion requires the cards of the stale index
+    verify(mockEventService, times(1)).getCards(any());
+    verify(cats1Client, times(3)).insertCard(eq(egk), anyInt());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldRefreshStaleIndex() {
+    val clock = mock(Clock.class);
+    val now = Instant.now();
+    when(clock.instant()).thenReturn(now);
+    val manager =
+        new CardTerminalManager(konnektor, List.of(cats1Client), Duration.ofMinutes(1), clock);
+
+    val hannaEgk = smartcards.getEgkByICCSN("80276883110000108142");
+    assertTrue(manager.insertCard(hannaEgk));
+    assertTrue(manager.insertCard(hannaEgk));
+    verify(mockEventService, times(1)).getCards(any());
+
+    when(clock.instant()).thenReturn(now.plus(Duration.ofMinutes(2)));
+    assertTrue(manager.insertCard(hannaEgk));
+    verify(mockEventService, times(2)).getCards(any());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldRequestCardsAfterRemovedCardEvent() {
+    cardTerminalManager.refresh();
+    val hannaEgk = smartcards.getEgkByICCSN("80276883110000108142");
+    val hannaCardInfo =
+        CardsUtil.builder().type(CardTypeType.EGK).ctId("CT1").iccsn(hannaEgk.getIccsn()).build();
+    val hannaCard = CardInfo.fromCardInfoType(hannaCardInfo);
+
+    cardTerminalManager.onCardRemoved(hannaCard);
+    assertTrue(cardTerminalManager.insertCard(hannaEgk));
+    verify(mockEventService, times(2)).getCards(any());
+
+    cardTerminalManager.onCardInserted(hannaCard);
+    assertTrue(cardTerminalManager.insertCard(hannaEgk));
+    verify(mockEventService, times(2)).getCards(any());
+  }
+
+  @SneakyThrows
+  @Test
+  void shouldRequestCardsAfterInvalidation() {
+    cardTerminalManager.refresh();
+    cardTerminalManager.invalidate();
+    val hannaEgk = smartcards.getEgkByICCSN("80276883110000108142");
+    assertTrue(cardTerminalManager.insertCard(hannaEgk));
+    verify(mockEventService, times(2)).getCards(any());
+  }
 }
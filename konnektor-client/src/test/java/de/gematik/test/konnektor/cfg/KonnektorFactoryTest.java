@@ -135,6 +135,12 @@ class KonnektorFactoryTest {
     assertEquals(KonnektorType.LOCAL, konnektor.getType());
   }
 
+  @Test
+  void shouldShareSmartcardArchive() {
+    assertSame(
+        KonnektorFactory.getSharedSmartcardArchive(), KonnektorFactory.getSharedSmartcardArchive());
+  }
+
   @Test
   void shouldThrowOnUnsupportedKonnektorConfig() {
     val cfg = new UnsupportedKonnektorConfig();
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.commands;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.bbriccs.smartcards.SmartcardArchive;
+import de.gematik.test.cardterminal.CardInfo;
+import de.gematik.test.erezept.config.dto.konnektor.VsdmServiceConfiguration;
+import de.gematik.test.konnektor.Konnektor;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.test.konnektor.exceptions.SOAPRequestException;
+import de.gematik.test.konnektor.soap.ServicePortProvider;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import de.gematik.ws.conn.connectorcontext.v2.ContextType;
+import de.gematik.ws.conn.signatureservice.v7.SignRequest;
+import de.gematik.ws.conn.signatureservice.v7.SignResponse;
+import de.gematik.ws.conn.signatureservice.wsdl.v7.SignatureServicePortType;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import oasis.names.tc.dss._1_0.core.schema.Base64Signature;
+import oasis.names.tc.dss._1_0.core.schema.SignatureObject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class SignXMLDocumentsCommandTest {
+
+  private static Konnektor mockKonnektor;
+  private static CardInfo hbaHandle;
+
+  @BeforeAll
+  static void setup() {
+    val sca = SmartcardArchive.fromResources();
+    mockKonnektor =
+        KonnektorFactory.createMockKonnektor(
+            "Soft-Konn",
+            VsdmServiceConfiguration.createDefault(),
+            OcspTokenProvider.selfSigned(),
+            RevocationPolicy.OFFLINE);
+    val hba = sca.getHbaByICCSN("80276001011699901726");
+    hbaHandle = mockKonnektor.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload();
+  }
+
+  private static List<String> documents(int count) {
+    return IntStream.range(0, count).mapToObj(i -> "<xml>Document " + i + "</xml>").toList();
+  }
+
+  @Test
+  void shouldSignAllDocumentsWithSingleRequest() {
+    val documents = documents(5);
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, documents, CryptoSystem.ECC_256);
+    val signatures = mockKonnektor.execute(cmd).getPayload();
+
+    assertEquals(documents.size(), signatures.size());
+    for (var i = 0; i < documents.size(); i++) {
+      val signature = signatures.get(i);
+      assertTrue(mockKonnektor.execute(new VerifyDocumentCommand(signature)).getPayload());
+      assertEquals(documents.get(i), LocalVerifier.parse(signature).getDocument());
+    }
+  }
+
+  @Test
+  void shouldNotCallKonnektorWithoutDocuments() {
+    val servicePort = mock(SignatureServicePortType.class);
+    val serviceProvider = mock(ServicePortProvider.class);
+    when(serviceProvider.getSignatureService()).thenReturn(servicePort);
+
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, List.of(), CryptoSystem.ECC_256);
+    assertTrue(cmd.execute(new ContextType(), serviceProvider).isEmpty());
+    verify(serviceProvider, never()).getSignatureService();
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldMapResponsesByRequestId() {
+    val servicePort = mock(SignatureServicePortType.class);
+    val serviceProvider = mock(ServicePortProvider.class);
+    when(serviceProvider.getSignatureService()).thenReturn(servicePort);
+    when(servicePort.getJobNumber(any())).thenReturn("JOB-1");
+    when(servicePort.signDocument(anyString(), anyString(), any(), any(), anyString(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<SignRequest> requests = invocation.getArgument(5);
+              val responses = new ArrayList<>(requests.stream().map(this::echo).toList());
+              Collections.reverse(responses);
+              return responses;
+            });
+
+    val documents = documents(3);
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, documents, CryptoSystem.ECC_256);
+    val signatures = cmd.execute(new ContextType(), serviceProvider);
+
+    verify(servicePort, times(1)).getJobNumber(any());
+    for (var i = 0; i < documents.size(); i++) {
+      assertArrayEquals(documents.get(i).getBytes(StandardCharsets.UTF_8), signatures.get(i));
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowOnMissingResponse() {
+    val servicePort = mock(SignatureServicePortType.class);
+    val serviceProvider = mock(ServicePortProvider.class);
+    when(serviceProvider.getSignatureService()).thenReturn(servicePort);
+    when(servicePort.getJobNumber(any())).thenReturn("JOB-1");
+    when(servicePort.signDocument(anyString(), anyString(), any(), any(), anyString(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<SignRequest> requests = invocation.getArgument(5);
+              return List.of(echo(requests.get(0)));
+            });
+
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, documents(2), CryptoSystem.ECC_256);
+    val ctx = new ContextType();
+    assertThrows(SOAPRequestException.class, () -> cmd.execute(ctx, serviceProvider));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldThrowOnDuplicateResponses() {
+    val servicePort = mock(SignatureServicePortType.class);
+    val serviceProvider = mock(ServicePortProvider.class);
+    when(serviceProvider.getSignatureService()).thenReturn(servicePort);
+    when(servicePort.getJobNumber(any())).thenReturn("JOB-1");
+    when(servicePort.signDocument(anyString(), anyString(), any(), any(), anyString(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<SignRequest> requests = invocation.getArgument(5);
+              return List.of(echo(requests.get(0)), echo(requests.get(0)), echo(requests.get(1)));
+            });
+
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, documents(2), CryptoSystem.ECC_256);
+    val ctx = new ContextType();
+    assertThrows(SOAPRequestException.class, () -> cmd.execute(ctx, serviceProvider));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldCreateFreshRequestsForEachExecution() {
+    val servicePort = mock(SignatureServicePortType.class);
+    val serviceProvider = mock(ServicePortProvider.class);
+    when(serviceProvider.getSignatureService()).thenReturn(servicePort);
+    when(servicePort.getJobNumber(any())).thenReturn("JOB-1");
+    val sentRequests = new ArrayList<List<SignRequest>>();
+    when(servicePort.signDocument(anyString(), anyString(), any(), any(), anyString(), anyList()))
+        .thenAnswer(
+            invocation -> {
+              List<SignRequest> requests = invocation.getArgument(5);
+              sentRequests.add(requests);
+              return requests.stream().map(this::echo).toList();
+            });
+
+    val documents = documents(3);
+    val cmd = new SignXMLDocumentsCommand(hbaHandle, documents, CryptoSystem.ECC_256);
+    val first = cmd.execute(new ContextType(), serviceProvider);
+    val second = cmd.execute(new ContextType(), serviceProvider);
+
+    assertEquals(2, sentRequests.size());
+    val requestIds =
+        sentRequests.stream()
+            .flatMap(List::stream)
+            .map(SignRequest::getRequestID)
+            .collect(Collectors.toSet());
+    assertEquals(2 * documents.size(), requestIds.size());
+    sentRequests.get(0).forEach(r -> assertFalse(sentRequests.get(1).contains(r)));
+    for (var i = 0; i < documents.size(); i++) {
+      assertArrayEquals(first.get(i), second.get(i));
+    }
+  }
+
+  private SignResponse echo(SignRequest request) {
+    val signature = new Base64Signature();
+    signature.setValue(request.getDocument().getBase64Data().getValue());
+    val signatureObject = new SignatureObject();
+    signatureObject.setBase64Signature(signature);
+
+    val response = new SignResponse();
+    response.setRequestID(request.getRequestID());
+    response.setSignatureObject(signatureObject);
+    return response;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gematik.test.erezept.config.dto.konnektor.KonnektorType;
+import de.gematik.test.konnektor.KonnektorImpl;
+import de.gematik.test.konnektor.commands.GetCardsCommand;
+import de.gematik.test.konnektor.exceptions.SOAPRequestException;
+import de.gematik.test.konnektor.soap.ServicePortProvider;
+import de.gematik.ws.conn.connectorcontext.v2.ContextType;
+import de.gematik.ws.conn.eventservice.wsdl.v7.EventServicePortType;
+import java.nio.file.Path;
+import java.time.Duration;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class KonnektorLatencyRecorderTest {
+
+  @Test
+  void shouldSummarizePerKonnektorAndCommand() {
+    val recorder = new KonnektorLatencyRecorder();
+    recorder.record("K1", GetCardsCommand.class, Duration.ofMillis(10), false);
+    recorder.record("K1", GetCardsCommand.class, Duration.ofMillis(20), true);
+    recorder.record("K2", GetCardsCommand.class, Duration.ofMillis(30), false);
+
+    val summaries = recorder.getSummaries();
+    assertEquals(2, summaries.size());
+
+    val k1 = summaries.get(0);
+    assertEquals("K1", k1.konnektor());
+    assertEquals("GetCardsCommand", k1.command());
+    assertEquals(2, k1.count());
+    assertEquals(1, k1.errors());
+    assertEquals(20, k1.max(), 0.001);
+
+    recorder.reset();
+    assertTrue(recorder.getSummaries().isEmpty());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldRecordFailedKonnektorCommands() {
+    val provider = mock(ServicePortProvider.class);
+    val eventService = mock(EventServicePortType.class);
+    when(provider.getEventService()).thenReturn(eventService);
+    when(eventService.getCards(any()))
+        .thenThrow(new IllegalStateException("Konnektor not reachable"));
+
+    val recorder = new KonnektorLatencyRecorder();
+    val konnektor = new KonnektorImpl(new ContextType(), "KONSIM", KonnektorType.REMOTE, provider);
+    konnektor.setMetrics(recorder);
+
+    val cmd = new GetCardsCommand();
+    assertThrows(SOAPRequestException.class, () -> konnektor.execute(cmd));
+
+    val summary = recorder.getSummaries().get(0);
+    assertEquals("KONSIM", summary.konnektor());
+    assertEquals(1, summary.count());
+    assertEquals(1, summary.errors());
+  }
+
+  @Test
+  void shouldDumpSummaries() {
+    val recorder = new KonnektorLatencyRecorder();
+    recorder.record("K1", GetCardsCommand.class, Duration.ofMillis(10), false);
+    recorder.dump("konnektor_latency_test");
+
+    val dump =
+        Path.of(
+            System.getProperty("user.dir"), "target", "stopwatch", "konnektor_latency_test.json");
+    assertTrue(dump.toFile().exists());
+  }
+}
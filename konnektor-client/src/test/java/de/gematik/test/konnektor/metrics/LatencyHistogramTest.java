@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+
+  @Test
+  void shouldReportZeroWithoutRecordings() {
+    val histogram = new LatencyHistogram();
+    assertEquals(0, histogram.getTotalCount());
+    assertEquals(0, histogram.getPercentileMicros(99));
+  }
+
+  @Test
+  void shouldMapEachValueIntoItsBucket() {
+    for (long value = 0; value < 10_000_000; value += 997) {
+      val index = LatencyHistogram.indexOf(value);
+      val highest = LatencyHistogram.highestValueOf(index);
+      assertTrue(highest >= value);
+      assertTrue(highest - value <= value / 64, "relative error too large for " + value);
+      if (index > 0) {
+        assertTrue(LatencyHistogram.highestValueOf(index - 1) < value);
+      }
+    }
+  }
+
+  @Test
+  void shouldCalculatePercentiles() {
+    val histogram = new LatencyHistogram();
+    IntStream.rangeClosed(1, 1000).forEach(i -> histogram.recordMicros(i * 1000L));
+
+    assertEquals(1000, histogram.getTotalCount());
+    assertEquals(1_000_000, histogram.getMaxMicros());
+    assertWithinPrecision(500_000, histogram.getPercentileMicros(50));
+    assertWithinPrecision(950_000, histogram.getPercentileMicros(95));
+    assertWithinPrecision(990_000, histogram.getPercentileMicros(99));
+    assertEquals(1_000_000, histogram.getPercentileMicros(100));
+  }
+
+  @Test
+  void shouldRecordConcurrently() {
+    val histogram = new LatencyHistogram();
+    val executor = Executors.newFixedThreadPool(4);
+    try {
+      val futures =
+          IntStream.range(0, 4)
+              .mapToObj(
+                  t ->
+                      CompletableFuture.runAsync(
+                          () -> IntStream.range(0, 10_000).forEach(histogram::recordMicros),
+                          executor))
+              .toList();
+      futures.forEach(CompletableFuture::join);
+    } finally {
+      executor.shutdownNow();
+    }
+    assertEquals(40_000, histogram.getTotalCount());
+    assertEquals(9_999, histogram.getMaxMicros());
+  }
+
+  @Test
+  void shouldClampNegativeAndHugeValues() {
+    val histogram = new LatencyHistogram();
+    histogram.recordMicros(-5);
+    histogram.recordMicros(Long.MAX_VALUE);
+    assertEquals(2, histogram.getTotalCount());
+    assertEquals(0, histogram.getPercentileMicros(50));
+  }
+
+  private static void assertWithinPrecision(long expected, long actual) {
+    assertTrue(
+        Math.abs(expected - actual) <= expected / 64,
+        "expected " + expected + " but was " + actual);
+  }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.test.cardterminal.CardInfo;
+import de.gematik.test.erezept.config.dto.konnektor.VsdmServiceConfiguration;
+import de.gematik.test.konnektor.Konnektor;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.test.konnektor.commands.DecryptDocumentCommand;
+import de.gematik.test.konnektor.commands.EncryptDocumentCommand;
+import de.gematik.test.konnektor.commands.GetCardHandleCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.VerifyDocumentCommand;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class MockKonnektorServiceProviderTest {
+
+  private static Konnektor softKonn;
+  private static CardInfo hbaHandle;
+  private static CardInfo smcbHandle;
+
+  @BeforeAll
+  static void setup() {
+    val sca = KonnektorFactory.getSharedSmartcardArchive();
+    // self-signed OCSP responses and offline revocation checks to not depend on the network
+    softKonn =
+        KonnektorFactory.createMockKonnektor(
+            "Soft-Konn",
+            VsdmServiceConfiguration.createDefault(),
+            OcspTokenProvider.selfSigned(),
+            RevocationPolicy.OFFLINE);
+    val hba = sca.getHbaByICCSN("80276001011699901726");
+    val smcb = sca.getSmcbByICCSN("80276001011699901102");
+    hbaHandle = softKonn.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload();
+    smcbHandle = softKonn.execute(GetCardHandleCommand.forSmartcard(smcb)).getPayload();
+  }
+
+  @Test
+  void shouldReuseMockPorts() {
+    val provider = new MockKonnektorServiceProvider(KonnektorFactory.getSharedSmartcardArchive());
+    assertSame(provider.getSignatureService(), provider.getSignatureService());
+    assertSame(provider.getEncryptionServicePortType(), provider.getEncryptionServicePortType());
+    assertSame(provider.getEventService(), provider.getEventService());
+    assertSame(provider.getVSDServicePortType(), provider.getVSDServicePortType());
+  }
+
+  @Test
+  void shouldSignEncryptAndDecryptConcurrently() {
+    val threads = 4;
+    val executor = Executors.newFixedThreadPool(threads);
+    try {
+      val futures =
+          IntStream.range(0, threads)
+              .mapToObj(
+                  t ->
+                      CompletableFuture.runAsync(
+                          () -> IntStream.range(0, 5).forEach(i -> signEncryptAndDecrypt(t, i)),
+                          executor))
+              .toList();
+      futures.forEach(CompletableFuture::join);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void signEncryptAndDecrypt(int thread, int iteration) {
+    val document = "<xml>Thread " + thread + " Document " + iteration + "</xml>";
+    val signed =
+        softKonn
+            .execute(new SignXMLDocumentCommand(hbaHandle, document, CryptoSystem.ECC_256))
+            .getPayload();
+    assertTrue(softKonn.execute(new VerifyDocumentCommand(signed)).getPayload());
+
+    val plain = document.getBytes(StandardCharsets.UTF_8);
+    val encrypted =
+        softKonn
+            .execute(new EncryptDocumentCommand(smcbHandle, plain, CryptoSystem.RSA_2048))
+            .getPayload();
+    val decrypted =
+        softKonn
+            .execute(new DecryptDocumentCommand(smcbHandle, encrypted, CryptoSystem.RSA_2048))
+            .getPayload();
+    assertArrayEquals(plain, decrypted);
+  }
+}
@@ -22,6 +22,9 @@ package de.gematik.test.konnektor.soap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.*;
 
 import com.sun.xml.ws.client.sei.SEIStub;
@@ -29,8 +32,19 @@ import de.gematik.test.erezept.config.dto.konnektor.BasicAuthConfiguration;
 import de.gematik.test.erezept.config.dto.konnektor.TLSConfiguration;
 import de.gematik.test.konnektor.profile.KonSimProfile;
 import de.gematik.test.konnektor.profile.ProfileType;
+import jakarta.xml.ws.BindingProvider;
 import jakarta.xml.ws.WebServiceClient;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.BeforeAll;
@@ -114,4 +128,81 @@ class RemoteKonnektorServiceProviderTest {
     val result = rksp.createAndConfigurePort(testServiceClass, s -> test, "/test");
     assertNotNull(result);
   }
+
+  @Test
+  void shouldReusePortsWithinThread() {
+    assertSame(rksp.getSignatureService(), rksp.getSignatureService());
+    assertSame(rksp.getEventService(), rksp.getEventService());
+  }
+
+  @Test
+  void shouldProvideDistinctPortsPerThread() {
+    val port = rksp.getCardService();
+    val otherPort = CompletableFuture.supplyAsync(rksp::getCardService).join();
+    assertNotSame(port, otherPort);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldReconfigurePortsOnChangedCredentials() {
+    val provider =
+        RemoteKonnektorServiceProvider.of(new URL("https://localhost"), new KonSimProfile())
+            .username("user1")
+            .build();
+    val port = (BindingProvider) provider.getCardService();
+    assertEquals("user1", port.getRequestContext().get(BindingProvider.USERNAME_PROPERTY));
+
+    provider.setUsername("user2");
+    val reconfigured = (BindingProvider) provider.getCardService();
+    assertNotSame(port, reconfigured);
+    assertEquals("user2", reconfigured.getRequestContext().get(BindingProvider.USERNAME_PROPERTY));
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldInstantiateServiceOnceAndPortsOncePerThread() {
+    val provider =
+        RemoteKonnektorServiceProvider.of(new URL("https://localhost"), new KonSimProfile())
+            .build();
+    Set<Object> services =
+        Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+    val createdPorts = new AtomicInteger();
+    Function<Object, SEIStub> portGetter =
+        service -> {
+          services.add(service);
+          createdPorts.incrementAndGet();
+          return mock(SEIStub.class);
+        };
+
+    val threads = 4;
+    val executor = Executors.newFixedThreadPool(threads);
+    try {
+      val ready = new CountDownLatch(threads);
+      val futures = new ArrayList<CompletableFuture<Boolean>>();
+      for (var t = 0; t < threads; t++) {
+        futures.add(
+            CompletableFuture.supplyAsync(
+                () -> {
+                  // make sure each task runs on its own thread
+                  ready.countDown();
+                  awaitQuietly(ready);
+                  val service = TestServiceWithoutAnnotation.class;
+                  val port = provider.createAndConfigurePort(service, portGetter, "/test");
+                  return port == provider.createAndConfigurePort(service, portGetter, "/test");
+                },
+                executor));
+      }
+      futures.forEach(f -> assertTrue(f.join()));
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(1, services.size());
+    assertEquals(threads, createdPorts.get());
+  }
+
+  @SneakyThrows
+  private static void awaitQuietly(CountDownLatch latch) {
+    assertTrue(latch.await(10, TimeUnit.SECONDS));
+  }
 }
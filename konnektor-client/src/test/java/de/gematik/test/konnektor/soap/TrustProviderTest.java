@@ -21,6 +21,7 @@
 package de.gematik.test.konnektor.soap;
 
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import de.gematik.test.erezept.config.dto.konnektor.TLSConfiguration;
 import lombok.val;
@@ -39,5 +40,6 @@ class TrustProviderTest {
     val trust = TrustProvider.from(cfg);
     val sf = trust.getSocketFactory();
     assertNotNull(sf);
+    assertSame(sf, trust.getSocketFactory());
   }
 }
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.bbriccs.smartcards.SmartcardArchive;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class LocalSignerCacheTest {
+
+  @Test
+  void shouldLoadSignerOnlyOnce() {
+    val loads = new AtomicInteger();
+    val cache =
+        new LocalSignerCache(
+            4,
+            (handle, algorithm) -> {
+              loads.incrementAndGet();
+              return mock(LocalSigner.class);
+            });
+
+    val first = cache.get("HBA-1", CryptoSystem.ECC_256);
+    val second = cache.get("HBA-1", CryptoSystem.ECC_256);
+
+    assertSame(first, second);
+    assertEquals(1, loads.get());
+  }
+
+  @Test
+  void shouldDistinguishCryptoSystems() {
+    val cache = new LocalSignerCache(4, (handle, algorithm) -> mock(LocalSigner.class));
+    val ecc = cache.get("HBA-1", CryptoSystem.ECC_256);
+    val rsa = cache.get("HBA-1", CryptoSystem.RSA_2048);
+    assertNotSame(ecc, rsa);
+    assertEquals(2, cache.size());
+  }
+
+  @Test
+  void shouldEvictLeastRecentlyUsedSigner() {
+    val cache = new LocalSignerCache(2, (handle, algorithm) -> mock(LocalSigner.class));
+    val first = cache.get("HBA-1", CryptoSystem.ECC_256);
+    cache.get("HBA-2", CryptoSystem.ECC_256);
+    // touch the first one to make HBA-2 the least recently used signer
+    cache.get("HBA-1", CryptoSystem.ECC_256);
+    cache.get("HBA-3", CryptoSystem.ECC_256);
+
+    assertEquals(2, cache.size());
+    assertSame(first, cache.get("HBA-1", CryptoSystem.ECC_256));
+  }
+
+  @Test
+  void shouldReloadSignerAfterClear() {
+    val cache = new LocalSignerCache(2, (handle, algorithm) -> mock(LocalSigner.class));
+    val first = cache.get("HBA-1", CryptoSystem.ECC_256);
+    cache.clear();
+
+    assertEquals(0, cache.size());
+    assertNotSame(first, cache.get("HBA-1", CryptoSystem.ECC_256));
+  }
+
+  @Test
+  void shouldRethrowLoaderFailure() {
+    val cache =
+        new LocalSignerCache(
+            2,
+            (handle, algorithm) -> {
+              throw new IllegalStateException("keystore broken");
+            });
+    assertThrows(IllegalStateException.class, () -> cache.get("HBA-1", CryptoSystem.ECC_256));
+  }
+
+  @Test
+  void shouldThrowOnInvalidCapacity() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new LocalSignerCache(0, (handle, algorithm) -> mock(LocalSigner.class)));
+  }
+
+  @Test
+  void shouldSignConcurrentlyWithSharedSigner() {
+    val hba = SmartcardArchive.fromResources().getHbaByICCSN("80276883110000095767");
+    val signer = LocalSigner.signQES(hba, CryptoSystem.ECC_256);
+    val executor = Executors.newFixedThreadPool(4);
+    try {
+      val futures =
+          IntStream.range(0, 16)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> signer.signDocument(false, "Document " + i), executor))
+              .toList();
+      for (var i = 0; i < futures.size(); i++) {
+        val signed = futures.get(i).join();
+        assertTrue(LocalVerifier.verify(signed));
+        assertEquals("Document " + i, LocalVerifier.parse(signed).getDocument());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
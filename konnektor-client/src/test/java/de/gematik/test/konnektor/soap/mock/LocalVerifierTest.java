@@ -25,7 +25,9 @@ import static org.junit.jupiter.api.Assertions.*;
 import de.gematik.bbriccs.crypto.CryptoSystem;
 import de.gematik.bbriccs.smartcards.Hba;
 import de.gematik.bbriccs.smartcards.SmartcardArchive;
+import de.gematik.test.konnektor.soap.mock.LocalVerifier.RevocationPolicy;
 import de.gematik.test.konnektor.soap.mock.utils.OcspTokenGenerator;
+import de.gematik.test.konnektor.soap.mock.utils.OcspTokenProvider;
 import java.nio.charset.StandardCharsets;
 import java.time.ZonedDateTime;
 import java.util.List;
@@ -102,4 +104,53 @@ class LocalVerifierTest {
     val localVerifier = LocalVerifier.parse(invalidQes);
     assertFalse(localVerifier.verify());
   }
+
+  @Test
+  void shouldEmbedSelfSignedOcspResponseWithoutNetwork() {
+    val signer = LocalSigner.signQES(hba, CryptoSystem.DEFAULT_CRYPTO_SYSTEM);
+    signer.setOcspTokenProvider(OcspTokenProvider.selfSigned());
+    val first = signer.signDocument(true, CONTENT.getBytes(StandardCharsets.UTF_8));
+    val second = signer.signDocument(true, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    val firstTokens = LocalVerifier.parse(first).getOcspTokens();
+    val secondTokens = LocalVerifier.parse(second).getOcspTokens();
+    assertEquals(1, firstTokens.size());
+    assertEquals(1, secondTokens.size());
+    assertArrayEquals(firstTokens.get(0).getEncoded(), secondTokens.get(0).getEncoded());
+  }
+
+  @Test
+  void shouldAnswerRepeatedVerificationFromCache() {
+    val signer = LocalSigner.signQES(hba, CryptoSystem.DEFAULT_CRYPTO_SYSTEM);
+    signer.setOcspTokenProvider(OcspTokenProvider.selfSigned());
+    val signed = signer.signDocument(true, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    LocalVerifier.clearResultCache();
+    assertTrue(LocalVerifier.verify(signed, RevocationPolicy.OFFLINE));
+    assertEquals(1, LocalVerifier.getResultCacheSize());
+    assertTrue(LocalVerifier.verify(signed.clone(), RevocationPolicy.OFFLINE));
+    assertEquals(1, LocalVerifier.getResultCacheSize());
+  }
+
+  @Test
+  void shouldVerifyOfflineWithSelfSignedOcspResponse() {
+    val signer = LocalSigner.signQES(hba, CryptoSystem.DEFAULT_CRYPTO_SYSTEM);
+    signer.setOcspTokenProvider(OcspTokenProvider.selfSigned());
+    val signed = signer.signDocument(true, CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    assertTrue(LocalVerifier.verify(signed, RevocationPolicy.OFFLINE));
+  }
+
+  @Test
+  void shouldNotVerifyOfflineWithRevokedOcspResponse() {
+    val ocspToken =
+        OcspTokenGenerator.with(
+                hba.getQesCertificate(CryptoSystem.DEFAULT_CRYPTO_SYSTEM).getX509Certificate())
+            .asSelfSignedRevokedToken(ZonedDateTime.now(), ZonedDateTime.now());
+    val revokedQes =
+        LocalSigner.signQES(hba, CryptoSystem.DEFAULT_CRYPTO_SYSTEM)
+            .signDocument(List.of(ocspToken), CONTENT.getBytes(StandardCharsets.UTF_8));
+
+    assertFalse(LocalVerifier.verify(revokedQes, RevocationPolicy.OFFLINE));
+  }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import de.gematik.bbriccs.smartcards.SmartcardArchive;
+import de.gematik.bbriccs.smartcards.SmartcardType;
+import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import de.gematik.ws.conn.cardservice.v8.CardInfoType;
+import de.gematik.ws.conn.cardservicecommon.v2.CardTypeType;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+class MockKonnektorTest {
+
+  private static SmartcardArchive smartcards;
+
+  @BeforeAll
+  static void setup() {
+    smartcards = KonnektorFactory.getSharedSmartcardArchive();
+  }
+
+  @Test
+  void shouldListAllCardsWithoutLoadingThem() {
+    val konnektor = new MockKonnektor(smartcards);
+    val cards = konnektor.getAllCards().getCard();
+
+    val expected =
+        smartcards.getConfigsFor(SmartcardType.EGK).size()
+            + smartcards.getConfigsFor(SmartcardType.HBA).size()
+            + smartcards.getConfigsFor(SmartcardType.SMC_B).size();
+    assertEquals(expected, cards.size());
+  }
+
+  @Test
+  void shouldReportSameCardInfoAsLoadedSmartcard() {
+    val konnektor = new MockKonnektor(smartcards);
+
+    konnektor
+        .getAllCards()
+        .getCard()
+        .forEach(
+            info -> {
+              val wrapper =
+                  konnektor.getSmartcardWrapperByCardHandle(info.getCardHandle()).orElseThrow();
+              val loaded = wrapper.getInfoType();
+              assertEquals(loaded.getCardHandle(), info.getCardHandle());
+              assertEquals(loaded.getCardType(), info.getCardType());
+              assertEquals(loaded.getIccsn(), info.getIccsn());
+              assertEquals(loaded.getKvnr(), info.getKvnr());
+            });
+  }
+
+  @Test
+  void shouldNotFindUnknownCardHandle() {
+    val konnektor = new MockKonnektor(smartcards);
+    assertFalse(konnektor.getSmartcardWrapperByCardHandle("HBA_123").isPresent());
+  }
+
+  @Test
+  void shouldLoadSmartcardOnlyOnceConcurrently() {
+    val konnektor = new MockKonnektor(smartcards);
+    val hbaHandle =
+        konnektor.getAllCards().getCard().stream()
+            .filter(info -> info.getCardType() == CardTypeType.HBA)
+            .map(CardInfoType::getCardHandle)
+            .findFirst()
+            .orElseThrow();
+
+    val executor = Executors.newFixedThreadPool(4);
+    try {
+      val futures =
+          IntStream.range(0, 16)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> konnektor.getSmartcardWrapperByCardHandle(hbaHandle).orElseThrow(),
+                          executor))
+              .toList();
+      val wrappers = futures.stream().map(CompletableFuture::join).toList();
+
+      val first = wrappers.get(0);
+      assertTrue(wrappers.stream().allMatch(w -> w == first));
+      assertSame(first, konnektor.getSmartcardWrapperByCardHandle(hbaHandle).orElseThrow());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldCreateUniqueJobNumbersConcurrently() {
+    val konnektor = new MockKonnektor(smartcards);
+    val executor = Executors.newFixedThreadPool(8);
+    try {
+      val futures =
+          IntStream.range(0, 1000)
+              .mapToObj(
+                  i -> CompletableFuture.supplyAsync(() -> konnektor.getJobNumber(null), executor))
+              .toList();
+      val jobNumbers = futures.stream().map(CompletableFuture::join).collect(Collectors.toSet());
+      assertEquals(1000, jobNumbers.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  void shouldNotLoadKeystoresBeforeFirstCardAccess() {
+    val archive = spy(smartcards);
+    val konnektor = new MockKonnektor(archive);
+    val hbaHandle =
+        konnektor.getAllCards().getCard().stream()
+            .filter(info -> info.getCardType() == CardTypeType.HBA)
+            .map(CardInfoType::getCardHandle)
+            .findFirst()
+            .orElseThrow();
+
+    verify(archive, never()).getEgkByICCSN(anyString());
+    verify(archive, never()).getHbaByICCSN(anyString());
+    verify(archive, never()).getSmcbByICCSN(anyString());
+
+    konnektor.getSmartcardWrapperByCardHandle(hbaHandle).orElseThrow();
+    verify(archive, times(1)).getHbaByICCSN(anyString());
+    verify(archive, never()).getEgkByICCSN(anyString());
+    verify(archive, never()).getSmcbByICCSN(anyString());
+  }
+}
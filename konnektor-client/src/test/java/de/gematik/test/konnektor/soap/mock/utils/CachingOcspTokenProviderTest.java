@@ -0,0 +1,250 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock.utils;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.gematik.bbriccs.crypto.CryptoSystem;
+import de.gematik.bbriccs.smartcards.SmartcardArchive;
+import eu.europa.esig.dss.enumerations.CertificateStatus;
+import eu.europa.esig.dss.model.x509.CertificateToken;
+import eu.europa.esig.dss.spi.x509.revocation.ocsp.OCSPToken;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class CachingOcspTokenProviderTest {
+
+  private static final Instant START = Instant.parse("2025-01-01T12:00:00Z");
+
+  private static CertificateToken certificate(String id) {
+    val cert = mock(CertificateToken.class);
+    when(cert.getDSSIdAsString()).thenReturn(id);
+    return cert;
+  }
+
+  private static OCSPToken tokenWithNextUpdate(Instant nextUpdate) {
+    val token = mock(OCSPToken.class);
+    when(token.getNextUpdate()).thenReturn(nextUpdate == null ? null : Date.from(nextUpdate));
+    return token;
+  }
+
+  @Test
+  void shouldReuseTokenUntilNextUpdate() {
+    val clock = new MutableClock(START);
+    val requests = new AtomicInteger();
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              requests.incrementAndGet();
+              return tokenWithNextUpdate(clock.instant().plus(Duration.ofMinutes(10)));
+            },
+            Duration.ofHours(1),
+            clock);
+    val cert = certificate("cert-1");
+
+    val first = provider.getToken(cert);
+    clock.advance(Duration.ofMinutes(9));
+    assertSame(first, provider.getToken(cert));
+    assertEquals(1, requests.get());
+
+    clock.advance(Duration.ofMinutes(1));
+    assertNotEquals(first, provider.getToken(cert));
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldLimitCachingToMaxAge() {
+    val clock = new MutableClock(START);
+    val requests = new AtomicInteger();
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              requests.incrementAndGet();
+              return tokenWithNextUpdate(null);
+            },
+            Duration.ofMinutes(5),
+            clock);
+    val cert = certificate("cert-1");
+
+    provider.getToken(cert);
+    clock.advance(Duration.ofMinutes(5));
+    provider.getToken(cert);
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldCacheTokensPerCertificate() {
+    val requests = new AtomicInteger();
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              requests.incrementAndGet();
+              return tokenWithNextUpdate(Instant.now().plus(Duration.ofDays(1)));
+            },
+            Duration.ofHours(1));
+
+    val first = provider.getToken(certificate("cert-1"));
+    val second = provider.getToken(certificate("cert-2"));
+    assertNotEquals(first, second);
+    assertSame(first, provider.getToken(certificate("cert-1")));
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldNotCacheMissingTokens() {
+    val requests = new AtomicInteger();
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              requests.incrementAndGet();
+              return null;
+            },
+            Duration.ofHours(1));
+    val cert = certificate("cert-1");
+
+    assertNull(provider.getToken(cert));
+    assertNull(provider.getToken(cert));
+    assertEquals(2, requests.get());
+  }
+
+  @Test
+  void shouldRequestOnceForConcurrentRefreshes() throws InterruptedException {
+    val requested = new CountDownLatch(1);
+    val release = new CountDownLatch(1);
+    val requests = new AtomicInteger();
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              requests.incrementAndGet();
+              requested.countDown();
+              awaitQuietly(release);
+              return tokenWithNextUpdate(Instant.now().plus(Duration.ofDays(1)));
+            },
+            Duration.ofHours(1));
+    val cert = certificate("cert-1");
+
+    val first = CompletableFuture.supplyAsync(() -> provider.getToken(cert));
+    assertTrue(requested.await(10, TimeUnit.SECONDS));
+    val second = CompletableFuture.supplyAsync(() -> provider.getToken(cert));
+    release.countDown();
+
+    assertSame(first.join(), second.join());
+    assertEquals(1, requests.get());
+  }
+
+  @Test
+  void shouldNotBlockCachedTokensDuringRefresh() throws InterruptedException {
+    val requested = new CountDownLatch(1);
+    val release = new CountDownLatch(1);
+    val provider =
+        new CachingOcspTokenProvider(
+            cert -> {
+              if (cert.getDSSIdAsString().equals("slow")) {
+                requested.countDown();
+                awaitQuietly(release);
+              }
+              return tokenWithNextUpdate(Instant.now().plus(Duration.ofDays(1)));
+            },
+            Duration.ofHours(1));
+    val cached = provider.getToken(certificate("cert-1"));
+
+    val slow = CompletableFuture.supplyAsync(() -> provider.getToken(certificate("slow")));
+    assertTrue(requested.await(10, TimeUnit.SECONDS));
+    try {
+      assertTimeoutPreemptively(
+          Duration.ofSeconds(5),
+          () -> assertSame(cached, provider.getToken(certificate("cert-1"))));
+    } finally {
+      release.countDown();
+    }
+    assertNotNull(slow.join());
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      assertTrue(latch.await(10, TimeUnit.SECONDS));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException(e);
+    }
+  }
+
+  @Test
+  void shouldProvideSelfSignedTokensWithoutNetwork() {
+    val signingCert =
+        SmartcardArchive.fromResources()
+            .getHbaByICCSN("80276883110000095767")
+            .getQesCertificate(CryptoSystem.DEFAULT_CRYPTO_SYSTEM)
+            .getX509Certificate();
+    val certToken = new CertificateToken(signingCert);
+
+    val provider = OcspTokenProvider.selfSigned();
+    val token = provider.getToken(certToken);
+    assertNotNull(token);
+    assertEquals(CertificateStatus.GOOD, token.getStatus());
+    assertSame(token, provider.getToken(new CertificateToken(signingCert)));
+  }
+
+  private static class MutableClock extends Clock {
+    private Instant now;
+
+    private MutableClock(Instant start) {
+      this.now = start;
+    }
+
+    private void advance(Duration duration) {
+      this.now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
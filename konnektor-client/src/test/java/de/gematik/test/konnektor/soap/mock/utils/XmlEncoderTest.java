@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.konnektor.soap.mock.utils;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import de.gematik.test.konnektor.soap.mock.vsdm.VsdmExamEvidence;
+import de.gematik.test.konnektor.soap.mock.vsdm.VsdmExamEvidenceResult;
+import de.gematik.ws.fa.vsds.PN;
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.zip.GZIPInputStream;
+import lombok.SneakyThrows;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class XmlEncoderTest {
+
+  private static VsdmExamEvidence evidence() {
+    return VsdmExamEvidence.asOfflineMode().build(VsdmExamEvidenceResult.NO_UPDATES);
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldEncodeGzippedXmlAsBase64() {
+    val evidence = evidence();
+    val encoded = evidence.encode();
+
+    try (val in =
+        new GZIPInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(encoded)))) {
+      assertArrayEquals(evidence.asXml().getBytes(StandardCharsets.UTF_8), in.readAllBytes());
+    }
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldParseEncodedObject() {
+    val evidence = evidence();
+    val parsed = XmlEncoder.parse(PN.class, evidence.encode());
+    assertEquals(evidence.asXml(), XmlEncoder.asXml(parsed));
+  }
+
+  @Test
+  void shouldEncodeAndParseConcurrently() {
+    val expected = evidence().asXml();
+    val encoded = evidence().encode();
+    val executor = Executors.newFixedThreadPool(4);
+    try {
+      val futures =
+          IntStream.range(0, 64)
+              .mapToObj(
+                  i ->
+                      CompletableFuture.supplyAsync(
+                          () -> VsdmExamEvidence.parse(encoded).asXml(), executor))
+              .toList();
+      futures.forEach(f -> assertEquals(expected, f.join()));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
@@ -44,6 +44,7 @@ import de.gematik.test.konnektor.commands.GetCardHandleCommand;
 import de.gematik.test.konnektor.commands.ReadCardCertificateCommand;
 import de.gematik.test.konnektor.commands.ReadVsdCommand;
 import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentsCommand;
 import de.gematik.test.konnektor.commands.VerifyDocumentCommand;
 import de.gematik.test.konnektor.commands.VerifyPinCommand;
 import de.gematik.ws.conn.cardservicecommon.v2.PinResultEnum;
@@ -52,8 +53,10 @@ import java.nio.charset.StandardCharsets;
 import java.security.cert.X509Certificate;
 import java.util.Arrays;
 import java.util.Base64;
+import java.util.List;
 import java.util.Objects;
 import javax.annotation.Nullable;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.serenitybdd.core.Serenity;
@@ -64,10 +67,10 @@ public class UseTheKonnektor implements Ability {
 
   @Nullable private final SmcB smcb;
   @Nullable private final Hba hba;
-  private final Konnektor konnektor;
-  @Nullable private final CryptoSystem algorithm;
+  @Getter private final Konnektor konnektor;
+  @Getter private final CryptoSystem algorithm;
   @Nullable private CardInfo smcbHandle;
-  @Nullable private CardInfo hbaHandle;
+  @Getter @Nullable private CardInfo hbaHandle;
 
   private UseTheKonnektor(
       Konnektor konnektor,
@@ -130,6 +133,28 @@ public class UseTheKonnektor implements Ability {
     return signDocumentWithHba(document, false);
   }
 
+  /**
+   * Sign all given documents with the HBA within a single SignDocument call of the Konnektor
+   *
+   * @param documents to be signed
+   * @param isIncludeRevocationInfo to embed the OCSP responses into the signatures
+   * @return the signatures in the order of the given documents
+   */
+  public KonnektorResponse<List<byte[]>> signDocumentsWithHba(
+      List<String> documents, boolean isIncludeRevocationInfo) {
+    checkCardHandle(SmartcardType.HBA, hbaHandle, "Sign Documents");
+    val title =
+        format("Sign {0} Documents with {1} (Cardhandle: {2})", documents.size(), hba, hbaHandle);
+    Serenity.recordReportData().withTitle(title).andContents(String.join("\n", documents));
+    val signCmd =
+        new SignXMLDocumentsCommand(hbaHandle, documents, algorithm, isIncludeRevocationInfo);
+    return konnektor.execute(signCmd);
+  }
+
+  public KonnektorResponse<List<byte[]>> signDocumentsWithHba(List<String> documents) {
+    return signDocumentsWithHba(documents, false);
+  }
+
   public KonnektorResponse<byte[]> signDocumentWithSmcb(String document) {
     checkCardHandle(SmartcardType.SMC_B, smcbHandle, "Sign Document");
     return signDocument(smcb, smcbHandle, document, false);
@@ -26,7 +26,9 @@ import de.gematik.bbriccs.smartcards.SmartcardArchive;
 import de.gematik.test.erezept.PrimSysBddFactory;
 import de.gematik.test.erezept.apimeasure.DumpingStopwatch;
 import de.gematik.test.erezept.config.ConfigurationReader;
+import de.gematik.test.erezept.fhir.parser.ValidationResultCache;
 import de.gematik.test.erezept.screenplay.task.ConnectSubscriptionService;
+import de.gematik.test.konnektor.metrics.KonnektorLatencyRecorder;
 import io.cucumber.java.After;
 import io.cucumber.java.AfterAll;
 import io.cucumber.java.Before;
@@ -67,6 +69,8 @@ public class ActorsInitializationSteps {
   @AfterAll
   public static void teardownStopwatch() {
     stopwatch.close();
+    KonnektorLatencyRecorder.shared().dump("e2e_testsuite_konnektor");
+    ValidationResultCache.logStatistics();
   }
 
   /**
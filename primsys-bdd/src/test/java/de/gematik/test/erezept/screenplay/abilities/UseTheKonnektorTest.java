@@ -48,6 +48,7 @@ import de.gematik.test.konnektor.commands.VerifyPinCommand;
 import de.gematik.ws.conn.cardservicecommon.v2.PinResponseType;
 import de.gematik.ws.conn.cardservicecommon.v2.PinResultEnum;
 import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.serenitybdd.core.Serenity;
@@ -159,6 +160,24 @@ class UseTheKonnektorTest {
     }
   }
 
+  @Test
+  void shouldSignMultipleDocumentsWithHba() {
+    val smcb = sca.getSmcB(0);
+    val hba = sca.getHba(0);
+    val konnektor = KonnektorFactory.createSoftKon();
+    val ability = UseTheKonnektor.with(smcb).and(hba).on(konnektor);
+
+    try (MockedStatic<Serenity> serenityMockedStatic = mockStatic(Serenity.class)) {
+      val mockWithTitle = mock(WithTitle.class);
+      val mockAndContent = mock(AndContent.class);
+      serenityMockedStatic.when(Serenity::recordReportData).thenReturn(mockWithTitle);
+      when(mockWithTitle.withTitle(anyString())).thenReturn(mockAndContent);
+      val signed = ability.signDocumentsWithHba(List.of("Hello World", "Hello Moon")).getPayload();
+      assertEquals(2, signed.size());
+      signed.forEach(signature -> assertTrue(ability.verifyDocument(signature).getPayload()));
+    }
+  }
+
   @Test
   void shouldGetAuthCertificate() {
     val smcb = sca.getSmcB(0);
@@ -20,6 +20,7 @@
 
 package de.gematik.test.erezept.primsys.data.info;
 
+import java.util.List;
 import lombok.Data;
 
 @Data
@@ -29,4 +30,5 @@ public class InfoDto {
   private BuildInfoDto build;
   private FhirInfoDto fhir;
   private TelematikInfoDto ti;
+  private List<ContextDataStatisticsDto> contextData;
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.primsys;
+
+import static java.text.MessageFormat.format;
+
+import com.google.common.util.concurrent.MoreExecutors;
+import de.gematik.test.erezept.config.dto.primsys.ActorBootstrapConfiguration;
+import de.gematik.test.erezept.primsys.actors.BaseActor;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Creates the actors of PrimSys concurrently on a bounded pool. Unless configured as lazy, each
+ * actor is authenticated right away; otherwise the authentication is deferred until the actor is
+ * used for the first time
+ */
+@Slf4j
+class ActorBootstrap {
+
+  private final int threads;
+  private final boolean lazy;
+
+  ActorBootstrap(ActorBootstrapConfiguration config) {
+    this.threads = Math.max(1, config.getThreads());
+    this.lazy = config.isLazy();
+  }
+
+  /**
+   * @param type of the actors used for logging
+   * @param configs of the actors to be created
+   * @param constructor creating an actor from its configuration
+   * @return the created actors in the order of the given configurations
+   */
+  @SneakyThrows
+  <C, A extends BaseActor> List<A> create(
+      String type, List<C> configs, Function<C, A> constructor) {
+    if (configs == null || configs.isEmpty()) {
+      return List.of();
+    }
+
+    val start = System.nanoTime();
+    val poolSize = Math.min(threads, configs.size());
+    val executor =
+        poolSize > 1
+            ? Executors.newFixedThreadPool(poolSize)
+            : MoreExecutors.newDirectExecutorService();
+    try {
+      val futures = new ArrayList<Future<A>>(configs.size());
+      configs.forEach(cfg -> futures.add(executor.submit(bootstrap(type, cfg, constructor))));
+
+      val actors = new ArrayList<A>(configs.size());
+      for (val future : futures) {
+        try {
+          actors.add(future.get());
+        } catch (ExecutionException e) {
+          throw e.getCause();
+        }
+      }
+
+      log.info(
+          "Initialized {} {} actors in {}",
+          actors.size(),
+          type,
+          Duration.ofNanos(System.nanoTime() - start));
+      return List.copyOf(actors);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private <C, A extends BaseActor> Callable<A> bootstrap(
+      String type, C config, Function<C, A> constructor) {
+    return () -> {
+      val start = System.nanoTime();
+      val actor = constructor.apply(config);
+      if (!lazy) {
+        actor.initialize();
+      }
+      val duration = Duration.ofNanos(System.nanoTime() - start);
+      log.info(
+          "Initialized {} {} in {} ({})",
+          type,
+          actor.getName(),
+          duration,
+          describeTimings(actor));
+      return actor;
+    };
+  }
+
+  private static String describeTimings(BaseActor actor) {
+    return actor.getBootstrapTimings().entrySet().stream()
+        .map(e -> format("{0}: {1}", e.getKey(), e.getValue()))
+        .collect(Collectors.joining(", "));
+  }
+}
@@ -28,8 +28,10 @@ import de.gematik.test.erezept.config.dto.primsys.PrimsysConfigurationDto;
 import de.gematik.test.erezept.primsys.actors.Doctor;
 import de.gematik.test.erezept.primsys.actors.HealthInsurance;
 import de.gematik.test.erezept.primsys.actors.Pharmacy;
+import de.gematik.test.erezept.primsys.model.ContextData;
 import de.gematik.test.konnektor.Konnektor;
 import de.gematik.test.konnektor.cfg.KonnektorFactory;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 import javax.annotation.Nullable;
@@ -51,23 +53,39 @@ public class PrimSysRestFactory extends ConfiguredFactory {
 
   public List<Doctor> createDoctorActors() {
     val activeEnv = this.getActiveEnvironment();
-    return dto.getActors().getDoctors().stream()
-        .map(d -> new Doctor(d, activeEnv, instantiateKonnektor(d), sca))
-        .toList();
+    return this.getActorBootstrap()
+        .create(
+            "Doctor",
+            dto.getActors().getDoctors(),
+            d -> new Doctor(d, activeEnv, instantiateKonnektor(d), sca));
   }
 
   public List<Pharmacy> createPharmacyActors() {
     val activeEnv = this.getActiveEnvironment();
-    return dto.getActors().getPharmacies().stream()
-        .map(d -> new Pharmacy(d, activeEnv, instantiateKonnektor(d), sca))
-        .toList();
+    return this.getActorBootstrap()
+        .create(
+            "Pharmacy",
+            dto.getActors().getPharmacies(),
+            d -> new Pharmacy(d, activeEnv, instantiateKonnektor(d), sca));
   }
 
   public List<HealthInsurance> createHealthInsuranceActors() {
     val activeEnv = this.getActiveEnvironment();
-    return dto.getActors().getHealthInsurances().stream()
-        .map(d -> new HealthInsurance(d, activeEnv, instantiateKonnektor(d), sca))
-        .toList();
+    return this.getActorBootstrap()
+        .create(
+            "HealthInsurance",
+            dto.getActors().getHealthInsurances(),
+            d -> new HealthInsurance(d, activeEnv, instantiateKonnektor(d), sca));
+  }
+
+  private ActorBootstrap getActorBootstrap() {
+    return new ActorBootstrap(dto.getActorBootstrap());
+  }
+
+  public ContextData createContextData() {
+    val config = dto.getContextData();
+    val expireAfter = Duration.ofMinutes(config.getExpireAfterMinutes());
+    return new ContextData(config.getCapacity(), expireAfter);
   }
 
   private Konnektor instantiateKonnektor(PsActorConfiguration config) {
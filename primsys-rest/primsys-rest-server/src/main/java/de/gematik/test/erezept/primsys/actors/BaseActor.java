@@ -49,6 +49,11 @@ import java.security.MessageDigest;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.SneakyThrows;
 import lombok.val;
@@ -61,10 +66,19 @@ public abstract class BaseActor {
   private final ActorType type;
   private final String name;
   private final String identifier;
+  @Getter(AccessLevel.NONE)
   private final ErpClient client;
+
   private final SmcB smcb;
   private final ActorDto actorInfo;
 
+  @Getter(AccessLevel.NONE)
+  private final Map<String, Duration> bootstrapTimings =
+      Collections.synchronizedMap(new LinkedHashMap<>());
+
+  @Getter(AccessLevel.NONE)
+  private volatile boolean initialized;
+
   protected final Konnektor konnektor;
   protected final CardInfo smcbHandle;
 
@@ -105,14 +119,64 @@ public abstract class BaseActor {
     this.konnektor = konnektor;
 
     this.smcbHandle =
-        konnektor.execute(GetCardHandleCommand.forSmartcard(this.getSmcb())).getPayload();
+        this.timed(
+            "smcbHandle",
+            () ->
+                konnektor.execute(GetCardHandleCommand.forSmartcard(this.getSmcb())).getPayload());
 
-    this.client = ErpClientFactory.createErpClient(env, cfg);
-    this.client.authenticateWith(smcb);
+    this.client = this.timed("erpClient", () -> ErpClientFactory.createErpClient(env, cfg));
     this.algorithm = CryptoSystem.fromString(cfg.getAlgorithm());
     this.actorInfo = this.initActorSummary();
   }
 
+  /**
+   * Authenticate the ErpClient of this actor if not already done. An actor which is never
+   * initialized explicitly will be initialized on first use of its ErpClient
+   */
+  public void initialize() {
+    if (!initialized) {
+      synchronized (this) {
+        if (!initialized) {
+          this.timed(
+              "authentication",
+              () -> {
+                client.authenticateWith(smcb);
+                return client;
+              });
+          initialized = true;
+        }
+      }
+    }
+  }
+
+  public boolean isInitialized() {
+    return initialized;
+  }
+
+  public ErpClient getClient() {
+    this.initialize();
+    return client;
+  }
+
+  /**
+   * @return the durations of the single bootstrap phases of this actor in the order they were
+   *     performed
+   */
+  public Map<String, Duration> getBootstrapTimings() {
+    synchronized (bootstrapTimings) {
+      return new LinkedHashMap<>(bootstrapTimings);
+    }
+  }
+
+  protected final <T> T timed(String phase, Supplier<T> action) {
+    val start = System.nanoTime();
+    try {
+      return action.get();
+    } finally {
+      bootstrapTimings.put(phase, Duration.ofNanos(System.nanoTime() - start));
+    }
+  }
+
   @SneakyThrows
   private static String createIdentifier(String name) {
     val md = MessageDigest.getInstance("MD5"); // NOSONAR no cryptography involved here!
@@ -158,8 +222,19 @@ public abstract class BaseActor {
     return this.getClient().encode(resource, encoding);
   }
 
+  /**
+   * Summarize this actor. Lazy actors which are not initialized yet do not hold any IDP Token, thus
+   * the IDP validity is left empty instead of reporting a token which expired long ago
+   *
+   * @return the summary of this actor
+   */
   public ActorDto getActorSummary() {
-    val validUntil = this.getClient().getIdpTokenValidUntil();
+    if (!initialized) {
+      return actorInfo.setIdpValidUntil(null).setIdpTimeToLive(null);
+    }
+
+    // use the client directly to not trigger an initialization
+    val validUntil = this.client.getIdpTokenValidUntil();
     val ttl = Duration.between(Instant.now(), validUntil);
     return actorInfo.setIdpValidUntil(validUntil.toString()).setIdpTimeToLive(ttl.toString());
   }
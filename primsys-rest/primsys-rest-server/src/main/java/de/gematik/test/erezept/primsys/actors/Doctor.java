@@ -33,6 +33,8 @@ import de.gematik.test.erezept.primsys.data.actors.DoctorNumber;
 import de.gematik.test.konnektor.Konnektor;
 import de.gematik.test.konnektor.commands.GetCardHandleCommand;
 import de.gematik.test.konnektor.commands.SignXMLDocumentCommand;
+import de.gematik.test.konnektor.commands.SignXMLDocumentsCommand;
+import java.util.List;
 import lombok.Getter;
 import lombok.val;
 
@@ -49,7 +51,10 @@ public class Doctor extends BaseActor {
     super(cfg, env, konnektor, sca);
 
     this.hba = sca.getHbaByICCSN(cfg.getHbaIccsn());
-    this.hbaHandle = konnektor.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload();
+    this.hbaHandle =
+        this.timed(
+            "hbaHandle",
+            () -> konnektor.execute(GetCardHandleCommand.forSmartcard(hba)).getPayload());
   }
 
   public byte[] signDocument(String document) {
@@ -57,6 +62,17 @@ public class Doctor extends BaseActor {
     return konnektor.execute(signCmd).getPayload();
   }
 
+  /**
+   * Sign all given documents with the HBA of this doctor within a single SignDocument call
+   *
+   * @param documents to be signed
+   * @return the signatures in the order of the given documents
+   */
+  public List<byte[]> signDocuments(List<String> documents) {
+    val signCmd = new SignXMLDocumentsCommand(hbaHandle, documents, algorithm);
+    return konnektor.execute(signCmd).getPayload();
+  }
+
   public DoctorDto getDoctorInformation(KbvBaseBundle kbvBundle) {
     val org = kbvBundle.getMedicalOrganization();
     val doc = kbvBundle.getPractitioner();
@@ -22,6 +22,7 @@ package de.gematik.test.erezept.primsys.controller;
 
 import de.gematik.bbriccs.fhir.EncodingType;
 import de.gematik.test.erezept.fhir.anonymizer.AnonymizerFacade;
+import de.gematik.test.erezept.fhir.anonymizer.BatchAnonymizer;
 import de.gematik.test.erezept.primsys.model.ActorContext;
 import de.gematik.test.erezept.primsys.rest.response.ErrorResponseBuilder;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -31,7 +32,11 @@ import jakarta.ws.rs.Path;
 import jakarta.ws.rs.Produces;
 import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.core.Response;
+import jakarta.ws.rs.core.StreamingOutput;
+import java.io.InputStream;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.hl7.fhir.r4.model.Resource;
@@ -41,7 +46,17 @@ import org.hl7.fhir.r4.model.Resource;
 public class AnonymizerController {
 
   private static final ActorContext actors = ActorContext.getInstance();
-  private final AnonymizerFacade anonymizer = new AnonymizerFacade();
+  private static final String NDJSON = "application/x-ndjson";
+  private static final int BATCH_THREADS = Runtime.getRuntime().availableProcessors();
+  private static final AnonymizerFacade anonymizer = AnonymizerFacade.getInstance();
+  private static final ExecutorService batchExecutor =
+      Executors.newFixedThreadPool(
+          BATCH_THREADS,
+          runnable -> {
+            val thread = new Thread(runnable, "anonymizer-batch");
+            thread.setDaemon(true);
+            return thread;
+          });
 
   @POST
   @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
@@ -70,6 +85,37 @@ public class AnonymizerController {
     }
   }
 
+  @POST
+  @Path("batch")
+  @Produces(NDJSON)
+  @Consumes(NDJSON)
+  @ApiResponse(description = "Anonymizes the given Resources line by line")
+  public Response anonymizeNdjson(InputStream content) {
+    val batchAnonymizer = createBatchAnonymizer();
+    StreamingOutput output = os -> batchAnonymizer.anonymizeNdjson(content, os);
+    return Response.ok(output).build();
+  }
+
+  @POST
+  @Path("batch")
+  @Produces({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+  @Consumes({MediaType.APPLICATION_JSON, MediaType.APPLICATION_XML})
+  @ApiResponse(description = "Anonymizes the entries of the given collection Bundle")
+  public Response anonymizeBundle(String content) {
+    try {
+      return Response.ok(createBatchAnonymizer().anonymizeBundle(content)).build();
+    } catch (IllegalArgumentException e) {
+      return ErrorResponseBuilder.createInternalError(400, e.getMessage());
+    } catch (Throwable t) {
+      return ErrorResponseBuilder.createInternalError(t);
+    }
+  }
+
+  private BatchAnonymizer createBatchAnonymizer() {
+    val fhir = actors.getActors().get(0).getClient().getFhir();
+    return new BatchAnonymizer(fhir, anonymizer, batchExecutor, BATCH_THREADS * 4);
+  }
+
   private Optional<String> extractProfile(Resource resource) {
     val meta = resource.getMeta();
     val profiles = meta.getProfile();
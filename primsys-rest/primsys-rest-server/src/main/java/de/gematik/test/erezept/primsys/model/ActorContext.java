@@ -65,7 +65,7 @@ public class ActorContext {
     this.pharmacies = factory.createPharmacyActors();
     this.healthInsurances = factory.createHealthInsuranceActors();
 
-    contextData = new ContextData();
+    contextData = factory.createContextData();
   }
 
   public static void init(PrimSysRestFactory factory) {
@@ -144,13 +144,11 @@ public class ActorContext {
     return params
         .getKvnr()
         .map(contextData::getReadyPrescriptionsByKvnr)
-        .orElse(contextData.getReadyPrescriptions());
+        .orElseGet(contextData::getReadyPrescriptions);
   }
 
   public Optional<PrescriptionDto> getPrescription(String prescriptionId) {
-    return this.getPrescriptions().stream()
-        .filter(p -> p.getTaskId().equals(prescriptionId))
-        .findFirst();
+    return contextData.getReadyPrescription(prescriptionId);
   }
 
   public List<AcceptedPrescriptionDto> getAcceptedPrescriptions() {
@@ -161,13 +159,11 @@ public class ActorContext {
     return params
         .getKvnr()
         .map(contextData::getAcceptedPrescriptionsByKvnr)
-        .orElse(contextData.getAcceptedPrescriptions());
+        .orElseGet(contextData::getAcceptedPrescriptions);
   }
 
   public Optional<AcceptedPrescriptionDto> getAcceptedPrescription(String prescriptionId) {
-    return this.getAcceptedPrescriptions().stream()
-        .filter(p -> p.getPrescriptionId().equals(prescriptionId))
-        .findFirst();
+    return contextData.getAcceptedPrescription(prescriptionId);
   }
 
   public List<DispensedMedicationDto> getDispensedMedications() {
@@ -178,13 +174,11 @@ public class ActorContext {
     return params
         .getKvnr()
         .map(contextData::getDispensedPrescriptionsByKvnr)
-        .orElse(contextData.getDispensedMedications());
+        .orElseGet(contextData::getDispensedMedications);
   }
 
   public Optional<DispensedMedicationDto> getDispensedMedication(String prescriptionId) {
-    return this.getDispensedMedications().stream()
-        .filter(dd -> dd.getPrescriptionId().equals(prescriptionId))
-        .findFirst();
+    return contextData.getDispensedMedication(prescriptionId);
   }
 
   public void shutdown() {
@@ -150,9 +150,8 @@ public class ChargeItemUseCase {
   }
 
   private DispensedMedicationDto getDispensedData(String taskId) {
-    return ActorContext.getInstance().getDispensedMedications().stream()
-        .filter(dd -> dd.getPrescriptionId().equals(taskId))
-        .findFirst()
+    return ActorContext.getInstance()
+        .getDispensedMedication(taskId)
         .orElseThrow(
             () ->
                 ErrorResponseBuilder.createInternalErrorException(
@@ -23,64 +23,118 @@ package de.gematik.test.erezept.primsys.model;
 import de.gematik.test.erezept.primsys.data.AcceptedPrescriptionDto;
 import de.gematik.test.erezept.primsys.data.DispensedMedicationDto;
 import de.gematik.test.erezept.primsys.data.PrescriptionDto;
-import java.util.LinkedList;
+import de.gematik.test.erezept.primsys.data.info.ContextDataStatisticsDto;
+import java.time.Duration;
 import java.util.List;
-import lombok.Getter;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-@Getter
+/**
+ * Holds the prescriptions created, accepted and dispensed via PrimSys. The data is stored
+ * thread-safe, indexed by ID and KVNR and evicted when the capacity is exceeded or the entries
+ * expired
+ */
 public class ContextData {
 
-  public static final int FIRST_ENTRY = 0;
-  public static final int MAX_QUEUE_LENGTH = 100;
-  private final List<PrescriptionDto> readyPrescriptions;
-  private final List<AcceptedPrescriptionDto> acceptedPrescriptions;
-  private final List<DispensedMedicationDto> dispensedMedications;
+  public static final int DEFAULT_CAPACITY = 10000;
+  public static final Duration DEFAULT_EXPIRE_AFTER = Duration.ofDays(1);
+
+  private final ContextDataStore<PrescriptionDto> readyPrescriptions;
+  private final ContextDataStore<AcceptedPrescriptionDto> acceptedPrescriptions;
+  private final ContextDataStore<DispensedMedicationDto> dispensedMedications;
 
   public ContextData() {
-    this.readyPrescriptions = new LinkedList<>();
-    this.acceptedPrescriptions = new LinkedList<>();
-    this.dispensedMedications = new LinkedList<>();
+    this(DEFAULT_CAPACITY, DEFAULT_EXPIRE_AFTER);
+  }
+
+  public ContextData(int capacity, Duration expireAfter) {
+    this.readyPrescriptions =
+        new ContextDataStore<>(
+            "readyPrescriptions",
+            capacity,
+            expireAfter,
+            PrescriptionDto::getTaskId,
+            p -> p.getPatient() != null ? p.getPatient().getKvnr() : null);
+    this.acceptedPrescriptions =
+        new ContextDataStore<>(
+            "acceptedPrescriptions",
+            capacity,
+            expireAfter,
+            AcceptedPrescriptionDto::getPrescriptionId,
+            AcceptedPrescriptionDto::getForKvnr);
+    this.dispensedMedications =
+        new ContextDataStore<>(
+            "dispensedMedications",
+            capacity,
+            expireAfter,
+            ContextData::getDispensedPrescriptionId,
+            d -> d.getAcceptData() != null ? d.getAcceptData().getForKvnr() : null);
   }
 
   public void addPrescription(PrescriptionDto prescription) {
-    ensureMaxLength(readyPrescriptions);
     this.readyPrescriptions.add(prescription);
   }
 
   public void addAcceptedPrescription(AcceptedPrescriptionDto prescription) {
-    ensureMaxLength(acceptedPrescriptions);
     this.acceptedPrescriptions.add(prescription);
   }
 
   public void addDispensedMedications(DispensedMedicationDto dispensed) {
-    ensureMaxLength(dispensedMedications);
     this.dispensedMedications.add(dispensed);
   }
 
   public boolean removeAcceptedPrescription(String prescriptionId) {
-    return this.acceptedPrescriptions.removeIf(
-        prescription -> prescription.getPrescriptionId().equals(prescriptionId));
+    return this.acceptedPrescriptions.remove(prescriptionId);
+  }
+
+  public List<PrescriptionDto> getReadyPrescriptions() {
+    return readyPrescriptions.getAll();
+  }
+
+  public List<AcceptedPrescriptionDto> getAcceptedPrescriptions() {
+    return acceptedPrescriptions.getAll();
+  }
+
+  public List<DispensedMedicationDto> getDispensedMedications() {
+    return dispensedMedications.getAll();
+  }
+
+  public Optional<PrescriptionDto> getReadyPrescription(String taskId) {
+    return readyPrescriptions.get(taskId);
+  }
+
+  public Optional<AcceptedPrescriptionDto> getAcceptedPrescription(String prescriptionId) {
+    return acceptedPrescriptions.get(prescriptionId);
+  }
+
+  public Optional<DispensedMedicationDto> getDispensedMedication(String prescriptionId) {
+    return dispensedMedications.get(prescriptionId);
   }
 
   public List<PrescriptionDto> getReadyPrescriptionsByKvnr(String kvnr) {
-    return readyPrescriptions.stream().filter(p -> p.getPatient().getKvnr().equals(kvnr)).toList();
+    return readyPrescriptions.getByKvnr(kvnr);
   }
 
   public List<AcceptedPrescriptionDto> getAcceptedPrescriptionsByKvnr(String kvnr) {
-    return acceptedPrescriptions.stream().filter(p -> p.getForKvnr().equals(kvnr)).toList();
+    return acceptedPrescriptions.getByKvnr(kvnr);
   }
 
   public List<DispensedMedicationDto> getDispensedPrescriptionsByKvnr(String kvnr) {
-    return dispensedMedications.stream()
-        .filter(p -> p.getAcceptData().getForKvnr().equals(kvnr))
-        .toList();
+    return dispensedMedications.getByKvnr(kvnr);
   }
 
-  private void ensureMaxLength(List<?> list) {
-    if (maxLengthHasReached(list)) list.remove(FIRST_ENTRY);
+  public List<ContextDataStatisticsDto> getStatistics() {
+    return Stream.of(readyPrescriptions, acceptedPrescriptions, dispensedMedications)
+        .map(ContextDataStore::getStatistics)
+        .toList();
   }
 
-  private <T> boolean maxLengthHasReached(List<T> t) {
-    return t.size() >= MAX_QUEUE_LENGTH;
+  private static String getDispensedPrescriptionId(DispensedMedicationDto dispensed) {
+    return Optional.ofNullable(dispensed.getPrescriptionId())
+        .or(
+            () ->
+                Optional.ofNullable(dispensed.getAcceptData())
+                    .map(AcceptedPrescriptionDto::getPrescriptionId))
+        .orElse(null);
   }
 }
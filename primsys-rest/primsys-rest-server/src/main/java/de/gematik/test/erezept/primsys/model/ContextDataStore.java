@@ -0,0 +1,165 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.primsys.model;
+
+import static java.text.MessageFormat.format;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalCause;
+import com.google.common.cache.RemovalNotification;
+import de.gematik.test.erezept.primsys.data.info.ContextDataStatisticsDto;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+/**
+ * Thread-safe store for the data of a single kind within the {@link ContextData}. Entries are
+ * indexed by their ID and by the KVNR of the patient and are evicted when the capacity is exceeded
+ * or after they expired
+ *
+ * @param <T> is the type of the stored data
+ */
+@Slf4j
+public class ContextDataStore<T> {
+
+  @Getter private final String name;
+  @Getter private final int capacity;
+  private final Function<T, String> idExtractor;
+  private final Function<T, String> kvnrExtractor;
+  private final Cache<String, Entry<T>> entries;
+  private final Map<String, Set<String>> idsByKvnr = new ConcurrentHashMap<>();
+  private final AtomicLong sequence = new AtomicLong();
+
+  public ContextDataStore(
+      String name,
+      int capacity,
+      Duration expireAfter,
+      Function<T, String> idExtractor,
+      Function<T, String> kvnrExtractor) {
+    this.name = name;
+    this.capacity = capacity;
+    this.idExtractor = idExtractor;
+    this.kvnrExtractor = kvnrExtractor;
+    this.entries =
+        CacheBuilder.newBuilder()
+            // a single segment keeps the capacity exact instead of evicting per segment
+            .concurrencyLevel(1)
+            .maximumSize(capacity)
+            .expireAfterWrite(expireAfter)
+            .recordStats()
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  public void add(T value) {
+    val id = idExtractor.apply(value);
+    if (id == null) {
+      throw new IllegalArgumentException(format("Cannot store an entry without ID in {0}", name));
+    }
+    entries.put(id, new Entry<>(sequence.incrementAndGet(), value));
+    Optional.ofNullable(kvnrExtractor.apply(value))
+        .ifPresent(
+            kvnr -> idsByKvnr.computeIfAbsent(kvnr, k -> ConcurrentHashMap.newKeySet()).add(id));
+  }
+
+  public Optional<T> get(String id) {
+    return Optional.ofNullable(entries.getIfPresent(id)).map(Entry::value);
+  }
+
+  public boolean remove(String id) {
+    return entries.asMap().remove(id) != null;
+  }
+
+  /**
+   * @return all stored values in the order they were added
+   */
+  public List<T> getAll() {
+    return sorted(entries.asMap().values().stream().toList());
+  }
+
+  public List<T> getByKvnr(String kvnr) {
+    val ids = idsByKvnr.getOrDefault(kvnr, Set.of());
+    val found =
+        ids.stream()
+            .map(entries::getIfPresent)
+            .filter(entry -> entry != null && kvnr.equals(kvnrExtractor.apply(entry.value())))
+            .toList();
+    return sorted(found);
+  }
+
+  public long size() {
+    return entries.size();
+  }
+
+  public ContextDataStatisticsDto getStatistics() {
+    entries.cleanUp();
+    val stats = entries.stats();
+    val dto = new ContextDataStatisticsDto();
+    dto.setName(name);
+    dto.setSize(entries.size());
+    dto.setCapacity(capacity);
+    dto.setHits(stats.hitCount());
+    dto.setMisses(stats.missCount());
+    dto.setEvictions(stats.evictionCount());
+    return dto;
+  }
+
+  private void onRemoval(RemovalNotification<String, Entry<T>> notification) {
+    val id = notification.getKey();
+    val entry = notification.getValue();
+    if (id == null || entry == null || notification.getCause() == RemovalCause.REPLACED) {
+      // a replaced entry is re-indexed by add(); stale IDs of the KVNR index are filtered on lookup
+      return;
+    }
+
+    if (notification.wasEvicted()) {
+      log.debug("Evicted {} with ID {} from {}", notification.getCause(), id, name);
+    }
+    Optional.ofNullable(kvnrExtractor.apply(entry.value()))
+        .ifPresent(
+            kvnr ->
+                idsByKvnr.computeIfPresent(
+                    kvnr,
+                    (k, ids) -> {
+                      ids.remove(id);
+                      return ids.isEmpty() ? null : ids;
+                    }));
+  }
+
+  private static <T> List<T> sorted(List<Entry<T>> found) {
+    return found.stream()
+        .sorted(Comparator.comparingLong(Entry::sequence))
+        .map(Entry::value)
+        .toList();
+  }
+
+  private record Entry<T>(long sequence, T value) {}
+}
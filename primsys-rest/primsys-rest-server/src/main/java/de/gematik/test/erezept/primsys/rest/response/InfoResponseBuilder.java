@@ -55,6 +55,7 @@ public class InfoResponseBuilder {
     ti.setDiscoveryDocument(ctx.getEnvironment().getTi().getDiscoveryDocumentUrl());
     ti.setTsl(ctx.getEnvironment().getTi().getTslBaseUrl());
     info.setTi(ti);
+    info.setContextData(ctx.getContextData().getStatistics());
 
     return info;
   }
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2025 gematik GmbH
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * *******
+ *
+ * For additional notes and disclaimer from gematik and in case of changes by gematik find details in the "Readme" file.
+ */
+
+package de.gematik.test.erezept.primsys;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.gematik.test.erezept.config.dto.primsys.ActorBootstrapConfiguration;
+import de.gematik.test.erezept.primsys.actors.BaseActor;
+import java.util.List;
+import java.util.stream.IntStream;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+class ActorBootstrapTest {
+
+  private static ActorBootstrap bootstrap(int threads, boolean lazy) {
+    val config = new ActorBootstrapConfiguration();
+    config.setThreads(threads);
+    config.setLazy(lazy);
+    return new ActorBootstrap(config);
+  }
+
+  private static BaseActor mockActor(String name) {
+    val actor = mock(BaseActor.class);
+    when(actor.getName()).thenReturn(name);
+    return actor;
+  }
+
+  @Test
+  void shouldPreserveOrderOfConfigurations() {
+    val names = IntStream.range(0, 20).mapToObj(i -> "Actor " + i).toList();
+    val actors = bootstrap(4, false).create("Test", names, ActorBootstrapTest::mockActor);
+
+    assertEquals(names, actors.stream().map(BaseActor::getName).toList());
+    actors.forEach(actor -> verify(actor).initialize());
+  }
+
+  @Test
+  void shouldNotInitializeLazyActors() {
+    val actors =
+        bootstrap(2, true).create("Test", List.of("A", "B"), ActorBootstrapTest::mockActor);
+
+    assertEquals(2, actors.size());
+    actors.forEach(actor -> verify(actor, never()).initialize());
+  }
+
+  @Test
+  void shouldReturnEmptyListWithoutConfigurations() {
+    val bootstrap = bootstrap(4, false);
+    assertTrue(bootstrap.create("Test", List.of(), ActorBootstrapTest::mockActor).isEmpty());
+    assertTrue(bootstrap.create("Test", null, ActorBootstrapTest::mockActor).isEmpty());
+  }
+
+  @Test
+  void shouldRethrowCauseOfFailedBootstrap() {
+    val bootstrap = bootstrap(4, false);
+    val configs = List.of("A", "B", "C");
+    assertThrows(
+        IllegalStateException.class,
+        () ->
+            bootstrap.create(
+                "Test",
+                configs,
+                name -> {
+                  if (name.equals("B")) {
+                    throw new IllegalStateException("smartcard not found");
+                  }
+                  return mockActor(name);
+                }));
+  }
+}
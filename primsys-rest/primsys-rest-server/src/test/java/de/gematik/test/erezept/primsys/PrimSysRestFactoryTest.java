@@ -43,6 +43,8 @@ class PrimSysRestFactoryTest extends TestWithActorContext {
 
   @Test
   void shouldCreateDoctors() {
+    // mocked statics are bound to the calling thread, thus bootstrap the actors sequentially
+    configDto.getActorBootstrap().setThreads(1);
     val factory = PrimSysRestFactory.fromDto(configDto, sca);
 
     try (val erpClientFactoryMockedStatic = mockStatic(ErpClientFactory.class)) {
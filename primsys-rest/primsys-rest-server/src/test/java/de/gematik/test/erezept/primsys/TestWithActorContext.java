@@ -43,6 +43,7 @@ import de.gematik.test.erezept.primsys.actors.Doctor;
 import de.gematik.test.erezept.primsys.actors.HealthInsurance;
 import de.gematik.test.erezept.primsys.actors.Pharmacy;
 import de.gematik.test.erezept.primsys.model.ActorContext;
+import de.gematik.test.erezept.primsys.model.ContextData;
 import de.gematik.test.konnektor.Konnektor;
 import de.gematik.test.konnektor.cfg.KonnektorFactory;
 import java.time.Instant;
@@ -81,6 +82,7 @@ public abstract class TestWithActorContext extends ErpFhirParsingTest {
       when(mockFactory.createDoctorActors()).thenReturn(mockedDoctors);
       when(mockFactory.createPharmacyActors()).thenReturn(mockedPharmacies);
       when(mockFactory.createHealthInsuranceActors()).thenReturn(mockKtrs);
+      when(mockFactory.createContextData()).thenReturn(new ContextData());
 
       ActorContext.init(mockFactory);
     }
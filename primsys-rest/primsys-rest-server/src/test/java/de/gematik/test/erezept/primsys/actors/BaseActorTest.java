@@ -22,21 +22,36 @@ package de.gematik.test.erezept.primsys.actors;
 
 import static de.gematik.bbriccs.fhir.codec.utils.FhirTestResourceUtil.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.mockStatic;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.gematik.bbriccs.fhir.EncodingType;
+import de.gematik.bbriccs.smartcards.Smartcard;
+import de.gematik.test.erezept.client.ErpClient;
+import de.gematik.test.erezept.client.cfg.ErpClientFactory;
 import de.gematik.test.erezept.client.rest.ErpResponse;
 import de.gematik.test.erezept.client.usecases.TaskCreateCommand;
 import de.gematik.test.erezept.config.dto.actor.PharmacyConfiguration;
+import de.gematik.test.erezept.config.dto.actor.PsActorConfiguration;
 import de.gematik.test.erezept.fhir.r4.erp.ErxTask;
 import de.gematik.test.erezept.primsys.TestWithActorContext;
 import de.gematik.test.erezept.primsys.model.ActorContext;
 import jakarta.ws.rs.WebApplicationException;
 import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
 import java.util.Map;
 import lombok.val;
 import org.hl7.fhir.r4.model.Bundle;
@@ -87,6 +102,54 @@ class BaseActorTest extends TestWithActorContext {
     }
   }
 
+  @Test
+  void shouldAuthenticateOnFirstUse() {
+    val erpClient = mock(ErpClient.class);
+    val cfg = configDto.getActors().getPharmacies().get(0);
+
+    try (val erpClientFactory = mockStatic(ErpClientFactory.class)) {
+      erpClientFactory
+          .when(() -> ErpClientFactory.createErpClient(any(), any(PsActorConfiguration.class)))
+          .thenReturn(erpClient);
+
+      val pharmacy = new Pharmacy(cfg, env, softKonn, sca);
+      assertFalse(pharmacy.isInitialized());
+      verify(erpClient, never()).authenticateWith(any(Smartcard.class));
+
+      assertEquals(erpClient, pharmacy.getClient());
+      pharmacy.getClient();
+      assertTrue(pharmacy.isInitialized());
+      verify(erpClient, times(1)).authenticateWith(any(Smartcard.class));
+      assertEquals(
+          List.of("smcbHandle", "erpClient", "authentication"),
+          List.copyOf(pharmacy.getBootstrapTimings().keySet()));
+    }
+  }
+
+  @Test
+  void shouldNotReportIdpValidityOfUninitializedActor() {
+    val erpClient = mock(ErpClient.class);
+    when(erpClient.getIdpTokenValidUntil()).thenReturn(Instant.now().plus(5, ChronoUnit.MINUTES));
+    val cfg = configDto.getActors().getPharmacies().get(0);
+
+    try (val erpClientFactory = mockStatic(ErpClientFactory.class)) {
+      erpClientFactory
+          .when(() -> ErpClientFactory.createErpClient(any(), any(PsActorConfiguration.class)))
+          .thenReturn(erpClient);
+
+      val pharmacy = new Pharmacy(cfg, env, softKonn, sca);
+      val lazySummary = pharmacy.getActorSummary();
+      assertFalse(pharmacy.isInitialized());
+      assertNull(lazySummary.getIdpValidUntil());
+      assertNull(lazySummary.getIdpTimeToLive());
+
+      pharmacy.initialize();
+      val summary = pharmacy.getActorSummary();
+      assertNotNull(summary.getIdpValidUntil());
+      assertFalse(summary.getIdpTimeToLive().startsWith("PT-"));
+    }
+  }
+
   @Test
   void shouldForwardToEncode() {
     val ctx = ActorContext.getInstance();
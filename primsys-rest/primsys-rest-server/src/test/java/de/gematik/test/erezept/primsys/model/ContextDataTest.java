@@ -22,6 +22,7 @@ package de.gematik.test.erezept.primsys.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import de.gematik.test.erezept.fhir.builder.GemFaker;
@@ -29,58 +30,44 @@ import de.gematik.test.erezept.primsys.data.AcceptedPrescriptionDto;
 import de.gematik.test.erezept.primsys.data.DispensedMedicationDto;
 import de.gematik.test.erezept.primsys.data.PatientDto;
 import de.gematik.test.erezept.primsys.data.PrescriptionDto;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.SneakyThrows;
 import lombok.val;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 class ContextDataTest {
 
+  private static final int CAPACITY = 100;
+  private static final String KVNR = "X110407071";
+
   static PrescriptionDto prescriptionData;
   static PrescriptionDto prescriptionData2;
   static AcceptedPrescriptionDto acceptData;
   static AcceptedPrescriptionDto acceptData2;
   static DispensedMedicationDto dispensedData;
   static DispensedMedicationDto dispensedData2;
-  static ContextData contextData;
+  private ContextData contextData;
 
   @BeforeAll
   static void setup() {
     val oneToZero = "1234567890";
 
-    contextData = new ContextData();
-
-    prescriptionData =
-        PrescriptionDto.builder()
-            .prescriptionId(oneToZero)
-            .accessCode(oneToZero)
-            .taskId(oneToZero)
-            .patient(PatientDto.withKvnr("X110407071").build())
-            .build();
-
-    prescriptionData2 =
-        PrescriptionDto.builder()
-            .prescriptionId(oneToZero)
-            .accessCode(oneToZero)
-            .taskId("testID")
-            .patient(PatientDto.withKvnr("X110407071").build())
-            .build();
-
-    acceptData = new AcceptedPrescriptionDto();
-    acceptData.setForKvnr("X110407071");
-    acceptData.setPrescriptionId(oneToZero);
-    acceptData.setSecret(oneToZero);
-
-    acceptData2 = new AcceptedPrescriptionDto();
-    acceptData2.setForKvnr("X110407071");
-    acceptData2.setPrescriptionId("testID");
-    acceptData2.setSecret("testID");
+    prescriptionData = prescription(oneToZero);
+    prescriptionData2 = prescription("testID");
+    acceptData = accepted(oneToZero);
+    acceptData2 = accepted("testID");
+    dispensedData = dispensed(acceptData);
+    dispensedData2 = dispensed(acceptData2);
+  }
 
-    dispensedData = new DispensedMedicationDto();
-    dispensedData.setAcceptData(acceptData);
-    dispensedData.setDispensedDate(GemFaker.fakerBirthday());
-    dispensedData2 = new DispensedMedicationDto();
-    dispensedData2.setAcceptData(acceptData2);
-    dispensedData2.setDispensedDate(GemFaker.fakerBirthday());
+  @BeforeEach
+  void setUp() {
+    contextData = new ContextData(CAPACITY, Duration.ofHours(1));
   }
 
   @Test
@@ -89,24 +76,39 @@ class ContextDataTest {
     assertTrue(contextData.getReadyPrescriptions().contains(prescriptionData));
   }
 
+  @Test
+  void shouldGetPrescriptionByTaskId() {
+    contextData.addPrescription(prescriptionData);
+    contextData.addPrescription(prescriptionData2);
+    assertEquals(prescriptionData2, contextData.getReadyPrescription("testID").orElseThrow());
+    assertTrue(contextData.getReadyPrescription("unknown").isEmpty());
+  }
+
   @Test
   void addMaxPrescription() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addPrescription(prescriptionData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addPrescription(prescription(String.valueOf(i)));
     }
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getReadyPrescriptions().size());
+    assertEquals(CAPACITY, contextData.getReadyPrescriptions().size());
   }
 
   @Test
   void addMoreThaMaxPrescriptions() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addPrescription(prescriptionData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addPrescription(prescription(String.valueOf(i)));
     }
     contextData.addPrescription(prescriptionData2);
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getReadyPrescriptions().size());
+    assertEquals(CAPACITY, contextData.getReadyPrescriptions().size());
     assertTrue(contextData.getReadyPrescriptions().contains(prescriptionData2));
   }
 
+  @Test
+  void shouldKeepInsertionOrder() {
+    IntStream.range(0, 10).forEach(i -> contextData.addPrescription(prescription("id" + i)));
+    val taskIds = contextData.getReadyPrescriptions().stream().map(PrescriptionDto::getTaskId);
+    assertEquals(IntStream.range(0, 10).mapToObj(i -> "id" + i).toList(), taskIds.toList());
+  }
+
   @Test
   void addAcceptedPrescription() {
     contextData.addAcceptedPrescription(acceptData);
@@ -118,6 +120,7 @@ class ContextDataTest {
     contextData.addPrescription(prescriptionData);
     val ready = contextData.getReadyPrescriptionsByKvnr(prescriptionData.getPatient().getKvnr());
     assertFalse(ready.isEmpty());
+    assertTrue(contextData.getReadyPrescriptionsByKvnr("X000000000").isEmpty());
   }
 
   @Test
@@ -129,19 +132,19 @@ class ContextDataTest {
 
   @Test
   void addMaxAcceptedPrescription() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addAcceptedPrescription(acceptData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addAcceptedPrescription(accepted(String.valueOf(i)));
     }
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getAcceptedPrescriptions().size());
+    assertEquals(CAPACITY, contextData.getAcceptedPrescriptions().size());
   }
 
   @Test
   void addMoreThaMaxAcceptedPrescription() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addAcceptedPrescription(acceptData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addAcceptedPrescription(accepted(String.valueOf(i)));
     }
     contextData.addAcceptedPrescription(acceptData2);
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getAcceptedPrescriptions().size());
+    assertEquals(CAPACITY, contextData.getAcceptedPrescriptions().size());
     assertTrue(contextData.getAcceptedPrescriptions().contains(acceptData2));
   }
 
@@ -161,42 +164,51 @@ class ContextDataTest {
 
   @Test
   void addMaxDispensedMedications() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addDispensedMedications(dispensedData);
+    for (int i = 0; i < CAPACITY - 1; i++) {
+      contextData.addDispensedMedications(dispensed(accepted(String.valueOf(i))));
     }
+    contextData.addDispensedMedications(dispensedData);
     assertTrue(contextData.getDispensedMedications().contains(dispensedData));
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getDispensedMedications().size());
+    assertEquals(CAPACITY, contextData.getDispensedMedications().size());
   }
 
   @Test
   void addMoreThenMaxDispensedMedications() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addDispensedMedications(dispensedData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addDispensedMedications(dispensed(accepted(String.valueOf(i))));
     }
     contextData.addDispensedMedications(dispensedData2);
     assertTrue(contextData.getDispensedMedications().contains(dispensedData2));
-    assertEquals(ContextData.MAX_QUEUE_LENGTH, contextData.getDispensedMedications().size());
+    assertEquals(CAPACITY, contextData.getDispensedMedications().size());
+  }
+
+  @Test
+  void shouldRejectDispensedMedicationWithoutPrescriptionId() {
+    val dispensed = new DispensedMedicationDto();
+    assertThrows(
+        IllegalArgumentException.class, () -> contextData.addDispensedMedications(dispensed));
   }
 
   @Test
   void removeAcceptedPrescription() {
     contextData.addAcceptedPrescription(acceptData);
     assertTrue(contextData.removeAcceptedPrescription(acceptData.getPrescriptionId()));
+    assertTrue(contextData.getAcceptedPrescriptionsByKvnr(acceptData.getForKvnr()).isEmpty());
   }
 
   @Test
   void shouldNotRemoveAcceptedPrescription() {
     contextData.addAcceptedPrescription(acceptData2);
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addAcceptedPrescription(acceptData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addAcceptedPrescription(accepted(String.valueOf(i)));
     }
     assertFalse(contextData.removeAcceptedPrescription(acceptData2.getPrescriptionId()));
   }
 
   @Test
   void removeLastAcceptedPrescription() {
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addAcceptedPrescription(acceptData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addAcceptedPrescription(accepted(String.valueOf(i)));
     }
     contextData.addAcceptedPrescription(acceptData2);
     assertTrue(contextData.removeAcceptedPrescription(acceptData2.getPrescriptionId()));
@@ -205,9 +217,96 @@ class ContextDataTest {
   @Test
   void shouldNotRemoveFirstAcceptedPrescription() {
     contextData.addAcceptedPrescription(acceptData2);
-    for (int i = 0; i < ContextData.MAX_QUEUE_LENGTH; i++) {
-      contextData.addAcceptedPrescription(acceptData);
+    for (int i = 0; i < CAPACITY; i++) {
+      contextData.addAcceptedPrescription(accepted(String.valueOf(i)));
     }
     assertFalse(contextData.removeAcceptedPrescription(acceptData2.getPrescriptionId()));
   }
+
+  @Test
+  @SneakyThrows
+  void shouldExpireEntries() {
+    val shortLived = new ContextData(CAPACITY, Duration.ofMillis(50));
+    shortLived.addPrescription(prescriptionData);
+    TimeUnit.MILLISECONDS.sleep(100);
+    assertTrue(shortLived.getReadyPrescription(prescriptionData.getTaskId()).isEmpty());
+    assertTrue(shortLived.getReadyPrescriptionsByKvnr(KVNR).isEmpty());
+  }
+
+  @Test
+  void shouldRecordStatistics() {
+    for (int i = 0; i < CAPACITY + 5; i++) {
+      contextData.addPrescription(prescription(String.valueOf(i)));
+    }
+    contextData.getReadyPrescription(String.valueOf(CAPACITY));
+    contextData.getReadyPrescription("0");
+
+    val stats =
+        contextData.getStatistics().stream()
+            .filter(s -> s.getName().equals("readyPrescriptions"))
+            .findFirst()
+            .orElseThrow();
+    assertEquals(CAPACITY, stats.getSize());
+    assertEquals(CAPACITY, stats.getCapacity());
+    assertEquals(1, stats.getHits());
+    assertEquals(1, stats.getMisses());
+    assertEquals(5, stats.getEvictions());
+  }
+
+  @Test
+  @SneakyThrows
+  void shouldAddConcurrently() {
+    val threads = 8;
+    val perThread = 50;
+    val executor = Executors.newFixedThreadPool(threads);
+    try {
+      val futures =
+          IntStream.range(0, threads)
+              .mapToObj(
+                  t ->
+                      executor.submit(
+                          () ->
+                              IntStream.range(0, perThread)
+                                  .forEach(
+                                      i -> {
+                                        val id = t + "-" + i;
+                                        contextData.addAcceptedPrescription(accepted(id));
+                                        contextData.getAcceptedPrescription(id);
+                                        contextData.getAcceptedPrescriptionsByKvnr(KVNR);
+                                      })))
+              .toList();
+      for (val future : futures) {
+        future.get(1, TimeUnit.MINUTES);
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertEquals(CAPACITY, contextData.getAcceptedPrescriptions().size());
+    assertEquals(CAPACITY, contextData.getAcceptedPrescriptionsByKvnr(KVNR).size());
+  }
+
+  private static PrescriptionDto prescription(String taskId) {
+    return PrescriptionDto.builder()
+        .prescriptionId(taskId)
+        .accessCode(taskId)
+        .taskId(taskId)
+        .patient(PatientDto.withKvnr(KVNR).build())
+        .build();
+  }
+
+  private static AcceptedPrescriptionDto accepted(String prescriptionId) {
+    val accepted = new AcceptedPrescriptionDto();
+    accepted.setForKvnr(KVNR);
+    accepted.setPrescriptionId(prescriptionId);
+    accepted.setSecret(prescriptionId);
+    return accepted;
+  }
+
+  private static DispensedMedicationDto dispensed(AcceptedPrescriptionDto accepted) {
+    val dispensed = new DispensedMedicationDto();
+    dispensed.setAcceptData(accepted);
+    dispensed.setDispensedDate(GemFaker.fakerBirthday());
+    return dispensed;
+  }
 }
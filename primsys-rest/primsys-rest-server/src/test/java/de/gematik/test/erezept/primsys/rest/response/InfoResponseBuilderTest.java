@@ -20,6 +20,7 @@
 
 package de.gematik.test.erezept.primsys.rest.response;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -44,4 +45,11 @@ class InfoResponseBuilderTest extends TestWithActorContext {
     assertNotNull(info.getFhir());
     assertNotNull(info.getFhir());
   }
+
+  @Test
+  void shouldProvideContextDataStatistics() {
+    val ctx = ActorContext.getInstance();
+    val info = InfoResponseBuilder.getInfo(ctx);
+    assertEquals(3, info.getContextData().size());
+  }
 }